@@ -0,0 +1,102 @@
+package com.polytech.contentservice.benchmark;
+
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.EpisodeStatus;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.dto.castmember.CastMemberDto;
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.entity.CastMember;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.Episode;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Тестовые данные, похожие на карточки реального каталога.
+ */
+final class BenchmarkData {
+  private BenchmarkData() {
+  }
+
+  static Content content(int castSize) {
+    Content content = Content.builder()
+        .id(UUID.randomUUID())
+        .title("Баки Ханма")
+        .year(2021)
+        .quality(Quality.P1080)
+        .genre(Genre.ACTION_FILM)
+        .category(Category.ANIMATED_SERIES)
+        .ageRestriction(AgeRestriction.EIGHTEEN_PLUS)
+        .description("Баки Ханма интенсивно тренируется, чтобы превзойти отца, "
+            + "который считается сильнейшим бойцом в мире.")
+        .thumbnail("https://www.kinopoisk.ru/film/1125417/posters/")
+        .publisher("Netflix")
+        .creationDate(LocalDateTime.now())
+        .updatedDate(LocalDateTime.now())
+        .build();
+    content.setCastMembers(castMembers(content, castSize));
+    return content;
+  }
+
+  static Set<CastMember> castMembers(Content content, int castSize) {
+    Set<CastMember> castMembers = new HashSet<>();
+    for (int i = 0; i < castSize; i++) {
+      castMembers.add(CastMember.builder()
+          .id(UUID.randomUUID())
+          .content(content)
+          .role("Актёр")
+          .fullName("Актёр номер " + i)
+          .creationDate(LocalDateTime.now())
+          .updateDate(LocalDateTime.now())
+          .build());
+    }
+    return castMembers;
+  }
+
+  static Set<CastMember> renamed(Set<CastMember> castMembers) {
+    Set<CastMember> renamed = new HashSet<>();
+    castMembers.forEach(castMember -> renamed.add(CastMember.builder()
+        .id(castMember.getId())
+        .fullName(castMember.getFullName() + " мл.")
+        .build()));
+    return renamed;
+  }
+
+  static ContentDto contentPatch(Content content) {
+    Set<CastMemberDto> castMembers = new HashSet<>();
+    content.getCastMembers().forEach(castMember -> castMembers.add(CastMemberDto.builder()
+        .id(castMember.getId())
+        .employeeFullName(castMember.getFullName() + " мл.")
+        .build()));
+    return ContentDto.builder()
+        .title("Баки Ханма: Сын Огра")
+        .thumbnail("https://www.kinopoisk.ru/film/1125417/posters/new")
+        .castMembers(castMembers)
+        .build();
+  }
+
+  static Episode episode(Content content) {
+    return Episode.builder()
+        .id(UUID.randomUUID())
+        .title("Серия 1")
+        .storyline("Побег пятерых заключённых-смертников")
+        .status(EpisodeStatus.UPLOADED)
+        .s3BucketName("movify/episodes/1")
+        .episodeNumber(1)
+        .seasonNumber(1)
+        .content(content)
+        .build();
+  }
+
+  static EpisodeDto episodePatch() {
+    return EpisodeDto.builder()
+        .s3BucketName("movify/episodes/1/v2")
+        .status(EpisodeStatus.UPLOADED)
+        .build();
+  }
+}
@@ -0,0 +1,41 @@
+package com.polytech.contentservice.benchmark;
+
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.common.converter.AgeRestrictionConverter;
+import com.polytech.contentservice.common.converter.QualityConverter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Конвертеры, через которые Hibernate читает каждую строку таблицы content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+  @Param({"6+", "18+"})
+  private String ageRestrictionCode;
+
+  @Param({"144P", "2160P"})
+  private String qualityCode;
+
+  private final AgeRestrictionConverter ageRestrictionConverter = new AgeRestrictionConverter();
+  private final QualityConverter qualityConverter = new QualityConverter();
+
+  @Benchmark
+  public AgeRestriction ageRestrictionToEntityAttribute() {
+    return ageRestrictionConverter.convertToEntityAttribute(ageRestrictionCode);
+  }
+
+  @Benchmark
+  public Quality qualityToEntityAttribute() {
+    return qualityConverter.convertToEntityAttribute(qualityCode);
+  }
+}
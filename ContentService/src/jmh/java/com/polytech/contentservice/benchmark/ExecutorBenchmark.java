@@ -0,0 +1,99 @@
+package com.polytech.contentservice.benchmark;
+
+import com.polytech.contentservice.concurrency.ConcurrencyLimiter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Пропускная способность блокирующих обработчиков на пуле платформенных потоков Tomcat
+ * и на виртуальных потоках с ограничением по размеру пула соединений.
+ * Обработчик ждёт ответа сервиса авторизации, а затем держит соединение из пула БД,
+ * ограничение действует на весь запрос, как в {@code ConcurrencyLimitFilter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExecutorBenchmark {
+  private static final int TOMCAT_MAX_THREADS = 200;
+  private static final int CONNECTION_POOL_SIZE = 10;
+  private static final int CONCURRENCY_PER_CONNECTION = 50;
+  private static final int REQUESTS_PER_INVOCATION = 1_000;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  private String executorType;
+
+  @Param({"50"})
+  private long authRoundTripMillis;
+
+  @Param({"1"})
+  private long queryMillis;
+
+  private ExecutorService executor;
+  private ConcurrencyLimiter limiter;
+  private Semaphore connectionPool;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    connectionPool = new Semaphore(CONNECTION_POOL_SIZE, true);
+    if ("VIRTUAL".equals(executorType)) {
+      executor = Executors.newVirtualThreadPerTaskExecutor();
+      limiter = new ConcurrencyLimiter("http", CONNECTION_POOL_SIZE * CONCURRENCY_PER_CONNECTION);
+    } else {
+      executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS_PER_INVOCATION)
+  public void handleRequests() throws InterruptedException, ExecutionException {
+    List<Future<?>> futures = new ArrayList<>(REQUESTS_PER_INVOCATION);
+    for (int i = 0; i < REQUESTS_PER_INVOCATION; i++) {
+      futures.add(executor.submit(this::handleRequest));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+  }
+
+  private Void handleRequest() throws InterruptedException {
+    if (limiter != null) {
+      limiter.acquire();
+    }
+    try {
+      Thread.sleep(authRoundTripMillis);
+      connectionPool.acquire();
+      try {
+        Thread.sleep(queryMillis);
+      } finally {
+        connectionPool.release();
+      }
+    } finally {
+      if (limiter != null) {
+        limiter.release();
+      }
+    }
+    return null;
+  }
+}
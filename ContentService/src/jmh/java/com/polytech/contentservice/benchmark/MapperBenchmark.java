@@ -0,0 +1,75 @@
+package com.polytech.contentservice.benchmark;
+
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.entity.CastMember;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.Episode;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Мапперы, которые выполняются для каждой строки каждого ответа со списком контента.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+  @Param({"0", "10", "50"})
+  private int castSize;
+
+  private final CastMemberMapper castMemberMapper = new CastMemberMapper();
+  private final ContentMapper contentMapper = new ContentMapper(castMemberMapper);
+  private final EpisodeMapper episodeMapper = new EpisodeMapper();
+
+  private Content content;
+  private ContentDto contentPatch;
+  private Set<CastMember> castMembersPatch;
+  private Episode episode;
+  private EpisodeDto episodePatch;
+
+  @Setup
+  public void setUp() {
+    content = BenchmarkData.content(castSize);
+    contentPatch = BenchmarkData.contentPatch(content);
+    castMembersPatch = BenchmarkData.renamed(content.getCastMembers());
+    episode = BenchmarkData.episode(content);
+    episodePatch = BenchmarkData.episodePatch();
+  }
+
+  @Benchmark
+  public ContentDto contentConvertToContentDto() {
+    return contentMapper.convertToContentDto(content);
+  }
+
+  @Benchmark
+  public Content contentPatchUpdate() {
+    return contentMapper.patchUpdate(content, contentPatch);
+  }
+
+  @Benchmark
+  public Set<CastMember> castMemberPatchUpdate() {
+    return castMemberMapper.patchUpdate(content.getCastMembers(), castMembersPatch);
+  }
+
+  @Benchmark
+  public EpisodeDto episodeConvertToEpisodeDto() {
+    return episodeMapper.convertToEpisodeDto(episode);
+  }
+
+  @Benchmark
+  public Episode episodePatchUpdate() {
+    return episodeMapper.patchUpdate(episode, episodePatch);
+  }
+}
@@ -0,0 +1,61 @@
+package com.polytech.contentservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Сериализация ответов со списком контента тем же ObjectMapper, что собирает Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+  @Param({"10", "50"})
+  private int pageSize;
+
+  @Param({"10"})
+  private int castSize;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private ContentDto contentDto;
+  private Page<ContentDto> page;
+
+  @Setup
+  public void setUp() {
+    ContentMapper contentMapper = new ContentMapper(new CastMemberMapper());
+    List<ContentDto> contents = IntStream.range(0, pageSize)
+        .mapToObj(i -> contentMapper.convertToContentDto(BenchmarkData.content(castSize)))
+        .toList();
+    contentDto = contents.getFirst();
+    page = new PageImpl<>(contents, PageRequest.of(0, pageSize), 10_000);
+  }
+
+  @Benchmark
+  public byte[] contentDto() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(contentDto);
+  }
+
+  @Benchmark
+  public byte[] contentPage() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(page);
+  }
+}
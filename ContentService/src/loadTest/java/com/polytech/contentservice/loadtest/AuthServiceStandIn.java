@@ -0,0 +1,110 @@
+package com.polytech.contentservice.loadtest;
+
+import com.auth.AuthServiceGrpc;
+import com.auth.LoginUserRequest;
+import com.auth.LoginUserResponse;
+import com.auth.RegisterUserRequest;
+import com.auth.RegisterUserResponse;
+import com.auth.ValidationTokenRequest;
+import com.auth.ValidationTokenResponse;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сервис авторизации внутри процесса нагрузочного теста.
+ * Выдаёт токены в формате JWT с claim exp, чтобы ContentService кэшировал их так же,
+ * как настоящие, и отвечает на ValidateToken по выданным токенам.
+ */
+final class AuthServiceStandIn extends AuthServiceGrpc.AuthServiceImplBase
+    implements AutoCloseable {
+  private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+  private static final String HEADER = BASE64.encodeToString(
+      "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+  private static final Duration TOKEN_TTL = Duration.ofHours(1);
+
+  private final Map<String, Identity> identities = new ConcurrentHashMap<>();
+  private final Server server;
+
+  AuthServiceStandIn() throws IOException {
+    this.server = ServerBuilder.forPort(0)
+        .addService(this)
+        .build()
+        .start();
+  }
+
+  int getPort() {
+    return server.getPort();
+  }
+
+  /**
+   * Выдача токена, который этот сервис потом подтвердит.
+   *
+   * @param email почта пользователя
+   * @param role  USER или ADMIN
+   * @return токен
+   */
+  String issueToken(String email, String role) {
+    String payload = BASE64.encodeToString(("{\"sub\":\"" + email + "\",\"role\":\"" + role
+        + "\",\"exp\":" + Instant.now().plus(TOKEN_TTL).getEpochSecond() + "}")
+        .getBytes(StandardCharsets.UTF_8));
+    String signature = BASE64.encodeToString(UUID.randomUUID().toString()
+        .getBytes(StandardCharsets.UTF_8));
+    String token = HEADER + "." + payload + "." + signature;
+    identities.put(token, new Identity(email, role));
+    return token;
+  }
+
+  @Override
+  public void validateToken(ValidationTokenRequest request,
+                            StreamObserver<ValidationTokenResponse> responseObserver) {
+    Identity identity = identities.get(request.getToken());
+    if (identity == null) {
+      responseObserver.onError(Status.UNAUTHENTICATED.asRuntimeException());
+      return;
+    }
+    responseObserver.onNext(ValidationTokenResponse.newBuilder()
+        .setRole(identity.role())
+        .setEmail(identity.email())
+        .build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void registerUser(RegisterUserRequest request,
+                           StreamObserver<RegisterUserResponse> responseObserver) {
+    responseObserver.onNext(RegisterUserResponse.newBuilder()
+        .setToken(issueToken(request.getEmail(), request.getRole()))
+        .setPasswordHash("hash")
+        .setPasswordSalt("salt")
+        .build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void loginUser(LoginUserRequest request,
+                        StreamObserver<LoginUserResponse> responseObserver) {
+    responseObserver.onNext(LoginUserResponse.newBuilder()
+        .setToken(issueToken(request.getEmail(), request.getRole()))
+        .build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    server.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  private record Identity(String email, String role) {
+  }
+}
@@ -0,0 +1,98 @@
+package com.polytech.contentservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Наполнение БД каталогом, эпизодами, пользователями и их списками избранного.
+ * Записи помечаются префиксом прогона, поэтому повторный запуск на той же БД не конфликтует
+ * с предыдущим и нагружает только свои данные.
+ */
+final class CatalogSeeder {
+  private static final int EPISODES_PER_SERIES = 10;
+  private static final int PERSONAL_LIST_SIZE = 20;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String runPrefix = "lt" + Long.toString(System.currentTimeMillis(), 36);
+
+  CatalogSeeder(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  SeedData seed(int contents, int users) {
+    jdbcTemplate.update("""
+        insert into content (title, quality, genre, category, age_restriction, description,
+                             publisher, year)
+        select ? || ' ' || (array ['Приключения', 'Тайна', 'Возвращение', 'Легенда', 'Хроники'])[1 + i % 5]
+                   || ' ' || (array ['героя', 'острова', 'короля', 'города', 'дракона'])[1 + i / 5 % 5]
+                   || ' ' || i,
+               (array ['720P', '1080P', '2160P'])[1 + i % 3],
+               (array ['ACTION_FILM', 'COMEDY', 'DRAMA', 'THRILLER', 'CARTOON'])[1 + i % 5],
+               (array ['MOVIE', 'SERIES'])[1 + i % 2],
+               (array ['6+', '12+', '16+', '18+'])[1 + i % 4],
+               'Описание фильма номер ' || i,
+               'Студия ' || i % 100,
+               1950 + i % 75
+        from generate_series(1, ?) as i
+        """, runPrefix, contents);
+    jdbcTemplate.update("""
+        insert into episode (episode_num, season_num, title, storyline, content_id, status)
+        select e, 1, 'Серия ' || e, 'Сюжет серии ' || e, c.content_id, 'NOT_UPLOADED'
+        from content c
+        cross join generate_series(1, ?) as e
+        where c.category = 'SERIES' and c.title like ? || ' %'
+        """, EPISODES_PER_SERIES, runPrefix);
+    jdbcTemplate.update("""
+        insert into "user" (login, email, first_name, last_name, password_salt, password_hash, role)
+        select ? || '-' || i, ? || '-' || i || '@movify.local', 'Имя', 'Фамилия', 'salt', 'hash', 'USER'
+        from generate_series(1, ?) as i
+        """, runPrefix, runPrefix, users);
+    jdbcTemplate.execute("analyze");
+
+    List<UUID> contentIds = jdbcTemplate.queryForList(
+        "select content_id from content where title like ? || ' %'", UUID.class, runPrefix);
+    List<UUID> episodeIds = jdbcTemplate.queryForList("""
+        select e.episode_id from episode e join content c on c.content_id = e.content_id
+        where c.title like ? || ' %'
+        """, UUID.class, runPrefix);
+    List<SeedData.SeedUser> seedUsers = jdbcTemplate.query(
+        "select user_id, email from \"user\" where login like ? || '-%'",
+        (rs, rowNum) -> new SeedData.SeedUser(rs.getObject("user_id", UUID.class),
+            rs.getString("email")),
+        runPrefix);
+    seedPersonalLists(seedUsers, contentIds);
+    return new SeedData(runPrefix, contentIds, episodeIds, seedUsers);
+  }
+
+  private void seedPersonalLists(List<SeedData.SeedUser> users, List<UUID> contentIds) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    List<Object[]> rows = new ArrayList<>(users.size() * PERSONAL_LIST_SIZE);
+    for (SeedData.SeedUser user : users) {
+      for (int i = 0; i < PERSONAL_LIST_SIZE; i++) {
+        rows.add(new Object[] {user.id(), contentIds.get(random.nextInt(contentIds.size()))});
+      }
+    }
+    jdbcTemplate.batchUpdate("""
+        insert into personal_list (user_id, content_id) values (?, ?)
+        on conflict do nothing
+        """, rows);
+  }
+
+  /**
+   * Идентификаторы созданных данных, из которых сценарии выбирают случайные.
+   *
+   * @param runPrefix  префикс прогона в названиях и логинах
+   * @param contentIds фильмы и сериалы
+   * @param episodeIds эпизоды сериалов
+   * @param users      пользователи
+   */
+  record SeedData(String runPrefix, List<UUID> contentIds, List<UUID> episodeIds,
+                  List<SeedUser> users) {
+
+    record SeedUser(UUID id, String email) {
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.polytech.contentservice.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Итоги прогона: пропускная способность и перцентили задержки по сценариям и в целом.
+ *
+ * @param stats       статистика по сценариям
+ * @param elapsed     фактическая длительность прогона, включая ожидание последних ответов
+ * @param targetRate  заданная интенсивность запросов в секунду
+ */
+record LoadReport(Map<Scenario, ScenarioStats> stats, Duration elapsed, double targetRate) {
+  private static final String ROW =
+      "%-28s %9s %7s %8s %9s %9s %9s %9s %9s%n";
+
+  void print(PrintStream out) {
+    out.printf(Locale.ROOT, "Target rate %.1f req/s, elapsed %.1f s%n", targetRate,
+        elapsed.toMillis() / 1000.0);
+    out.printf(Locale.ROOT, ROW, "scenario", "ok", "errors", "dropped", "req/s",
+        "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+    Histogram total = new Histogram(3);
+    long totalErrors = 0;
+    long totalDropped = 0;
+    for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+      ScenarioStats scenarioStats = entry.getValue();
+      Histogram latencies = scenarioStats.getLatencies().copy();
+      total.add(latencies);
+      totalErrors += scenarioStats.getErrors();
+      totalDropped += scenarioStats.getDropped();
+      printRow(out, entry.getKey().name(), latencies, scenarioStats.getErrors(),
+          scenarioStats.getDropped());
+    }
+    printRow(out, "total", total, totalErrors, totalDropped);
+  }
+
+  private void printRow(PrintStream out, String name, Histogram latencies, long errors,
+                        long dropped) {
+    long count = latencies.getTotalCount();
+    out.printf(Locale.ROOT, ROW, name, count, errors, dropped,
+        String.format(Locale.ROOT, "%.1f", count / (elapsed.toNanos() / 1e9)),
+        millis(latencies, 50), millis(latencies, 99), millis(latencies, 99.9),
+        String.format(Locale.ROOT, "%.2f", latencies.getMaxValue() / 1000.0));
+  }
+
+  private static String millis(Histogram latencies, double percentile) {
+    return String.format(Locale.ROOT, "%.2f",
+        latencies.getValueAtPercentile(percentile) / 1000.0);
+  }
+}
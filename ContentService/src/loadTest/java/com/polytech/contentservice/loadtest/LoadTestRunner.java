@@ -0,0 +1,101 @@
+package com.polytech.contentservice.loadtest;
+
+import com.polytech.contentservice.ContentServiceApplication;
+import com.polytech.contentservice.loadtest.CatalogSeeder.SeedData;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Нагрузочный прогон ContentService целиком на локальной машине.
+ * Поднимает PostgreSQL в контейнере (или использует {@code loadtest.datasource.url}),
+ * сервис авторизации внутри процесса и сам ContentService на свободных портах,
+ * наполняет каталог, прогревает сервис и измеряет смесь REST и gRPC запросов
+ * с заданной интенсивностью.
+ *
+ * <p>Запуск: {@code ./gradlew loadTest -Dloadtest.rate=300 -Dloadtest.duration=PT2M}.
+ * Свойства ContentService передаются через {@code -Dloadtest.app.<свойство>=<значение>},
+ * например {@code -Dloadtest.app.spring.datasource.hikari.maximum-pool-size=20}.
+ */
+public final class LoadTestRunner {
+  private static final String POSTGRES_IMAGE = "postgres:15";
+  private static final String DATABASE_NAME = "movify-db";
+
+  private LoadTestRunner() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    PostgreSQLContainer<?> postgres = null;
+    String datasourceUrl = settings.datasourceUrl();
+    String username = settings.datasourceUser();
+    String password = settings.datasourcePass();
+    if (datasourceUrl == null) {
+      postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE)
+          .withDatabaseName(DATABASE_NAME)
+          .withUsername(username)
+          .withPassword(password);
+      postgres.start();
+      datasourceUrl = postgres.getJdbcUrl();
+    }
+    try (AuthServiceStandIn authService = new AuthServiceStandIn();
+         ConfigurableApplicationContext context = startContentService(settings, datasourceUrl,
+             authService.getPort())) {
+      int httpPort = port(context, "local.server.port");
+      int grpcPort = port(context, "local.grpc.port");
+
+      System.out.printf("Seeding %d contents and %d users%n", settings.contents(),
+          settings.users());
+      SeedData seedData = new CatalogSeeder(context.getBean(JdbcTemplate.class))
+          .seed(settings.contents(), settings.users());
+
+      try (MovifyWorkload workload = new MovifyWorkload(seedData, httpPort, grpcPort,
+          authService)) {
+        OpenModelLoad load = new OpenModelLoad(workload.scenarios(), settings.rate(),
+            settings.maxInFlight());
+        if (!settings.warmup().isZero()) {
+          System.out.printf("Warming up for %s%n", settings.warmup());
+          load.run(settings.warmup());
+        }
+        System.out.printf("Measuring for %s at %.1f req/s%n", settings.duration(),
+            settings.rate());
+        load.run(settings.duration()).print(System.out);
+      }
+    } finally {
+      if (postgres != null) {
+        postgres.stop();
+      }
+    }
+  }
+
+  private static ConfigurableApplicationContext startContentService(LoadTestSettings settings,
+                                                                    String datasourceUrl,
+                                                                    int authPort) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("server.port", 0);
+    properties.put("management.server.port", 0);
+    properties.put("grpc.port", 0);
+    properties.put("spring.datasource.url", datasourceUrl);
+    properties.put("spring.datasource.username", settings.datasourceUser());
+    properties.put("spring.datasource.password", settings.datasourcePass());
+    properties.put("spring.jpa.show-sql", false);
+    properties.put("content.client.auth.grpc.host", "localhost");
+    properties.put("content.client.auth.grpc.port", authPort);
+    properties.put("content.client.auth.grpc.token-validation-mode", "GRPC");
+    properties.putAll(settings.appProperties());
+    return new SpringApplicationBuilder(ContentServiceApplication.class)
+        .properties(properties)
+        .run();
+  }
+
+  private static int port(ConfigurableApplicationContext context, String property) {
+    Integer port = context.getEnvironment().getProperty(property, Integer.class);
+    if (port == null) {
+      throw new IllegalStateException(property + " is not published, the server did not start");
+    }
+    return port;
+  }
+}
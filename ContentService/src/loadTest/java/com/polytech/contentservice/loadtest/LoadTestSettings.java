@@ -0,0 +1,60 @@
+package com.polytech.contentservice.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Параметры прогона из системных свойств с префиксом {@code loadtest.}.
+ *
+ * @param rate            средняя интенсивность поступления запросов в секунду
+ * @param warmup          длительность прогрева, его результаты не попадают в отчёт
+ * @param duration        длительность измерения
+ * @param maxInFlight     предел одновременных запросов, сверх него запросы считаются отброшенными
+ * @param contents        количество фильмов и сериалов в каталоге
+ * @param users           количество пользователей
+ * @param datasourceUrl   JDBC URL локального PostgreSQL или null, чтобы поднять контейнер
+ * @param datasourceUser  пользователь БД
+ * @param datasourcePass  пароль БД
+ * @param appProperties   свойства ContentService из {@code loadtest.app.*}, например размер пула
+ */
+record LoadTestSettings(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    int maxInFlight,
+    int contents,
+    int users,
+    String datasourceUrl,
+    String datasourceUser,
+    String datasourcePass,
+    Map<String, String> appProperties) {
+  private static final String PREFIX = "loadtest.";
+  private static final String APP_PREFIX = PREFIX + "app.";
+
+  static LoadTestSettings fromSystemProperties() {
+    Properties properties = System.getProperties();
+    Map<String, String> appProperties = new LinkedHashMap<>();
+    for (String name : properties.stringPropertyNames()) {
+      if (name.startsWith(APP_PREFIX)) {
+        appProperties.put(name.substring(APP_PREFIX.length()), properties.getProperty(name));
+      }
+    }
+    return new LoadTestSettings(
+        Double.parseDouble(property("rate", "200")),
+        Duration.parse(property("warmup", "PT20S")),
+        Duration.parse(property("duration", "PT60S")),
+        Integer.parseInt(property("max-in-flight", "2000")),
+        Integer.parseInt(property("contents", "20000")),
+        Integer.parseInt(property("users", "2000")),
+        System.getProperty(PREFIX + "datasource.url"),
+        property("datasource.username", "admin"),
+        property("datasource.password", "admin"),
+        Map.copyOf(appProperties));
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty(PREFIX + name, defaultValue);
+  }
+}
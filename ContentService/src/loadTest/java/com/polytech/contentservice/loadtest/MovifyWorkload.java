@@ -0,0 +1,221 @@
+package com.polytech.contentservice.loadtest;
+
+import com.content.ContentServiceGrpc;
+import com.content.SetEpisodeVideoUrlRequest;
+import com.content.SetEpisodesVideoUrlRequest;
+import com.content.UserRoleRequest;
+import com.polytech.contentservice.loadtest.CatalogSeeder.SeedData;
+import com.polytech.contentservice.loadtest.CatalogSeeder.SeedData.SeedUser;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Смесь запросов, близкая к реальной: в основном просмотр и поиск по каталогу,
+ * меньше работы с персональным листом, редкие правки администратора и обратные вызовы
+ * MediaService о статусе загрузки видео.
+ */
+final class MovifyWorkload implements AutoCloseable {
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final String[] SEARCH_WORDS =
+      {"Приключения", "Тайна", "Возвращение", "Легенда", "Хроники", "героя", "дракона"};
+  private static final String[] GENRES =
+      {"ACTION_FILM", "COMEDY", "DRAMA", "THRILLER", "CARTOON"};
+  private static final String[] UPLOAD_STATUSES = {"IN_PROGRESS", "UPLOADED"};
+  private static final int PAGE_SIZE = 20;
+  private static final int MEMBERSHIP_BATCH = 20;
+  private static final int MEDIA_BATCH = 10;
+
+  private final SeedData seedData;
+  private final String baseUrl;
+  private final HttpClient httpClient;
+  private final ManagedChannel channel;
+  private final ContentServiceGrpc.ContentServiceBlockingStub contentStub;
+  private final List<String> userTokens;
+  private final String adminToken;
+
+  MovifyWorkload(SeedData seedData, int httpPort, int grpcPort, AuthServiceStandIn authService) {
+    this.seedData = seedData;
+    this.baseUrl = "http://localhost:" + httpPort;
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(REQUEST_TIMEOUT)
+        .build();
+    this.channel = ManagedChannelBuilder.forAddress("localhost", grpcPort)
+        .usePlaintext()
+        .build();
+    this.contentStub = ContentServiceGrpc.newBlockingStub(channel);
+    this.userTokens = seedData.users().stream()
+        .map(user -> authService.issueToken(user.email(), "USER"))
+        .toList();
+    this.adminToken = authService.issueToken(seedData.runPrefix() + "-admin@movify.local",
+        "ADMIN");
+  }
+
+  List<Scenario> scenarios() {
+    return List.of(
+        new Scenario("browse.catalog-page", 20, this::browseCatalogPage),
+        new Scenario("browse.content", 20, this::browseContent),
+        new Scenario("browse.episodes", 10, this::browseEpisodes),
+        new Scenario("search.filter", 12, this::searchByFilter),
+        new Scenario("search.suggestions", 8, this::suggestTitles),
+        new Scenario("personal-list.page", 7, this::personalListPage),
+        new Scenario("personal-list.membership", 5, this::personalListMembership),
+        new Scenario("personal-list.add", 3, this::addToPersonalList),
+        new Scenario("admin.update-content", 5, this::updateContent),
+        new Scenario("media.episode-status", 6, this::setEpisodeVideoUrl),
+        new Scenario("media.episodes-status", 2, this::setEpisodesVideoUrl),
+        new Scenario("grpc.user-role", 2, this::getUserRole));
+  }
+
+  private void browseCatalogPage() throws Exception {
+    int pages = Math.max(1, seedData.contentIds().size() / PAGE_SIZE);
+    get("/v1/contents?page_number=" + random().nextInt(Math.min(pages, 50))
+        + "&page_size=" + PAGE_SIZE, null);
+  }
+
+  private void browseContent() throws Exception {
+    get("/v1/contents/" + any(seedData.contentIds()), null);
+  }
+
+  private void browseEpisodes() throws Exception {
+    get("/v1/episodes?content_id=" + any(seedData.contentIds()), null);
+  }
+
+  private void searchByFilter() throws Exception {
+    boolean fullText = random().nextInt(4) == 0;
+    String body = """
+        {"title":"%s","genre":"%s","page_size":%d,"page_number":%d,"search_mode":"%s"}
+        """.formatted(any(SEARCH_WORDS), any(GENRES), PAGE_SIZE, random().nextInt(3),
+        fullText ? "FULL_TEXT" : "CONTAINS");
+    send(HttpRequest.newBuilder(uri("/v1/contents/search"))
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .header("Content-Type", "application/json"));
+  }
+
+  private void suggestTitles() throws Exception {
+    String word = any(SEARCH_WORDS);
+    String query = word.substring(0, 3 + random().nextInt(word.length() - 2));
+    get("/v1/contents/suggestions?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8),
+        null);
+  }
+
+  private void personalListPage() throws Exception {
+    int user = random().nextInt(seedData.users().size());
+    get("/v1/users/personal-list/" + seedData.users().get(user).id() + "/cursor?page_size="
+        + PAGE_SIZE, userTokens.get(user));
+  }
+
+  private void personalListMembership() throws Exception {
+    int user = random().nextInt(seedData.users().size());
+    StringBuilder path = new StringBuilder("/v1/users/personal-list/")
+        .append(seedData.users().get(user).id())
+        .append("/membership?");
+    IntStream.range(0, MEMBERSHIP_BATCH).forEach(i -> path.append(i == 0 ? "" : "&")
+        .append("content_id=")
+        .append(any(seedData.contentIds())));
+    get(path.toString(), userTokens.get(user));
+  }
+
+  private void addToPersonalList() throws Exception {
+    int user = random().nextInt(seedData.users().size());
+    SeedUser seedUser = seedData.users().get(user);
+    String body = """
+        {"user_id":"%s","content_id":"%s"}
+        """.formatted(seedUser.id(), any(seedData.contentIds()));
+    send(HttpRequest.newBuilder(uri("/v1/users/personal-list"))
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .header("Content-Type", "application/json")
+        .header("Authorization", userTokens.get(user)));
+  }
+
+  private void updateContent() throws Exception {
+    String body = """
+        {"description":"Обновлённое описание %d"}
+        """.formatted(random().nextInt(1_000_000));
+    send(HttpRequest.newBuilder(uri("/v1/contents/" + any(seedData.contentIds())))
+        .PUT(HttpRequest.BodyPublishers.ofString(body))
+        .header("Content-Type", "application/json")
+        .header("Authorization", adminToken));
+  }
+
+  private void setEpisodeVideoUrl() {
+    contentStub.withDeadlineAfter(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+        .setEpisodeVideoUrl(episodeVideoUrl(any(seedData.episodeIds())));
+  }
+
+  private void setEpisodesVideoUrl() {
+    SetEpisodesVideoUrlRequest.Builder request = SetEpisodesVideoUrlRequest.newBuilder();
+    for (int i = 0; i < MEDIA_BATCH; i++) {
+      request.addEpisodes(episodeVideoUrl(any(seedData.episodeIds())));
+    }
+    contentStub.withDeadlineAfter(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+        .setEpisodesVideoUrl(request.build());
+  }
+
+  private void getUserRole() {
+    contentStub.withDeadlineAfter(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+        .getUserRole(UserRoleRequest.newBuilder()
+            .setEmail(any(seedData.users()).email())
+            .build());
+  }
+
+  private SetEpisodeVideoUrlRequest episodeVideoUrl(UUID episodeId) {
+    return SetEpisodeVideoUrlRequest.newBuilder()
+        .setEpisodeId(episodeId.toString())
+        .setUrl("https://media.movify.local/videos/" + episodeId + "/master.m3u8")
+        .setStatus(any(UPLOAD_STATUSES))
+        .build();
+  }
+
+  private void get(String path, String token) throws IOException, InterruptedException {
+    HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).GET();
+    if (token != null) {
+      request.header("Authorization", token);
+    }
+    send(request);
+  }
+
+  private void send(HttpRequest.Builder request) throws IOException, InterruptedException {
+    HttpResponse<Void> response = httpClient.send(request.timeout(REQUEST_TIMEOUT).build(),
+        HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() >= 400) {
+      throw new IOException(response.request().method() + " " + response.uri().getPath()
+          + " returned " + response.statusCode());
+    }
+  }
+
+  private URI uri(String path) {
+    return URI.create(baseUrl + path);
+  }
+
+  private static <T> T any(List<T> values) {
+    return values.get(random().nextInt(values.size()));
+  }
+
+  private static String any(String[] values) {
+    return values[random().nextInt(values.length)];
+  }
+
+  private static ThreadLocalRandom random() {
+    return ThreadLocalRandom.current();
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    httpClient.close();
+    channel.shutdown().awaitTermination(10, TimeUnit.SECONDS);
+  }
+}
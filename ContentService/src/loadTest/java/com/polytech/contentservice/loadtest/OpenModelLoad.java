@@ -0,0 +1,91 @@
+package com.polytech.contentservice.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Открытая модель нагрузки: запросы поступают пуассоновским потоком с заданной интенсивностью
+ * независимо от того, успевает ли сервис. Каждый запрос выполняется в своём виртуальном потоке.
+ * Если запросов в работе больше предела, новые отбрасываются и учитываются отдельно,
+ * чтобы перегруженный сервис не исчерпал память генератора.
+ */
+final class OpenModelLoad {
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+  private final List<Scenario> scenarios;
+  private final int totalWeight;
+  private final double ratePerSecond;
+  private final int maxInFlight;
+
+  OpenModelLoad(List<Scenario> scenarios, double ratePerSecond, int maxInFlight) {
+    this.scenarios = List.copyOf(scenarios);
+    this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    this.ratePerSecond = ratePerSecond;
+    this.maxInFlight = maxInFlight;
+  }
+
+  LoadReport run(Duration duration) throws InterruptedException {
+    Map<Scenario, ScenarioStats> stats = new LinkedHashMap<>();
+    scenarios.forEach(scenario -> stats.put(scenario, new ScenarioStats()));
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long start = System.nanoTime();
+    long end = start + duration.toNanos();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long next = start; next < end; next += interarrivalNanos(random)) {
+        waitUntil(next);
+        Scenario scenario = pick(random);
+        ScenarioStats scenarioStats = stats.get(scenario);
+        if (!inFlight.tryAcquire()) {
+          scenarioStats.recordDropped();
+          continue;
+        }
+        long intendedStart = next;
+        executor.execute(() -> {
+          try {
+            scenario.request().execute();
+            scenarioStats.recordSuccess(System.nanoTime() - intendedStart);
+          } catch (Exception e) {
+            scenarioStats.recordError();
+          } finally {
+            inFlight.release();
+          }
+        });
+      }
+      if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+        executor.shutdownNow();
+      }
+    }
+    return new LoadReport(stats, Duration.ofNanos(System.nanoTime() - start), ratePerSecond);
+  }
+
+  private long interarrivalNanos(ThreadLocalRandom random) {
+    return (long) (-Math.log(1 - random.nextDouble()) / ratePerSecond * 1_000_000_000L);
+  }
+
+  private Scenario pick(ThreadLocalRandom random) {
+    int point = random.nextInt(totalWeight);
+    for (Scenario scenario : scenarios) {
+      point -= scenario.weight();
+      if (point < 0) {
+        return scenario;
+      }
+    }
+    throw new IllegalStateException("Scenario weights changed during the run");
+  }
+
+  private static void waitUntil(long deadline) {
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+}
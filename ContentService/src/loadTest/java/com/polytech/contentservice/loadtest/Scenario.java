@@ -0,0 +1,16 @@
+package com.polytech.contentservice.loadtest;
+
+/**
+ * Один вид запроса в смеси нагрузки.
+ *
+ * @param name    имя в отчёте
+ * @param weight  относительная доля в смеси
+ * @param request выполнение запроса, исключение считается ошибкой
+ */
+record Scenario(String name, int weight, Request request) {
+
+  @FunctionalInterface
+  interface Request {
+    void execute() throws Exception;
+  }
+}
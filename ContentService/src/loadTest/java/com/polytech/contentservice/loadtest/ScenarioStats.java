@@ -0,0 +1,43 @@
+package com.polytech.contentservice.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Задержки и ошибки одного сценария. Задержка считается от запланированного момента отправки,
+ * а не от фактического, поэтому очередь перед сервисом не скрывается.
+ */
+final class ScenarioStats {
+  private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+  private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+
+  void recordSuccess(long latencyNanos) {
+    latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+        MAX_TRACKABLE_MICROS));
+  }
+
+  void recordError() {
+    errors.increment();
+  }
+
+  void recordDropped() {
+    dropped.increment();
+  }
+
+  Histogram getLatencies() {
+    return latencies;
+  }
+
+  long getErrors() {
+    return errors.sum();
+  }
+
+  long getDropped() {
+    return dropped.sum();
+  }
+}
@@ -0,0 +1,15 @@
+package com.polytech.contentservice.common;
+
+/**
+ * Способы поиска контента по тексту.
+ */
+public enum ContentSearchMode {
+  /**
+   * Поиск подстроки в названии без учёта регистра.
+   */
+  CONTAINS,
+  /**
+   * Полнотекстовый поиск по названию, составу, издателю и описанию с ранжированием результатов.
+   */
+  FULL_TEXT
+}
@@ -0,0 +1,15 @@
+package com.polytech.contentservice.common;
+
+/**
+ * Способ проверки токенов пользователей.
+ */
+public enum TokenValidationMode {
+  /**
+   * Запрос ValidateToken в сервис авторизации.
+   */
+  GRPC,
+  /**
+   * Проверка подписи JWT общим секретом без обращения в сервис авторизации.
+   */
+  LOCAL
+}
@@ -0,0 +1,47 @@
+package com.polytech.contentservice.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Ограничение количества одновременно обрабатываемых HTTP запросов.
+ * Запрос, не дождавшийся места за отведённое время, получает 503.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+  private final ConcurrencyLimiter limiter;
+  private final Duration acquireTimeout;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    boolean acquired;
+    try {
+      acquired = limiter.tryAcquire(acquireTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+      return;
+    }
+    if (!acquired) {
+      log.warn("Rejected {} {}: {} requests are already in flight",
+          request.getMethod(), request.getRequestURI(), limiter.getLimit());
+      response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+      return;
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      limiter.release();
+    }
+  }
+}
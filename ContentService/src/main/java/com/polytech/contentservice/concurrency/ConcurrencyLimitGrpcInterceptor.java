@@ -0,0 +1,90 @@
+package com.polytech.contentservice.concurrency;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ограничение количества одновременно обрабатываемых gRPC вызовов.
+ * Место занимается один раз на вызов и возвращается, когда вызов закрыт или отменён.
+ * Вызов, не дождавшийся места за отведённое время, закрывается с RESOURCE_EXHAUSTED.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitGrpcInterceptor implements ServerInterceptor {
+  private final ConcurrencyLimiter limiter;
+  private final Duration acquireTimeout;
+
+  @Override
+  public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                     ServerCallHandler<Q, R> next) {
+    boolean acquired;
+    try {
+      acquired = limiter.tryAcquire(acquireTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      call.close(Status.RESOURCE_EXHAUSTED.withDescription("Interrupted while queued"),
+          new Metadata());
+      return new ServerCall.Listener<>() {
+      };
+    }
+    if (!acquired) {
+      log.warn("Rejected {}: {} calls are already in flight",
+          call.getMethodDescriptor().getFullMethodName(), limiter.getLimit());
+      call.close(Status.RESOURCE_EXHAUSTED.withDescription("Too many calls in flight"),
+          new Metadata());
+      return new ServerCall.Listener<>() {
+      };
+    }
+
+    AtomicBoolean released = new AtomicBoolean();
+    Runnable release = () -> {
+      if (released.compareAndSet(false, true)) {
+        limiter.release();
+      }
+    };
+    ServerCall.Listener<Q> listener;
+    try {
+      listener = next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+        @Override
+        public void close(Status status, Metadata trailers) {
+          try {
+            super.close(status, trailers);
+          } finally {
+            release.run();
+          }
+        }
+      }, headers);
+    } catch (RuntimeException e) {
+      release.run();
+      throw e;
+    }
+    return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+      @Override
+      public void onCancel() {
+        try {
+          super.onCancel();
+        } finally {
+          release.run();
+        }
+      }
+
+      @Override
+      public void onComplete() {
+        try {
+          super.onComplete();
+        } finally {
+          release.run();
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,74 @@
+package com.polytech.contentservice.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограничение количества одновременно выполняемых обработчиков.
+ * На виртуальных потоках количество потоков больше не ограничивает нагрузку на БД,
+ * поэтому граница задаётся явно и привязывается к размеру пула соединений.
+ * Занятые места и длина очереди публикуются как метрики насыщения с тегом transport.
+ */
+public class ConcurrencyLimiter implements MeterBinder {
+  private static final String TRANSPORT_TAG = "transport";
+
+  private final String transport;
+  private final Semaphore permits;
+  private final int limit;
+
+  public ConcurrencyLimiter(String transport, int limit) {
+    this.transport = transport;
+    this.permits = new Semaphore(limit, true);
+    this.limit = limit;
+  }
+
+  /**
+   * Ожидание свободного места не дольше заданного времени.
+   *
+   * @param timeout максимальное время ожидания
+   * @return true, если место получено и его нужно вернуть через {@link #release()}
+   * @throws InterruptedException если поток прерван во время ожидания
+   */
+  public boolean tryAcquire(Duration timeout) throws InterruptedException {
+    return permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Ожидание свободного места без ограничения по времени.
+   */
+  public void acquire() {
+    permits.acquireUninterruptibly();
+  }
+
+  public void release() {
+    permits.release();
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return limit - permits.availablePermits();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("content.concurrency.in-flight", this, ConcurrencyLimiter::getInFlight)
+        .description("Requests currently holding a concurrency permit")
+        .tag(TRANSPORT_TAG, transport)
+        .register(registry);
+    Gauge.builder("content.concurrency.limit", this, ConcurrencyLimiter::getLimit)
+        .description("Maximum number of requests in flight")
+        .tag(TRANSPORT_TAG, transport)
+        .register(registry);
+    Gauge.builder("content.concurrency.queued", permits, Semaphore::getQueueLength)
+        .description("Requests waiting for a concurrency permit")
+        .tag(TRANSPORT_TAG, transport)
+        .register(registry);
+  }
+}
@@ -0,0 +1,59 @@
+package com.polytech.contentservice.concurrency;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Логирование случаев, когда виртуальный поток блокируется вместе с платформенным,
+ * например внутри synchronized блока драйвера. Использует событие JFR jdk.VirtualThreadPinned.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int STACK_DEPTH = 8;
+
+  private final Duration threshold;
+  private RecordingStream recordingStream;
+
+  @Override
+  public void afterPropertiesSet() {
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::logPinnedThread);
+    recordingStream.startAsync();
+    log.info("Virtual thread pinning monitor started, threshold {}", threshold);
+  }
+
+  @Override
+  public void destroy() {
+    if (recordingStream != null) {
+      recordingStream.close();
+    }
+  }
+
+  private void logPinnedThread(RecordedEvent event) {
+    String stackTrace = event.getStackTrace() == null
+        ? "<no stack trace>"
+        : event.getStackTrace().getFrames().stream()
+            .limit(STACK_DEPTH)
+            .map(this::formatFrame)
+            .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+    log.warn("Virtual thread {} was pinned for {} ms{}",
+        event.getThread() == null ? "<unknown>" : event.getThread().getJavaName(),
+        event.getDuration().toMillis(),
+        stackTrace);
+  }
+
+  private String formatFrame(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+        + ":" + frame.getLineNumber();
+  }
+}
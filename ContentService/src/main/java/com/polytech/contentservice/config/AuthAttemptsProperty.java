@@ -0,0 +1,25 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация ограничения попыток входа.
+ *
+ * @param banTimeInSeconds      время блокировки после исчерпания попыток
+ * @param defaultAttemptsAmount количество неудачных попыток до блокировки
+ * @param attemptsWindow        время без неудачных попыток, после которого счётчик адреса сбрасывается
+ * @param maximumSize           максимальное количество отслеживаемых адресов
+ * @param writeBehind           сохранять ли счётчики в таблицу auth_attempt для переживания перезапуска
+ * @param writeBehindInterval   период сохранения изменённых счётчиков
+ */
+@ConfigurationProperties(prefix = "auth")
+public record AuthAttemptsProperty(
+    int banTimeInSeconds,
+    int defaultAttemptsAmount,
+    Duration attemptsWindow,
+    long maximumSize,
+    boolean writeBehind,
+    Duration writeBehindInterval
+) {
+}
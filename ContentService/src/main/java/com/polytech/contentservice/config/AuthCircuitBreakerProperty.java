@@ -0,0 +1,27 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация circuit breaker вокруг клиента сервиса авторизации.
+ *
+ * @param failureRateThreshold          процент неудачных вызовов, после которого breaker размыкается
+ * @param slowCallRateThreshold         процент медленных вызовов, после которого breaker размыкается
+ * @param slowCallDurationThreshold     длительность, начиная с которой вызов считается медленным
+ * @param slidingWindowSize             количество последних вызовов, по которым считается статистика
+ * @param minimumNumberOfCalls          минимальное количество вызовов до первой оценки
+ * @param waitDurationInOpenState       время в разомкнутом состоянии до пробных вызовов
+ * @param permittedCallsInHalfOpenState количество пробных вызовов в полуоткрытом состоянии
+ */
+@ConfigurationProperties(prefix = "content.client.auth.circuit-breaker")
+public record AuthCircuitBreakerProperty(
+    float failureRateThreshold,
+    float slowCallRateThreshold,
+    Duration slowCallDurationThreshold,
+    int slidingWindowSize,
+    int minimumNumberOfCalls,
+    Duration waitDurationInOpenState,
+    int permittedCallsInHalfOpenState
+) {
+}
@@ -1,13 +1,53 @@
 package com.polytech.contentservice.config;
 
+import com.polytech.contentservice.common.TokenValidationMode;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
  * Конфигурация для подключения к auth сервису.
  *
- * @param host адрес сервиса
- * @param port порт сервиса
+ * @param host                адрес сервиса
+ * @param port                порт сервиса
+ * @param tokenValidationMode способ проверки токенов
+ * @param jwtSecret           общий с auth сервисом секрет подписи JWT, нужен для режима LOCAL
+ * @param deadline            максимальное время одного вызова, включая повторы
+ * @param retry               повторы идемпотентного вызова ValidateToken
+ * @param keepAlive           проверка живости соединения
  */
 @ConfigurationProperties(prefix = "content.client.auth.grpc")
-public record AuthGrpcClientProperty(String host, int port) {
+public record AuthGrpcClientProperty(
+    String host,
+    int port,
+    TokenValidationMode tokenValidationMode,
+    String jwtSecret,
+    Duration deadline,
+    Retry retry,
+    KeepAlive keepAlive) {
+
+  /**
+   * Повторы вызова ValidateToken.
+   * Если задан hedgingDelay, запросы отправляются параллельно с этой задержкой,
+   * иначе повторяются последовательно с экспоненциальной задержкой.
+   *
+   * @param maxAttempts    максимальное количество попыток, включая первую
+   * @param hedgingDelay   задержка перед отправкой параллельной попытки
+   * @param initialBackoff задержка перед первым последовательным повтором
+   * @param maxBackoff     максимальная задержка между последовательными повторами
+   */
+  public record Retry(
+      int maxAttempts,
+      Duration hedgingDelay,
+      Duration initialBackoff,
+      Duration maxBackoff) {
+  }
+
+  /**
+   * Проверка живости соединения.
+   *
+   * @param time    период отправки ping
+   * @param timeout время ожидания ответа на ping
+   */
+  public record KeepAlive(Duration time, Duration timeout) {
+  }
 }
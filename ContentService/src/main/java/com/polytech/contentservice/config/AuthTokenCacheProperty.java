@@ -0,0 +1,15 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация локального кэша проверенных токенов.
+ *
+ * @param enabled     включён ли кэш
+ * @param maximumSize максимальное количество токенов в кэше
+ * @param maxTtl      максимальное время жизни записи, даже если токен живёт дольше
+ */
+@ConfigurationProperties(prefix = "content.auth.token-cache")
+public record AuthTokenCacheProperty(boolean enabled, long maximumSize, Duration maxTtl) {
+}
@@ -0,0 +1,15 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация локального кэша каталога.
+ *
+ * @param enabled     включён ли кэш
+ * @param maximumSize максимальное количество записей в каждом из кэшей
+ * @param ttl         время жизни записи после загрузки
+ */
+@ConfigurationProperties(prefix = "content.catalog-cache")
+public record ContentCatalogCacheProperty(boolean enabled, long maximumSize, Duration ttl) {
+}
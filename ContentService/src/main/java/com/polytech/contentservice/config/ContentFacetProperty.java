@@ -0,0 +1,13 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация счётчиков фильтров поиска.
+ *
+ * @param ttl время, в течение которого счётчики берутся из памяти без обращения к content_facet
+ */
+@ConfigurationProperties(prefix = "content.facets")
+public record ContentFacetProperty(Duration ttl) {
+}
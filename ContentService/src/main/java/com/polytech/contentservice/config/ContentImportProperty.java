@@ -0,0 +1,13 @@
+package com.polytech.contentservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация массовой загрузки каталога.
+ *
+ * @param batchSize         количество фильмов и сериалов, записываемых в одной транзакции
+ * @param maxReportedErrors максимальное количество ошибок, возвращаемых в отчёте
+ */
+@ConfigurationProperties(prefix = "content.import")
+public record ContentImportProperty(int batchSize, int maxReportedErrors) {
+}
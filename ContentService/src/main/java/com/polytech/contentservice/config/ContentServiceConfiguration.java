@@ -2,8 +2,23 @@ package com.polytech.contentservice.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
-@EnableConfigurationProperties({AuthGrpcClientProperty.class})
+@EnableScheduling
+@EnableConfigurationProperties({
+    AuthAttemptsProperty.class,
+    AuthCircuitBreakerProperty.class,
+    AuthGrpcClientProperty.class,
+    AuthTokenCacheProperty.class,
+    ContentCatalogCacheProperty.class,
+    ContentFacetProperty.class,
+    ContentImportProperty.class,
+    JfrRecordingProperty.class,
+    ReadReplicaProperty.class,
+    ServerTimingProperty.class,
+    TracingProperty.class,
+    VirtualThreadProperty.class
+})
 public class ContentServiceConfiguration {
 }
@@ -3,6 +3,7 @@ package com.polytech.contentservice.config;
 import com.polytech.contentservice.exception.BadRequestException;
 import com.polytech.contentservice.exception.LoginException;
 import com.polytech.contentservice.exception.NotFoundException;
+import com.polytech.contentservice.exception.ServiceUnavailableException;
 import com.polytech.contentservice.exception.UnauthorisedException;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +39,13 @@ public class GlobalExceptionHandler {
         .body(ErrorResponse.builder(ex, HttpStatus.UNAUTHORIZED, ex.getMessage()).build());
   }
 
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+      ServiceUnavailableException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .body(ErrorResponse.builder(ex, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()).build());
+  }
+
   @ExceptionHandler(ValidationException.class)
   public ResponseEntity<ErrorResponse> handleBadRequestException(ValidationException ex) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
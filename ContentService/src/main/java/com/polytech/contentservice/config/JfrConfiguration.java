@@ -0,0 +1,24 @@
+package com.polytech.contentservice.config;
+
+import com.polytech.contentservice.jfr.JfrBeanPostProcessor;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import com.polytech.contentservice.mapper.UserMapper;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JFR события для репозиториев и мапперов.
+ * События вызовов сервиса авторизации и обращений к кэшам пишутся в самих компонентах.
+ */
+@Configuration
+public class JfrConfiguration {
+  @Bean
+  public static JfrBeanPostProcessor jfrBeanPostProcessor() {
+    return new JfrBeanPostProcessor(List.of(
+        ContentMapper.class,
+        EpisodeMapper.class,
+        UserMapper.class));
+  }
+}
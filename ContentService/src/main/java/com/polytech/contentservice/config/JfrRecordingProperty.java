@@ -0,0 +1,16 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Ограничения записи JFR по запросу администратора.
+ *
+ * @param settings    встроенная конфигурация JFR: default или profile
+ * @param maxDuration максимальная длительность записи, после неё запись останавливается сама
+ * @param maxSize     максимальный размер записи на диске, старые данные вытесняются
+ */
+@ConfigurationProperties(prefix = "content.jfr")
+public record JfrRecordingProperty(String settings, Duration maxDuration, DataSize maxSize) {
+}
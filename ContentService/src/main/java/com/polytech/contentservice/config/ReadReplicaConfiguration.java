@@ -0,0 +1,99 @@
+package com.polytech.contentservice.config;
+
+import com.polytech.contentservice.datasource.ReadYourWritesFilter;
+import com.polytech.contentservice.datasource.ReplicaLagMonitor;
+import com.polytech.contentservice.datasource.ReplicaRoutingDataSource;
+import com.polytech.contentservice.datasource.ReplicaState;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Чтение с реплик PostgreSQL для методов с {@code @Transactional(readOnly = true)}.
+ * Основная БД настраивается как обычно через spring.datasource, реплики через
+ * content.datasource.read-replicas. Liquibase и пишущие транзакции работают с основной БД.
+ *
+ * <p>Open Session in View держит EntityManager весь HTTP запрос. Чтобы соединение с репликой,
+ * взятое первой читающей транзакцией, не досталось следующей пишущей, Hibernate возвращает
+ * соединение после каждой транзакции.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "content.datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+  @Bean(destroyMethod = "close")
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      ReadReplicaProperty property,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    List<ReplicaState> replicas = new ArrayList<>();
+    for (int i = 0; i < property.replicas().size(); i++) {
+      ReadReplicaProperty.Replica replica = property.replicas().get(i);
+      String name = "replica-" + i;
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setPoolName(name);
+      dataSource.setJdbcUrl(replica.url());
+      dataSource.setUsername(replica.username());
+      dataSource.setPassword(replica.password());
+      dataSource.setReadOnly(true);
+      dataSource.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+      // Недоступная при старте реплика не должна мешать запуску сервиса
+      dataSource.setInitializationFailTimeout(-1);
+      // Пулы реплик не бины, поэтому actuator не привяжет их метрики сам
+      meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+      replicas.add(new ReplicaState(name, dataSource));
+    }
+    log.info("Read-only transactions are routed to {} replicas, max lag {}",
+        replicas.size(), property.maxLag());
+    return new ReplicaRoutingDataSource(primaryDataSource, replicas, property.maxLag());
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+    return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+        PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  @Bean
+  public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+    FilterRegistrationBean<ReadYourWritesFilter> registration =
+        new FilterRegistrationBean<>(new ReadYourWritesFilter());
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+    return registration;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new ReplicaLagMonitor(replicaRoutingDataSource);
+  }
+}
@@ -0,0 +1,29 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация чтения с реплик PostgreSQL.
+ *
+ * @param enabled  включена ли маршрутизация транзакций только на чтение на реплики
+ * @param maxLag   максимальное отставание реплики, при котором с неё ещё читаются данные
+ * @param replicas подключения к репликам
+ */
+@ConfigurationProperties(prefix = "content.datasource.read-replicas")
+public record ReadReplicaProperty(boolean enabled, Duration maxLag, List<Replica> replicas) {
+  public ReadReplicaProperty {
+    replicas = replicas == null ? List.of() : List.copyOf(replicas);
+  }
+
+  /**
+   * Подключение к реплике.
+   *
+   * @param url      JDBC URL
+   * @param username пользователь
+   * @param password пароль
+   */
+  public record Replica(String url, String username, String password) {
+  }
+}
@@ -0,0 +1,63 @@
+package com.polytech.contentservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import com.polytech.contentservice.mapper.UserMapper;
+import com.polytech.contentservice.service.auth.AuthService;
+import com.polytech.contentservice.timing.QueryTimingObservationHandler;
+import com.polytech.contentservice.timing.ServerTimingBeanPostProcessor;
+import com.polytech.contentservice.timing.ServerTimingFilter;
+import com.polytech.contentservice.timing.ServerTimingPhase;
+import com.polytech.contentservice.timing.ServerTimingSwitch;
+import com.polytech.contentservice.timing.TimedJacksonHttpMessageConverter;
+import java.util.Map;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Заголовок Server-Timing: время проверки токена, JDBC запросов, маппинга и сериализации JSON.
+ */
+@Configuration
+public class ServerTimingConfiguration {
+  @Bean
+  public static ServerTimingBeanPostProcessor serverTimingBeanPostProcessor() {
+    return new ServerTimingBeanPostProcessor(Map.of(
+        AuthService.class, ServerTimingPhase.AUTH,
+        ContentMapper.class, ServerTimingPhase.MAPPING,
+        EpisodeMapper.class, ServerTimingPhase.MAPPING,
+        UserMapper.class, ServerTimingPhase.MAPPING));
+  }
+
+  @Bean
+  public ServerTimingSwitch serverTimingSwitch(ServerTimingProperty property) {
+    return new ServerTimingSwitch(property.enabled());
+  }
+
+  @Bean
+  public ServerTimingFilter serverTimingFilter(ServerTimingSwitch serverTimingSwitch) {
+    return new ServerTimingFilter(serverTimingSwitch);
+  }
+
+  @Bean
+  public FilterRegistrationBean<ServerTimingFilter> serverTimingFilterRegistration(
+      ServerTimingFilter serverTimingFilter) {
+    FilterRegistrationBean<ServerTimingFilter> registration =
+        new FilterRegistrationBean<>(serverTimingFilter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+
+  @Bean
+  public QueryTimingObservationHandler queryTimingObservationHandler() {
+    return new QueryTimingObservationHandler();
+  }
+
+  @Bean
+  public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new TimedJacksonHttpMessageConverter(objectMapper);
+  }
+}
@@ -0,0 +1,12 @@
+package com.polytech.contentservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация заголовка Server-Timing.
+ *
+ * @param enabled включён ли заголовок при старте, во время работы переключается через actuator
+ */
+@ConfigurationProperties(prefix = "content.server-timing")
+public record ServerTimingProperty(boolean enabled) {
+}
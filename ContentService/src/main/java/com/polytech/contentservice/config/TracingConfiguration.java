@@ -0,0 +1,40 @@
+package com.polytech.contentservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polytech.contentservice.tracing.JsonLinesSpanExporter;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.lognet.springboot.grpc.GRpcGlobalInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Трассировка запросов через Micrometer Observation с мостом в OpenTelemetry.
+ * HTTP контроллеры и JDBC запросы наблюдаются автоматически, здесь добавляется серверная
+ * сторона gRPC и локальный экспортёр. Наблюдения gRPC дают и таймеры grpc.server и grpc.client,
+ * гистограммы для них задаются в разделе management конфигурации. Экспортёр подключается как бин {@code SpanExporter}:
+ * Spring Boot отправляет спаны во все такие бины, OTLP добавляется свойством
+ * management.otlp.tracing.endpoint.
+ */
+@Slf4j
+@Configuration
+public class TracingConfiguration {
+  @Bean
+  @GRpcGlobalInterceptor
+  public ObservationGrpcServerInterceptor grpcServerObservationInterceptor(
+      ObservationRegistry observationRegistry) {
+    return new ObservationGrpcServerInterceptor(observationRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "content.tracing.file", name = "enabled", havingValue = "true")
+  public JsonLinesSpanExporter jsonLinesSpanExporter(TracingProperty property,
+                                                     ObjectMapper objectMapper)
+      throws IOException {
+    log.info("Spans are written to {}", property.file().path().toAbsolutePath());
+    return new JsonLinesSpanExporter(property.file().path(), objectMapper);
+  }
+}
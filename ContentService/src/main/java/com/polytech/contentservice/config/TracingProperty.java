@@ -0,0 +1,24 @@
+package com.polytech.contentservice.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация выгрузки трасс.
+ * Выгрузка по OTLP включается стандартным свойством management.otlp.tracing.endpoint,
+ * здесь настраивается локальная запись в файл для отладки без коллектора.
+ *
+ * @param file запись спанов в файл
+ */
+@ConfigurationProperties(prefix = "content.tracing")
+public record TracingProperty(File file) {
+
+  /**
+   * Запись спанов в файл, по одному JSON объекту на строку.
+   *
+   * @param enabled включена ли запись
+   * @param path    путь к файлу, файл дописывается
+   */
+  public record File(boolean enabled, Path path) {
+  }
+}
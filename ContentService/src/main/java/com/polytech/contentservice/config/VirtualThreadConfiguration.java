@@ -0,0 +1,102 @@
+package com.polytech.contentservice.config;
+
+import com.polytech.contentservice.concurrency.ConcurrencyLimitFilter;
+import com.polytech.contentservice.concurrency.ConcurrencyLimitGrpcInterceptor;
+import com.polytech.contentservice.concurrency.ConcurrencyLimiter;
+import com.polytech.contentservice.concurrency.VirtualThreadPinningMonitor;
+import io.grpc.ServerBuilder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.lognet.springboot.grpc.GRpcGlobalInterceptor;
+import org.lognet.springboot.grpc.GRpcServerBuilderConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Обработка HTTP и gRPC запросов на виртуальных потоках.
+ * Включается вместе с Tomcat через spring.threads.virtual.enabled=true.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+  /**
+   * Место для HTTP запроса. Запрос держит его, пока ждёт проверки токена в сервисе авторизации.
+   */
+  @Bean
+  public ConcurrencyLimiter httpConcurrencyLimiter(
+      VirtualThreadProperty property,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+    return concurrencyLimiter("http", property, connectionPoolSize);
+  }
+
+  /**
+   * Место для gRPC вызова. Отдельно от HTTP: сервис авторизации обращается к getUserRole,
+   * пока HTTP запрос ждёт его ответа, и общий лимит блокировал бы этот обратный вызов.
+   */
+  @Bean
+  public ConcurrencyLimiter grpcConcurrencyLimiter(
+      VirtualThreadProperty property,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+    return concurrencyLimiter("grpc", property, connectionPoolSize);
+  }
+
+  @Bean
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+      ConcurrencyLimiter httpConcurrencyLimiter, VirtualThreadProperty property) {
+    FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+        new ConcurrencyLimitFilter(httpConcurrencyLimiter, property.acquireTimeout()));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  /**
+   * Место ожидается один раз на вызов. Перехватчики запускаются в executor сервера,
+   * поэтому ожидание идёт в виртуальном потоке, а не в event loop netty.
+   */
+  @Bean
+  @GRpcGlobalInterceptor
+  public ConcurrencyLimitGrpcInterceptor concurrencyLimitGrpcInterceptor(
+      ConcurrencyLimiter grpcConcurrencyLimiter, VirtualThreadProperty property) {
+    return new ConcurrencyLimitGrpcInterceptor(grpcConcurrencyLimiter, property.acquireTimeout());
+  }
+
+  @Bean(destroyMethod = "close")
+  public ExecutorService grpcVirtualThreadExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-vt-", 0).factory());
+  }
+
+  /**
+   * Вызовы gRPC выполняются на виртуальных потоках.
+   */
+  @Bean
+  public GRpcServerBuilderConfigurer virtualThreadGrpcServerConfigurer(
+      ExecutorService grpcVirtualThreadExecutor) {
+    return new GRpcServerBuilderConfigurer() {
+      @Override
+      public void configure(ServerBuilder<?> serverBuilder) {
+        serverBuilder.executor(grpcVirtualThreadExecutor);
+      }
+    };
+  }
+
+  @Bean
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperty property) {
+    return new VirtualThreadPinningMonitor(property.pinnedThreshold());
+  }
+
+  private static ConcurrencyLimiter concurrencyLimiter(String transport,
+                                                       VirtualThreadProperty property,
+                                                       int connectionPoolSize) {
+    int limit = connectionPoolSize * property.maxConcurrencyPerConnection();
+    log.info("Virtual threads enabled, at most {} {} requests in flight for {} DB connections",
+        limit, transport, connectionPoolSize);
+    return new ConcurrencyLimiter(transport, limit);
+  }
+}
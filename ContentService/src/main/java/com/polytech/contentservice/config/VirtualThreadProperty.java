@@ -0,0 +1,22 @@
+package com.polytech.contentservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Конфигурация обработки запросов на виртуальных потоках.
+ *
+ * @param maxConcurrencyPerConnection сколько запросов может выполняться одновременно
+ *                                    на одно соединение пула БД
+ * @param acquireTimeout              сколько запрос ждёт свободного места, прежде чем
+ *                                    получить 503 по HTTP или RESOURCE_EXHAUSTED по gRPC
+ * @param pinnedThreshold             начиная с какой длительности блокировка виртуального
+ *                                    потока на платформенном попадает в лог
+ */
+@ConfigurationProperties(prefix = "content.virtual-threads")
+public record VirtualThreadProperty(
+    int maxConcurrencyPerConnection,
+    Duration acquireTimeout,
+    Duration pinnedThreshold
+) {
+}
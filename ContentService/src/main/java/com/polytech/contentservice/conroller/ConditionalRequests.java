@@ -0,0 +1,46 @@
+package com.polytech.contentservice.conroller;
+
+import com.polytech.contentservice.service.content.CatalogVersion;
+import java.util.Optional;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Условные GET запросы к каталогу.
+ * Версия проверяется до загрузки и маппинга сущностей, поэтому ответ 304 не читает тяжёлые данные.
+ */
+final class ConditionalRequests {
+  private ConditionalRequests() {
+  }
+
+  /**
+   * Проверка заголовков If-None-Match и If-Modified-Since.
+   * При совпадении выставляет статус 304, иначе добавляет ETag и Last-Modified к ответу.
+   *
+   * @param request текущий запрос
+   * @param version версия данных, пустая если данные не найдены
+   * @return {@code true}, если клиенту можно не отправлять тело
+   */
+  static boolean isNotModified(WebRequest request, Optional<CatalogVersion> version) {
+    return version
+        .map(catalogVersion -> catalogVersion.lastModified() == null
+            ? request.checkNotModified(catalogVersion.etag())
+            : request.checkNotModified(catalogVersion.etag(),
+                catalogVersion.lastModified().toEpochMilli()))
+        .orElse(false);
+  }
+
+  /**
+   * Ответ, который клиент может хранить, но обязан перепроверять по ETag.
+   *
+   * @param body тело ответа
+   * @param <T>  тип тела
+   * @return ответ 200 с {@code Cache-Control: no-cache}
+   */
+  static <T> ResponseEntity<T> revalidated(T body) {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .body(body);
+  }
+}
@@ -2,17 +2,28 @@ package com.polytech.contentservice.conroller;
 
 import com.polytech.contentservice.common.Role;
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.content.ContentImportResultDto;
 import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.dto.content.ContentSearchPageDto;
+import com.polytech.contentservice.dto.content.ContentSuggestionDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
+import com.polytech.contentservice.exception.UnauthorisedException;
 import com.polytech.contentservice.service.auth.AuthService;
+import com.polytech.contentservice.service.content.ContentFacetService;
+import com.polytech.contentservice.service.content.ContentImportService;
 import com.polytech.contentservice.service.content.ContentService;
+import com.polytech.contentservice.service.personallist.PersonalListService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,6 +34,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,21 +44,81 @@ import org.springframework.web.bind.annotation.RestController;
     description = "Контроллер для манипулирования основаными данными, связанными с фильмами и сериалами")
 public class ContentController {
   private final ContentService contentService;
+  private final ContentFacetService contentFacetService;
+  private final ContentImportService contentImportService;
   private final AuthService authService;
+  private final PersonalListService personalListService;
 
   @GetMapping
   @Operation(
       summary = "Получение фильмов или сериалов",
       description = "Позволяет получить несколько фильмов или сериалов для последующей загрузке на начальной странице с фильмами"
   )
-  public List<ContentDto> getAllContent(
+  public ResponseEntity<List<ContentDto>> getAllContent(
       @Parameter(description = "Параметр номера страницы", example = "0")
       @RequestParam(value = "page_number")
       int pageNumber,
       @Parameter(description = "Параметр количества отображаемых фильмов и сериалов на странице", example = "3")
       @RequestParam(value = "page_size")
-      int pageSize) {
-    return contentService.findAllContent(PageRequest.of(pageNumber, pageSize));
+      int pageSize,
+      @Parameter(description = "ID пользователя, для которого нужно отметить контент из персонального листа")
+      @RequestParam(value = "user_id", required = false)
+      UUID userId,
+      @RequestHeader(value = "Authorization", required = false) String token,
+      WebRequest request) {
+    PageRequest pageable = PageRequest.of(pageNumber, pageSize);
+    if (userId != null) {
+      checkUserToken(token);
+      return ResponseEntity.ok(personalListService.markPersonalListMembership(userId,
+          contentService.findAllContent(pageable)));
+    }
+    if (ConditionalRequests.isNotModified(request, contentService.findContentPageVersion(pageable))) {
+      return null;
+    }
+    return ConditionalRequests.revalidated(contentService.findAllContent(pageable));
+  }
+
+  @GetMapping("/cursor")
+  @Operation(
+      summary = "Получение фильмов или сериалов по курсору",
+      description = "Позволяет листать фильмы и сериалы от новых к старым, время ответа не зависит от глубины страницы"
+  )
+  public CursorPageDto<ContentDto> getContentPage(
+      @Parameter(description = "Курсор, полученный с предыдущей страницей. Для первой страницы не передаётся")
+      @RequestParam(value = "cursor", required = false)
+      String cursor,
+      @Parameter(description = "Параметр количества отображаемых фильмов и сериалов на странице", example = "3")
+      @RequestParam(value = "page_size")
+      int pageSize,
+      @Parameter(description = "ID пользователя, для которого нужно отметить контент из персонального листа")
+      @RequestParam(value = "user_id", required = false)
+      UUID userId,
+      @RequestHeader(value = "Authorization", required = false) String token) {
+    CursorPageDto<ContentDto> page = contentService.findContentPage(cursor, pageSize);
+    if (userId == null) {
+      return page;
+    }
+    checkUserToken(token);
+    return CursorPageDto.<ContentDto>builder()
+        .items(personalListService.markPersonalListMembership(userId, page.items()))
+        .nextCursor(page.nextCursor())
+        .approximateTotal(page.approximateTotal())
+        .build();
+  }
+
+  @GetMapping("/suggestions")
+  @Operation(
+      summary = "Подсказки по названию фильма или сериала",
+      description = "Позволяет получить названия, подходящие под введённый фрагмент, для автодополнения в строке поиска"
+  )
+  public List<ContentSuggestionDto> getTitleSuggestions(
+      @Parameter(description = "Начало или фрагмент названия, допускаются опечатки", example = "перв")
+      @RequestParam(value = "query")
+      String query,
+      @Parameter(description = "Максимальное количество подсказок", example = "10")
+      @RequestParam(value = "limit", defaultValue = "10")
+      int limit) {
+    return contentService.suggestTitles(query, limit);
   }
 
   @DeleteMapping("/{content-id}")
@@ -66,18 +138,38 @@ public class ContentController {
       summary = "Получение фильма или сериала по ИД",
       description = "Позволяет получить один фильм или сериал по ИД"
   )
-  public ContentDto getContentById(
-      @PathVariable(name = "content-id") UUID contentId) {
-    return contentService.findContentById(contentId);
+  public ResponseEntity<ContentDto> getContentById(
+      @PathVariable(name = "content-id") UUID contentId,
+      WebRequest request) {
+    if (ConditionalRequests.isNotModified(request, contentService.findContentVersion(contentId))) {
+      return null;
+    }
+    return ConditionalRequests.revalidated(contentService.findContentById(contentId));
   }
 
   @PostMapping("/search")
   @Operation(
       summary = "Получение фильма или сериала по фильтрам",
-      description = "Позволяет получить все фильмы или сериалы по фильтрам"
+      description = "Позволяет получить все фильмы или сериалы по фильтрам вместе с количеством по жанрам, возрастным ограничениям и годам"
   )
   public Page<ContentDto> getContentByFilters(@RequestBody ContentSearchDto contentDto) {
-    return contentService.getAllContentsByFilter(contentDto);
+    Page<ContentDto> page = contentService.getAllContentsByFilter(contentDto);
+    return contentFacetService.countFacets(contentDto)
+        .<Page<ContentDto>>map(facets -> new ContentSearchPageDto(page, facets))
+        .orElse(page);
+  }
+
+  @PostMapping("/search/cursor")
+  @Operation(
+      summary = "Получение фильма или сериала по фильтрам и курсору",
+      description = "Позволяет листать фильмы или сериалы по фильтрам без подсчёта общего количества"
+  )
+  public CursorPageDto<ContentDto> getContentPageByFilters(
+      @RequestBody ContentSearchDto contentDto,
+      @Parameter(description = "Курсор, полученный с предыдущей страницей. Для первой страницы не передаётся")
+      @RequestParam(value = "cursor", required = false)
+      String cursor) {
+    return contentService.findContentPageByFilter(contentDto, cursor);
   }
 
   @PutMapping("/{content-id}")
@@ -110,4 +202,24 @@ public class ContentController {
     authService.checkTokenIsValid(token, Role.ADMIN);
     return contentService.createContent(contentDto);
   }
+
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary = "Массовая загрузка фильмов и сериалов",
+      description = "Позволяет загрузить каталог правообладателя одним запросом: каждая строка NDJSON - фильм или сериал с участниками съёмок и эпизодами. Строки с ошибками пропускаются и возвращаются в отчёте"
+  )
+  public ContentImportResultDto importContents(
+      @Parameter(description = "Строки вида {\"content\": {...}, \"episodes\": [...]}")
+      InputStream ndjson,
+      @RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.ADMIN);
+    return contentImportService.importContents(ndjson);
+  }
+
+  private void checkUserToken(String token) {
+    if (token == null) {
+      throw new UnauthorisedException("Authorization header is required");
+    }
+    authService.checkTokenIsValid(token, Role.USER);
+  }
 }
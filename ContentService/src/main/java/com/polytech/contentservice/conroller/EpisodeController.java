@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Контролер эпизодов.
@@ -93,10 +95,14 @@ public class EpisodeController {
   @Operation(
       summary = "Получение всех эпизодов, связанных с контентом",
       description = "Получаем все эпизоды, связанные с заданным контентом")
-  public Set<EpisodeDto> getAllEpisodesForContent(
+  public ResponseEntity<Set<EpisodeDto>> getAllEpisodesForContent(
       @Parameter(description = "ID фильма или сериала", example = "1b12236a-aca9-47bc-95ac-f3978836de2c")
       @RequestParam(value = "content_id")
-      UUID contentId) {
-    return contentService.findAllEpisodesForContent(contentId);
+      UUID contentId,
+      WebRequest request) {
+    if (ConditionalRequests.isNotModified(request, contentService.findEpisodesVersion(contentId))) {
+      return null;
+    }
+    return ConditionalRequests.revalidated(contentService.findAllEpisodesForContent(contentId));
   }
 }
@@ -0,0 +1,117 @@
+package com.polytech.contentservice.conroller;
+
+import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.dto.profiling.JfrRecordingDto;
+import com.polytech.contentservice.dto.profiling.ServerTimingDto;
+import com.polytech.contentservice.service.auth.AuthService;
+import com.polytech.contentservice.service.profiling.JfrRecordingService;
+import com.polytech.contentservice.timing.ServerTimingSwitch;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контролер профилирования: запись JFR и заголовок Server-Timing.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/profiling")
+@Tag(
+    name = "Контролер профилирования",
+    description = "Позволяет администратору записать JFR работающего сервиса и включить заголовок Server-Timing")
+public class ProfilingController {
+  private final JfrRecordingService jfrRecordingService;
+  private final ServerTimingSwitch serverTimingSwitch;
+  private final AuthService authService;
+
+  @PostMapping("/jfr/start")
+  @Operation(
+      summary = "Начать запись JFR",
+      description = "Начинает запись с ограничением по длительности и размеру. Одновременно идёт не больше одной записи")
+  public JfrRecordingDto startRecording(
+      @Parameter(description = "Длительность записи в формате ISO-8601, по умолчанию максимальная", example = "PT5M")
+      @RequestParam(value = "duration", required = false)
+      Duration duration,
+      @RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.ADMIN);
+    return jfrRecordingService.start(duration);
+  }
+
+  @PostMapping("/jfr/stop")
+  @Operation(
+      summary = "Остановить запись JFR",
+      description = "Останавливает текущую запись, после этого её можно скачать")
+  public JfrRecordingDto stopRecording(@RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.ADMIN);
+    return jfrRecordingService.stop();
+  }
+
+  @GetMapping("/jfr")
+  @Operation(
+      summary = "Состояние записи JFR",
+      description = "Предоставляет состояние последней записи")
+  public JfrRecordingDto getRecording(@RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.ADMIN);
+    return jfrRecordingService.getRecording();
+  }
+
+  @GetMapping("/jfr/file")
+  @Operation(
+      summary = "Скачать запись JFR",
+      description = "Отдаёт остановленную запись в формате JFR для JDK Mission Control или jfr print")
+  public ResponseEntity<InputStreamResource> downloadRecording(
+      @RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.ADMIN);
+    JfrRecordingDto recording = jfrRecordingService.getRecording();
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("content-service-" + recording.id() + ".jfr")
+            .build()
+            .toString())
+        .body(new InputStreamResource(jfrRecordingService.openRecording()));
+  }
+
+  @GetMapping("/server-timing")
+  @Operation(
+      summary = "Состояние заголовка Server-Timing",
+      description = "Показывает, добавляется ли к ответам заголовок Server-Timing")
+  public ServerTimingDto getServerTiming(@RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.ADMIN);
+    return toServerTimingDto();
+  }
+
+  @PutMapping("/server-timing")
+  @Operation(
+      summary = "Включить или выключить заголовок Server-Timing",
+      description = "Переключает заголовок Server-Timing без перезапуска сервиса")
+  public ServerTimingDto updateServerTiming(
+      @Parameter(description = "Добавлять ли заголовок к ответам", example = "true")
+      @RequestParam(value = "enabled")
+      boolean enabled,
+      @RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.ADMIN);
+    serverTimingSwitch.setEnabled(enabled);
+    return toServerTimingDto();
+  }
+
+  private ServerTimingDto toServerTimingDto() {
+    return ServerTimingDto.builder()
+        .enabled(serverTimingSwitch.isEnabled())
+        .build();
+  }
+}
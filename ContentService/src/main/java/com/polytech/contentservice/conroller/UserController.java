@@ -2,8 +2,10 @@ package com.polytech.contentservice.conroller;
 
 import com.polytech.contentservice.common.Role;
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDeletionDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDto;
+import com.polytech.contentservice.dto.personallist.PersonalListItemDto;
 import com.polytech.contentservice.dto.user.detailed.UserDto;
 import com.polytech.contentservice.dto.user.login.UserLoginDto;
 import com.polytech.contentservice.dto.user.login.UserLoginResponseDto;
@@ -19,6 +21,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -118,6 +122,41 @@ public class UserController {
     return personalListService.getFavoriteMoviesByUser(userId);
   }
 
+  @GetMapping("/personal-list/{user-id}/cursor")
+  @Operation(
+      summary = "Получение понравившихся фильмов или сериалов по курсору",
+      description = "Позволяет листать персональный лист от последних добавленных к первым, "
+          + "время ответа не зависит от размера листа"
+  )
+  public CursorPageDto<PersonalListItemDto> getPersonalListPage(
+      @PathVariable(name = "user-id") UUID userId,
+      @Parameter(description = "Курсор, полученный с предыдущей страницей. Для первой страницы не передаётся")
+      @RequestParam(value = "cursor", required = false)
+      String cursor,
+      @Parameter(description = "Параметр количества отображаемых фильмов и сериалов на странице", example = "20")
+      @RequestParam(value = "page_size")
+      int pageSize,
+      @RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.USER);
+    return personalListService.getFavoriteMoviesPage(userId, cursor, pageSize);
+  }
+
+  @GetMapping("/personal-list/{user-id}/membership")
+  @Operation(
+      summary = "Проверка наличия фильмов или сериалов в персональном листе",
+      description = "Позволяет одним запросом узнать, какие фильмы или сериалы со страницы каталога "
+          + "добавлены в персональный лист"
+  )
+  public Map<UUID, Boolean> getPersonalListMembership(
+      @PathVariable(name = "user-id") UUID userId,
+      @Parameter(description = "ID фильмов или сериалов со страницы каталога")
+      @RequestParam(value = "content_id")
+      List<UUID> contentIds,
+      @RequestHeader("Authorization") String token) {
+    authService.checkTokenIsValid(token, Role.USER);
+    return personalListService.findPersonalListMembership(userId, contentIds);
+  }
+
   @PostMapping("/register")
   @Operation(
       summary = "Сохранения пользователя",
@@ -0,0 +1,68 @@
+package com.polytech.contentservice.datasource;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Позиция WAL, которую реплика должна применить, чтобы клиент текущего запроса увидел
+ * свои записи. Позиция приходит вместе с клиентом (см. {@link ReadYourWritesFilter})
+ * и растёт после каждой его закоммиченной записи. Вне HTTP запроса контекста нет,
+ * поэтому записи фоновых задач и других клиентов никого не привязывают к основной БД.
+ */
+final class ReadYourWrites {
+  private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+  private ReadYourWrites() {
+  }
+
+  /**
+   * Начало запроса клиента.
+   *
+   * @param requiredLsn позиция последней записи клиента, 0 если она неизвестна
+   * @param onWrite     получатель новой позиции, когда запись клиента её сдвинула
+   */
+  static void begin(long requiredLsn, LongConsumer onWrite) {
+    CURRENT.set(new Session(requiredLsn, onWrite));
+  }
+
+  static void end() {
+    CURRENT.remove();
+  }
+
+  static boolean isActive() {
+    return CURRENT.get() != null;
+  }
+
+  /**
+   * Позиция, которую должна применить реплика для чтения в текущем запросе.
+   *
+   * @return позиция WAL, 0 если чтение с любой реплики допустимо
+   */
+  static long requiredLsn() {
+    Session session = CURRENT.get();
+    return session == null ? 0 : session.requiredLsn;
+  }
+
+  /**
+   * Запись клиента закоммичена на основной БД.
+   *
+   * @param lsn позиция WAL основной БД после коммита
+   */
+  static void recordWrite(long lsn) {
+    Session session = CURRENT.get();
+    if (session == null || WalPosition.reached(session.requiredLsn, lsn)) {
+      return;
+    }
+    session.requiredLsn = lsn;
+    session.onWrite.accept(lsn);
+  }
+
+  private static final class Session {
+    private final LongConsumer onWrite;
+    private long requiredLsn;
+
+    private Session(long requiredLsn, LongConsumer onWrite) {
+      this.requiredLsn = requiredLsn;
+      this.onWrite = onWrite;
+    }
+  }
+}
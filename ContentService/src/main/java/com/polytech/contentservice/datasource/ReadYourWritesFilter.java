@@ -0,0 +1,66 @@
+package com.polytech.contentservice.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Перенос позиции последней записи клиента между запросами в cookie.
+ * Cookie выставляется сразу после коммита записи, до записи тела ответа, и читается
+ * любым экземпляром сервиса, поэтому клиент видит свои записи и после перехода
+ * на другой экземпляр. Cookie живёт {@link #COOKIE_MAX_AGE}: за это время реплика
+ * с допустимым отставанием успевает применить запись.
+ */
+@Slf4j
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+  public static final String COOKIE = "content_min_lsn";
+  private static final Duration COOKIE_MAX_AGE = Duration.ofMinutes(1);
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    ReadYourWrites.begin(requiredLsn(request), lsn -> writeCookie(response, lsn));
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReadYourWrites.end();
+    }
+  }
+
+  private static long requiredLsn(HttpServletRequest request) {
+    if (request.getCookies() == null) {
+      return 0;
+    }
+    for (Cookie cookie : request.getCookies()) {
+      if (COOKIE.equals(cookie.getName())) {
+        try {
+          return Long.parseUnsignedLong(cookie.getValue(), 16);
+        } catch (NumberFormatException e) {
+          log.debug("Ignoring malformed {} cookie", COOKIE);
+        }
+      }
+    }
+    return 0;
+  }
+
+  private static void writeCookie(HttpServletResponse response, long lsn) {
+    if (response.isCommitted()) {
+      return;
+    }
+    response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toHexString(lsn))
+        .path("/")
+        .httpOnly(true)
+        .sameSite("Lax")
+        .maxAge(COOKIE_MAX_AGE)
+        .build()
+        .toString());
+  }
+}
@@ -0,0 +1,66 @@
+package com.polytech.contentservice.datasource;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Периодическая проверка отставания реплик.
+ * Позиция WAL основной БД читается до опроса реплик, поэтому реплика, догнавшая эту позицию,
+ * содержит все транзакции, закоммиченные до начала проверки. Для каждой реплики запоминается
+ * позиция, до которой она применила WAL: по ней {@link ReplicaRoutingDataSource} решает,
+ * видны ли на реплике записи клиента.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+  /**
+   * Сервер не в режиме восстановления не получает WAL с основной БД, например, отдельный
+   * локальный PostgreSQL в тестах. Он считается догнавшим основную БД к началу проверки.
+   */
+  private static final String REPLICA_STATUS = """
+      select case when pg_is_in_recovery() then pg_last_wal_replay_lsn()
+                  else cast(? as pg_lsn) end::text as replayed_lsn,
+             not pg_is_in_recovery()
+                 or coalesce(pg_last_wal_replay_lsn() >= cast(? as pg_lsn), false) as caught_up,
+             coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) as lag_seconds
+      """;
+
+  private final ReplicaRoutingDataSource routingDataSource;
+  private final JdbcTemplate primaryJdbcTemplate;
+
+  public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource) {
+    this.routingDataSource = routingDataSource;
+    this.primaryJdbcTemplate = new JdbcTemplate(routingDataSource.getPrimary());
+  }
+
+  /**
+   * Проверка всех реплик.
+   * Если основная БД недоступна, состояние реплик не меняется.
+   */
+  @Scheduled(fixedDelayString = "${content.datasource.read-replicas.check-interval:PT1S}")
+  public void check() {
+    String primaryLsn;
+    try {
+      primaryLsn = primaryJdbcTemplate.queryForObject(WalPosition.PRIMARY_QUERY, String.class);
+    } catch (DataAccessException e) {
+      log.warn("Failed to read primary WAL position", e);
+      return;
+    }
+    for (ReplicaState replica : routingDataSource.getReplicas()) {
+      try {
+        new JdbcTemplate(replica.getDataSource()).query(REPLICA_STATUS, rs -> {
+          boolean caughtUp = rs.getBoolean("caught_up");
+          Duration lag = caughtUp
+              ? Duration.ZERO
+              : Duration.ofMillis(Math.round(rs.getDouble("lag_seconds") * 1000));
+          replica.update(lag, WalPosition.parse(rs.getString("replayed_lsn")));
+        }, primaryLsn, primaryLsn);
+      } catch (DataAccessException e) {
+        log.warn("Replica {} is unavailable", replica.getName(), e);
+        replica.markUnavailable();
+      }
+    }
+  }
+}
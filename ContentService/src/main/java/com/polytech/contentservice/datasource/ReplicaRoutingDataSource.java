@@ -0,0 +1,135 @@
+package com.polytech.contentservice.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Выбор между основной БД и репликами для каждого соединения.
+ * Соединения транзакций {@code readOnly = true} берутся с реплики, остальные с основной БД.
+ * Чтобы выбор происходил после начала транзакции, источник оборачивается
+ * в {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ *
+ * <p>После коммита пишущей транзакции в HTTP запросе запоминается позиция WAL основной БД,
+ * и этот клиент читает только с реплик, которые, по данным {@link ReplicaLagMonitor}, её уже
+ * применили (см. {@link ReadYourWrites}). Записи других клиентов и фоновых задач на выбор
+ * реплики не влияют. Если подходящей реплики нет или она не отдала соединение,
+ * чтение идёт на основную БД.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+  private final DataSource primary;
+  private final List<ReplicaState> replicas;
+  private final Duration maxLag;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, List<ReplicaState> replicas,
+                                  Duration maxLag) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.maxLag = maxLag;
+  }
+
+  public DataSource getPrimary() {
+    return primary;
+  }
+
+  public List<ReplicaState> getReplicas() {
+    return replicas;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      Connection connection = getReplicaConnection();
+      if (connection != null) {
+        return connection;
+      }
+    } else {
+      registerWrite();
+    }
+    return primary.getConnection();
+  }
+
+  /**
+   * Соединение с явно переданными учётными данными. Они относятся к основной БД,
+   * поэтому такое соединение всегда берётся с неё.
+   */
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return primary.getConnection(username, password);
+  }
+
+  /**
+   * Закрытие пулов реплик. Основная БД закрывается её владельцем.
+   */
+  @Override
+  public void close() {
+    for (ReplicaState replica : replicas) {
+      if (replica.getDataSource() instanceof Closeable closeable) {
+        try {
+          closeable.close();
+        } catch (IOException e) {
+          log.warn("Failed to close replica {}", replica.getName(), e);
+        }
+      }
+    }
+  }
+
+  private Connection getReplicaConnection() {
+    long requiredLsn = ReadYourWrites.requiredLsn();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(replicas.size(), 1));
+    for (int i = 0; i < replicas.size(); i++) {
+      ReplicaState replica = replicas.get((start + i) % replicas.size());
+      if (!replica.isReadable(maxLag, requiredLsn)) {
+        continue;
+      }
+      try {
+        return replica.getDataSource().getConnection();
+      } catch (SQLException e) {
+        log.warn("Replica {} is unavailable, reading from the next one", replica.getName(), e);
+        replica.markUnavailable();
+      }
+    }
+    return null;
+  }
+
+  private void registerWrite() {
+    if (!ReadYourWrites.isActive() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        ReadYourWrites.recordWrite(currentPrimaryLsn());
+      }
+    });
+  }
+
+  /**
+   * Позиция WAL основной БД. Если её не удалось прочитать, клиент читает с основной БД,
+   * пока не истечёт срок его позиции.
+   */
+  private long currentPrimaryLsn() {
+    try (Connection connection = primary.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(WalPosition.PRIMARY_QUERY)) {
+      resultSet.next();
+      return WalPosition.parse(resultSet.getString(1));
+    } catch (SQLException e) {
+      log.warn("Failed to read primary WAL position after write", e);
+      return WalPosition.MAX;
+    }
+  }
+}
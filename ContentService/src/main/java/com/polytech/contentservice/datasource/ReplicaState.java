@@ -0,0 +1,63 @@
+package com.polytech.contentservice.datasource;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Реплика и её последнее известное состояние.
+ * Пока реплика ни разу не проверена, она считается недоступной.
+ */
+public class ReplicaState {
+  private final String name;
+  private final DataSource dataSource;
+  private volatile boolean available;
+  private volatile Duration lag = Duration.ZERO;
+  private volatile long replayedLsn;
+
+  public ReplicaState(String name, DataSource dataSource) {
+    this.name = name;
+    this.dataSource = dataSource;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  public Duration getLag() {
+    return lag;
+  }
+
+  /**
+   * Обновление состояния по результату проверки.
+   *
+   * @param lag         отставание применения WAL
+   * @param replayedLsn позиция WAL, до которой реплика применила записи основной БД
+   */
+  void update(Duration lag, long replayedLsn) {
+    this.lag = lag;
+    this.replayedLsn = replayedLsn;
+    this.available = true;
+  }
+
+  void markUnavailable() {
+    this.available = false;
+  }
+
+  /**
+   * Можно ли читать с реплики.
+   *
+   * @param maxLag      допустимое отставание
+   * @param requiredLsn позиция WAL последней записи клиента, 0 если клиент ничего не писал
+   * @return true, если реплика доступна, отстаёт не больше допустимого и уже содержит
+   *     все записи клиента
+   */
+  boolean isReadable(Duration maxLag, long requiredLsn) {
+    return available
+        && lag.compareTo(maxLag) <= 0
+        && WalPosition.reached(replayedLsn, requiredLsn);
+  }
+}
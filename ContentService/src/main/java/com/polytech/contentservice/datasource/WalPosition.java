@@ -0,0 +1,43 @@
+package com.polytech.contentservice.datasource;
+
+/**
+ * Позиция в WAL PostgreSQL (pg_lsn) как беззнаковое 64-битное число.
+ */
+final class WalPosition {
+  /**
+   * Текущая позиция записи WAL на основной БД.
+   */
+  static final String PRIMARY_QUERY = "select pg_current_wal_lsn()::text";
+  /**
+   * Наибольшая позиция: ни одна реплика её не достигла.
+   */
+  static final long MAX = -1L;
+
+  private WalPosition() {
+  }
+
+  /**
+   * Разбор текстового представления pg_lsn.
+   *
+   * @param lsn позиция в формате {@code 16/B374D848}, null для неизвестной позиции
+   * @return позиция, 0 для null
+   */
+  static long parse(String lsn) {
+    if (lsn == null) {
+      return 0;
+    }
+    int separator = lsn.indexOf('/');
+    if (separator < 0) {
+      throw new IllegalArgumentException("Invalid WAL position: " + lsn);
+    }
+    return Long.parseUnsignedLong(lsn.substring(0, separator), 16) << 32
+        | Long.parseUnsignedLong(lsn.substring(separator + 1), 16);
+  }
+
+  /**
+   * Содержит ли позиция {@code replayed} все записи до позиции {@code required}.
+   */
+  static boolean reached(long replayed, long required) {
+    return Long.compareUnsigned(replayed, required) >= 0;
+  }
+}
@@ -1,5 +1,6 @@
 package com.polytech.contentservice.dto.content;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.polytech.contentservice.common.AgeRestriction;
 import com.polytech.contentservice.common.Category;
@@ -25,8 +26,9 @@ import lombok.Builder;
  * @param thumbnail      Картинка на заставке к видео
  * @param publisher      Издатель произведения
  * @param castMembers    Люди, принимавшие участие в съёмке данного произведения
+ * @param inPersonalList Добавлен ли контент в персональный лист пользователя, только если он запрошен
  */
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "Сущность для манипулирования основаными данными фильмов и сериалов")
 public record ContentDto(
     @Schema(description = "Идентификатор сущности контента", example = "1b12236a-aca9-47bc-95ac-f3978836de2c")
@@ -57,6 +59,12 @@ public record ContentDto(
     String publisher,
     @JsonProperty(value = "cast_members")
     @Schema(description = "Люди, принимавшие участие в съёмке данного произведения")
-    Set<CastMemberDto> castMembers
+    Set<CastMemberDto> castMembers,
+    @JsonProperty(value = "in_personal_list")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(
+        description = "Добавлен ли контент в персональный лист пользователя, только если он запрошен",
+        accessMode = Schema.AccessMode.READ_ONLY)
+    Boolean inPersonalList
 ) {
 }
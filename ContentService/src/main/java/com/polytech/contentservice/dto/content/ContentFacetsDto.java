@@ -0,0 +1,29 @@
+package com.polytech.contentservice.dto.content;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Genre;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * Количество фильмов и сериалов для значений фильтров поиска.
+ * Счётчики каждого фильтра учитывают остальные выбранные фильтры, но не его собственное значение.
+ *
+ * @param genres          Количество по жанрам
+ * @param ageRestrictions Количество по возрастным ограничениям
+ * @param years           Количество по годам создания, от новых к старым
+ */
+@Builder
+@Schema(description = "Количество фильмов и сериалов для значений фильтров поиска")
+public record ContentFacetsDto(
+    @Schema(description = "Количество по жанрам", example = "{\"DRAMA\": 12, \"BLOCKBUSTER\": 3}")
+    Map<Genre, Long> genres,
+    @Schema(description = "Количество по возрастным ограничениям", example = "{\"EIGHTEEN_PLUS\": 7}")
+    @JsonProperty("age_restrictions")
+    Map<AgeRestriction, Long> ageRestrictions,
+    @Schema(description = "Количество по годам создания, от новых к старым", example = "{\"2024\": 5, \"2023\": 10}")
+    Map<Integer, Long> years
+) {
+}
@@ -0,0 +1,20 @@
+package com.polytech.contentservice.dto.content;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * Ошибка загрузки одной строки файла.
+ *
+ * @param line    Номер строки, начиная с единицы
+ * @param message Причина, по которой строка не была загружена
+ */
+@Builder
+@Schema(description = "Ошибка загрузки одной строки файла")
+public record ContentImportErrorDto(
+    @Schema(description = "Номер строки, начиная с единицы", example = "42")
+    long line,
+    @Schema(description = "Причина, по которой строка не была загружена", example = "Title is required")
+    String message
+) {
+}
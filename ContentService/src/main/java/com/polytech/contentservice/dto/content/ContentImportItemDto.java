@@ -0,0 +1,22 @@
+package com.polytech.contentservice.dto.content;
+
+import com.polytech.contentservice.dto.episode.EpisodeDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Строка файла массовой загрузки: фильм или сериал вместе с эпизодами.
+ *
+ * @param content  Фильм или сериал вместе с участниками съёмок
+ * @param episodes Эпизоды фильма или сериала
+ */
+@Builder
+@Schema(description = "Строка файла массовой загрузки: фильм или сериал вместе с эпизодами")
+public record ContentImportItemDto(
+    @Schema(description = "Фильм или сериал вместе с участниками съёмок")
+    ContentDto content,
+    @Schema(description = "Эпизоды фильма или сериала")
+    List<EpisodeDto> episodes
+) {
+}
@@ -0,0 +1,24 @@
+package com.polytech.contentservice.dto.content;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Отчёт о массовой загрузке каталога.
+ *
+ * @param imported Количество загруженных фильмов и сериалов
+ * @param failed   Количество строк, которые не удалось загрузить
+ * @param errors   Ошибки по строкам, не больше настроенного лимита
+ */
+@Builder
+@Schema(description = "Отчёт о массовой загрузке каталога")
+public record ContentImportResultDto(
+    @Schema(description = "Количество загруженных фильмов и сериалов", example = "998")
+    long imported,
+    @Schema(description = "Количество строк, которые не удалось загрузить", example = "2")
+    long failed,
+    @Schema(description = "Ошибки по строкам, не больше настроенного лимита")
+    List<ContentImportErrorDto> errors
+) {
+}
@@ -2,6 +2,7 @@ package com.polytech.contentservice.dto.content;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.ContentSearchMode;
 import com.polytech.contentservice.common.Genre;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -14,6 +15,7 @@ import lombok.Builder;
  * @param ageRestriction Возрастное ограничение
  * @param pageSize Параметр количества отображаемых фильмов и сериалов на странице
  * @param pageNumber Параметр номера страницы
+ * @param searchMode Способ поиска по тексту, по умолчанию поиск подстроки в названии
  */
 @Builder
 @Schema(description = "Сущность для фильтрации контента")
@@ -32,6 +34,9 @@ public record ContentSearchDto(
     Integer pageSize,
     @Schema(description = "Параметр номера страницы", example = "0")
     @JsonProperty("page_number")
-    Integer pageNumber
+    Integer pageNumber,
+    @Schema(description = "Способ поиска по тексту, по умолчанию поиск подстроки в названии", example = "FULL_TEXT")
+    @JsonProperty("search_mode")
+    ContentSearchMode searchMode
 ) {
 }
@@ -0,0 +1,23 @@
+package com.polytech.contentservice.dto.content;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * Страница результатов поиска вместе со счётчиками фильтров.
+ * Сериализуется так же, как обычная страница, с дополнительным полем facets.
+ */
+public class ContentSearchPageDto extends PageImpl<ContentDto> {
+  private final transient ContentFacetsDto facets;
+
+  public ContentSearchPageDto(Page<ContentDto> page, ContentFacetsDto facets) {
+    super(page.getContent(), page.getPageable(), page.getTotalElements());
+    this.facets = facets;
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public ContentFacetsDto getFacets() {
+    return facets;
+  }
+}
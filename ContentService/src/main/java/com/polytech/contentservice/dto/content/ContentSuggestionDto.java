@@ -0,0 +1,27 @@
+package com.polytech.contentservice.dto.content;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Подсказка при вводе названия фильма или сериала.
+ *
+ * @param id        Идентификатор сущности контента
+ * @param title     Название видео
+ * @param year      Год создания
+ * @param thumbnail Картинка на заставке к видео
+ */
+@Builder
+@Schema(description = "Подсказка при вводе названия фильма или сериала")
+public record ContentSuggestionDto(
+    @Schema(description = "Идентификатор сущности контента", example = "1b12236a-aca9-47bc-95ac-f3978836de2c")
+    UUID id,
+    @Schema(description = "Название видео", example = "Баки Ханма")
+    String title,
+    @Schema(description = "Год создания", example = "2000")
+    Integer year,
+    @Schema(description = "Картинка на заставке к видео", example = "https://www.kinopoisk.ru/film/1125417/posters/")
+    String thumbnail
+) {
+}
@@ -0,0 +1,31 @@
+package com.polytech.contentservice.dto.page;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Страница, полученная по курсору.
+ *
+ * @param items            Элементы страницы
+ * @param nextCursor       Курсор для получения следующей страницы, отсутствует на последней странице
+ * @param approximateTotal Приблизительное общее количество элементов, если его можно получить дёшево
+ * @param <T>              Тип элементов страницы
+ */
+@Builder
+@Schema(description = "Страница, полученная по курсору")
+public record CursorPageDto<T>(
+    @Schema(description = "Элементы страницы")
+    List<T> items,
+    @Schema(
+        description = "Курсор для получения следующей страницы, отсутствует на последней странице",
+        example = "MjAyNC0xMC0wMVQxMjowMDp8MWIxMjIzNmEtYWNhOS00N2JjLTk1YWMtZjM5Nzg4MzZkZTJj"
+    )
+    @JsonProperty("next_cursor")
+    String nextCursor,
+    @Schema(description = "Приблизительное общее количество элементов", example = "1000")
+    @JsonProperty("approximate_total")
+    Long approximateTotal
+) {
+}
@@ -0,0 +1,51 @@
+package com.polytech.contentservice.dto.personallist;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.Genre;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Краткое описание фильма или сериала из персонального листа.
+ *
+ * @param personalListId ИД записи персонального листа
+ * @param contentId      ИД контента
+ * @param title          Название видео
+ * @param year           Год создания
+ * @param genre          Жанр видео
+ * @param category       Категория контента
+ * @param ageRestriction Возрастные ограничения для просмотра
+ * @param thumbnail      Картинка на заставке к видео
+ * @param addedDate      Дата добавления в персональный лист
+ */
+@Builder
+@Schema(description = "Краткое описание фильма или сериала из персонального листа")
+public record PersonalListItemDto(
+    @Schema(description = "ИД записи персонального листа", example = "cfb4e3bc-6bb6-46d8-943e-b32c0056e37f")
+    @JsonProperty("personal_list_id")
+    UUID personalListId,
+    @Schema(description = "ИД контента", example = "f884bb0c-225e-4a6d-af6e-f87ba6c3600c")
+    @JsonProperty("content_id")
+    UUID contentId,
+    @Schema(description = "Название видео", example = "Баки Ханма")
+    String title,
+    @Schema(description = "Год создания", example = "2000")
+    Integer year,
+    @Schema(description = "Жанр видео", example = "ACTION_FILM")
+    Genre genre,
+    @Schema(description = "Категория контента", example = "ANIMATED_SERIES")
+    Category category,
+    @Schema(description = "Возрастные ограничения для просмотра", example = "EIGHTEEN_PLUS")
+    @JsonProperty("age_restriction")
+    AgeRestriction ageRestriction,
+    @Schema(description = "Картинка на заставке к видео", example = "https://www.kinopoisk.ru/film/1125417/posters/")
+    String thumbnail,
+    @Schema(description = "Дата добавления в персональный лист", example = "2024-11-03T12:00:00")
+    @JsonProperty("added_date")
+    LocalDateTime addedDate
+) {
+}
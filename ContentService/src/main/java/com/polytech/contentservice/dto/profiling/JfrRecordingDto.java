@@ -0,0 +1,33 @@
+package com.polytech.contentservice.dto.profiling;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * Состояние записи JFR.
+ *
+ * @param id        Идентификатор записи в JVM
+ * @param state     Состояние записи
+ * @param startTime Момент начала записи
+ * @param duration  Длительность, после которой запись остановится сама
+ * @param size      Размер записанных данных в байтах
+ */
+@Builder
+@Schema(description = "Состояние записи JFR")
+public record JfrRecordingDto(
+    @Schema(description = "Идентификатор записи в JVM", example = "3")
+    long id,
+    @Schema(description = "Состояние записи", example = "RUNNING")
+    String state,
+    @JsonProperty("start_time")
+    @Schema(description = "Момент начала записи", example = "2024-11-03T12:00:00Z")
+    Instant startTime,
+    @Schema(description = "Длительность, после которой запись остановится сама", example = "PT5M")
+    Duration duration,
+    @Schema(description = "Размер записанных данных в байтах", example = "1048576")
+    long size
+) {
+}
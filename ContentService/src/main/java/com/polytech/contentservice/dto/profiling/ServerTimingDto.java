@@ -0,0 +1,17 @@
+package com.polytech.contentservice.dto.profiling;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * Состояние заголовка Server-Timing.
+ *
+ * @param enabled Добавляется ли заголовок к ответам
+ */
+@Builder
+@Schema(description = "Состояние заголовка Server-Timing")
+public record ServerTimingDto(
+    @Schema(description = "Добавляется ли заголовок к ответам", example = "true")
+    boolean enabled
+) {
+}
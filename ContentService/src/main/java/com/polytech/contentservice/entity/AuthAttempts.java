@@ -1,8 +1,8 @@
 package com.polytech.contentservice.entity;
 
+import com.polytech.contentservice.entity.id.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -12,7 +12,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.UuidGenerator;
 
 /**
  * Сущность для попыток авторизации.
@@ -26,8 +25,7 @@ import org.hibernate.annotations.UuidGenerator;
 @NoArgsConstructor
 public class AuthAttempts {
   @Id
-  @UuidGenerator
-  @GeneratedValue
+  @UuidV7
   @Column(name = "auth_attempt_id")
   private UUID authAttemptsId;
   private String ip;
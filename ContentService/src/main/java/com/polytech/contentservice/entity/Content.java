@@ -6,6 +6,7 @@ import com.polytech.contentservice.common.Genre;
 import com.polytech.contentservice.common.Quality;
 import com.polytech.contentservice.common.converter.AgeRestrictionConverter;
 import com.polytech.contentservice.common.converter.QualityConverter;
+import com.polytech.contentservice.entity.id.UuidV7;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -13,7 +14,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
@@ -28,7 +28,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
-import org.hibernate.annotations.UuidGenerator;
 
 /**
  * Сущность content.
@@ -42,8 +41,7 @@ import org.hibernate.annotations.UuidGenerator;
 @EqualsAndHashCode
 public class Content {
   @Id
-  @UuidGenerator
-  @GeneratedValue
+  @UuidV7
   @Column(name = "content_id")
   private UUID id;
 
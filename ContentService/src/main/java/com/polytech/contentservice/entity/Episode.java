@@ -1,23 +1,23 @@
 package com.polytech.contentservice.entity;
 
 import com.polytech.contentservice.common.EpisodeStatus;
+import com.polytech.contentservice.entity.id.UuidV7;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.UuidGenerator;
 
 /**
  * Сущность episode.
@@ -30,8 +30,7 @@ import org.hibernate.annotations.UuidGenerator;
 @NoArgsConstructor
 public class Episode {
   @Id
-  @GeneratedValue
-  @UuidGenerator
+  @UuidV7
   @Column(name = "episode_id")
   private UUID id;
 
@@ -51,6 +50,9 @@ public class Episode {
   @Column(name = "season_num")
   private Integer seasonNumber;
 
+  @Column(name = "updated_date")
+  private LocalDateTime updatedDate;
+
   @JoinColumn(name = "content_id")
   @ManyToOne(fetch = FetchType.LAZY)
   private Content content;
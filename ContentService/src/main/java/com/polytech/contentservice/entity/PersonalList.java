@@ -1,8 +1,8 @@
 package com.polytech.contentservice.entity;
 
+import com.polytech.contentservice.entity.id.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -14,7 +14,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.UuidGenerator;
 
 /**
  * Сущность personal_list.
@@ -28,8 +27,7 @@ import org.hibernate.annotations.UuidGenerator;
 @NoArgsConstructor
 public class PersonalList {
   @Id
-  @GeneratedValue
-  @UuidGenerator
+  @UuidV7
   @Column(name = "personal_list_id")
   private UUID id;
 
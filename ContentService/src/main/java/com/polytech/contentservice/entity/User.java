@@ -1,12 +1,12 @@
 package com.polytech.contentservice.entity;
 
 import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.entity.id.UuidV7;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -19,7 +19,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.UuidGenerator;
 
 /**
  * Сущность user.
@@ -33,8 +32,7 @@ import org.hibernate.annotations.UuidGenerator;
 @Table(name = "`user`")
 public class User {
   @Id
-  @GeneratedValue
-  @UuidGenerator
+  @UuidV7
   @Column(name = "user_id")
   private UUID id;
   private String login;
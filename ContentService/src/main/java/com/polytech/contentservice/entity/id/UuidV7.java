@@ -0,0 +1,21 @@
+package com.polytech.contentservice.entity.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Генерация идентификатора сущности в виде UUIDv7 (RFC 9562).
+ * Такие идентификаторы упорядочены по времени создания, поэтому новые строки
+ * дописываются в конец B-tree индексов, а не в случайные страницы, как при UUIDv4.
+ * Используется вместо пары {@code @GeneratedValue} и {@code @UuidGenerator}.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,59 @@
+package com.polytech.contentservice.entity.id;
+
+import java.lang.reflect.Member;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * Генератор UUIDv7 для {@link UuidV7}.
+ * Старшие 48 бит - unix time в миллисекундах, следующие 12 бит (rand_a) - счётчик внутри
+ * миллисекунды, поэтому идентификаторы монотонно растут и в пределах одного процесса.
+ * Младшие 62 бита случайные. Колонки остаются типа uuid, так что уже существующие
+ * UUIDv4 идентификаторы продолжают работать без миграции.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final AtomicLong LAST_STATE = new AtomicLong();
+
+  public UuidV7Generator(UuidV7 config, Member idMember,
+                         CustomIdGeneratorCreationContext creationContext) {
+  }
+
+  /**
+   * Получение нового UUIDv7.
+   * Если счётчик миллисекунды переполнился, время заимствуется у следующей миллисекунды,
+   * как допускает RFC 9562, чтобы не нарушать монотонность.
+   *
+   * @return идентификатор, больший всех ранее выданных этим процессом
+   */
+  public static UUID nextUuid() {
+    long candidate = System.currentTimeMillis() << COUNTER_BITS;
+    long state = LAST_STATE.updateAndGet(last -> candidate > last ? candidate : last + 1);
+    long mostSigBits = (state >>> COUNTER_BITS) << 16 | VERSION | state & COUNTER_MASK;
+    long leastSigBits = RANDOM.nextLong() & RANDOM_MASK | VARIANT;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner,
+                         Object currentValue, EventType eventType) {
+    return nextUuid();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -0,0 +1,10 @@
+package com.polytech.contentservice.exception;
+
+/**
+ * Внешний сервис, от которого зависит запрос, временно недоступен.
+ */
+public class ServiceUnavailableException extends MovifyException {
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -10,11 +10,17 @@ import com.polytech.contentservice.service.content.ContentService;
 import com.polytech.contentservice.service.episode.EpisodeService;
 import com.polytech.contentservice.service.user.UserService;
 import com.content.ContentServiceGrpc;
+import com.content.SetEpisodeVideoUrlRequest;
+import com.content.SetEpisodesVideoUrlRequest;
+import com.content.SetEpisodesVideoUrlResponse;
 import com.content.UserRoleRequest;
 import com.content.UserRoleResponse;
 import io.grpc.protobuf.StatusProto;
 import io.grpc.stub.StreamObserver;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.lognet.springboot.grpc.GRpcService;
@@ -68,4 +74,33 @@ public class ContentGrpcController extends ContentServiceGrpc.ContentServiceImpl
     responseObserver.onNext(com.google.protobuf.Empty.getDefaultInstance());
     responseObserver.onCompleted();
   }
+
+  @Override
+  public void setEpisodesVideoUrl(SetEpisodesVideoUrlRequest request,
+                                  StreamObserver<SetEpisodesVideoUrlResponse> responseObserver) {
+    Map<UUID, EpisodeDto> episodes = new LinkedHashMap<>();
+    try {
+      for (SetEpisodeVideoUrlRequest episode : request.getEpisodesList()) {
+        episodes.put(UUID.fromString(episode.getEpisodeId()),
+            EpisodeDto.builder()
+                .s3BucketName(episode.getUrl())
+                .status(EpisodeStatus.valueOf(episode.getStatus()))
+                .build());
+      }
+    } catch (IllegalArgumentException e) {
+      Status status = Status.newBuilder()
+          .setCode(Code.INVALID_ARGUMENT.getNumber())
+          .setMessage("Invalid episode id or status: " + e.getMessage())
+          .build();
+      responseObserver.onError(StatusProto.toStatusException(status));
+      return;
+    }
+    Set<UUID> notFoundEpisodes = episodeService.updateEpisodesInfo(episodes);
+    responseObserver.onNext(
+        SetEpisodesVideoUrlResponse.newBuilder()
+            .addAllNotFoundEpisodeIds(notFoundEpisodes.stream().map(UUID::toString).toList())
+            .build()
+    );
+    responseObserver.onCompleted();
+  }
 }
@@ -0,0 +1,30 @@
+package com.polytech.contentservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Одна попытка вызова сервиса авторизации по gRPC.
+ * Повтор или хеджированная попытка дают отдельное событие, вызов целиком — несколько событий.
+ */
+@Name("com.polytech.contentservice.AuthGrpcCall")
+@Label("Auth gRPC Call")
+@Category({"Movify", "ContentService"})
+@Description("One attempt of a call to AuthService over gRPC; retries and hedges are separate events")
+public class AuthGrpcCallEvent extends Event {
+  @Label("Method")
+  public String method;
+
+  @Label("Status")
+  public String status;
+
+  @Label("Previous Attempts")
+  @Description("Attempts of the same call started before this one")
+  public int previousAttempts;
+
+  @Label("Transparent Retry")
+  public boolean transparentRetry;
+}
@@ -0,0 +1,25 @@
+package com.polytech.contentservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Обращение к локальному кэшу каталога. Время промаха включает загрузку из БД.
+ */
+@Name("com.polytech.contentservice.CacheLookup")
+@Label("Cache Lookup")
+@Category({"Movify", "ContentService"})
+@Description("Catalog cache lookup, a miss includes loading from the database")
+public class CacheLookupEvent extends Event {
+  @Label("Cache")
+  public String cache;
+
+  @Label("Content ID")
+  public String contentId;
+
+  @Label("Hit")
+  public boolean hit;
+}
@@ -0,0 +1,40 @@
+package com.polytech.contentservice.jfr;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.function.Function;
+
+/**
+ * Обращения к кэшам Caffeine с записью {@link CacheLookupEvent}.
+ */
+public final class CacheLookups {
+  private CacheLookups() {
+  }
+
+  /**
+   * Аналог {@link Cache#get(Object, Function)}, записывающий событие обращения.
+   *
+   * @param cache     кэш
+   * @param cacheName имя кэша в событии
+   * @param key       ключ
+   * @param contentId идентификатор контента для события или null, если ключ не контент
+   * @param loader    загрузка значения при промахе
+   * @return значение из кэша или загруженное
+   */
+  public static <K, V> V get(Cache<K, V> cache, String cacheName, K key, String contentId,
+                             Function<? super K, ? extends V> loader) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    event.hit = true;
+    V value = cache.get(key, missingKey -> {
+      event.hit = false;
+      return loader.apply(missingKey);
+    });
+    event.end();
+    if (event.shouldCommit()) {
+      event.cache = cacheName;
+      event.contentId = contentId;
+      event.commit();
+    }
+    return value;
+  }
+}
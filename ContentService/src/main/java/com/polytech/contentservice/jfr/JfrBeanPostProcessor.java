@@ -0,0 +1,44 @@
+package com.polytech.contentservice.jfr;
+
+import java.util.List;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Подключение JFR событий к репозиториям Spring Data и мапперам.
+ * Репозитории получают перехватчик через свою фабрику, мапперы оборачиваются в прокси,
+ * а если бин уже прокси, перехватчик добавляется в него.
+ */
+public class JfrBeanPostProcessor implements BeanPostProcessor {
+  private final List<Class<?>> mapperTypes;
+
+  public JfrBeanPostProcessor(List<Class<?>> mapperTypes) {
+    this.mapperTypes = List.copyOf(mapperTypes);
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+      factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+          (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+              new JfrRepositoryInterceptor(repositoryInformation.getRepositoryInterface()))));
+    }
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (mapperTypes.stream().noneMatch(type -> type.isInstance(bean))) {
+      return bean;
+    }
+    if (bean instanceof Advised advised && !advised.isFrozen()) {
+      advised.addAdvice(new JfrMapperInterceptor());
+      return bean;
+    }
+    ProxyFactory proxyFactory = new ProxyFactory(bean);
+    proxyFactory.addAdvice(new JfrMapperInterceptor());
+    return proxyFactory.getProxy(bean.getClass().getClassLoader());
+  }
+}
@@ -0,0 +1,53 @@
+package com.polytech.contentservice.jfr;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientStreamTracer;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Событие {@link AuthGrpcCallEvent} на каждую попытку исходящего вызова.
+ * Политика повторов и хеджирования стоит ниже перехватчиков канала, поэтому попытки
+ * отслеживаются через {@link ClientStreamTracer}: канал создаёт его для каждого потока.
+ * Событие завершается в потоке, закрывшем попытку.
+ */
+public class JfrGrpcClientInterceptor implements ClientInterceptor {
+  @Override
+  public <Q, R> ClientCall<Q, R> interceptCall(MethodDescriptor<Q, R> method,
+                                               CallOptions callOptions, Channel next) {
+    return next.newCall(method, callOptions.withStreamTracerFactory(
+        new AttemptTracerFactory(method.getFullMethodName())));
+  }
+
+  private static final class AttemptTracerFactory extends ClientStreamTracer.Factory {
+    private final String method;
+
+    private AttemptTracerFactory(String method) {
+      this.method = method;
+    }
+
+    @Override
+    public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info,
+                                                    Metadata headers) {
+      AuthGrpcCallEvent event = new AuthGrpcCallEvent();
+      event.begin();
+      return new ClientStreamTracer() {
+        @Override
+        public void streamClosed(Status status) {
+          event.end();
+          if (event.shouldCommit()) {
+            event.method = method;
+            event.status = status.getCode().name();
+            event.previousAttempts = info.getPreviousAttempts();
+            event.transparentRetry = info.isTransparentRetry();
+            event.commit();
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.polytech.contentservice.jfr;
+
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.Episode;
+import java.util.UUID;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * Событие {@link MapperConversionEvent} на каждый вызов маппера.
+ * Идентификаторы берутся из первого аргумента, а если в нём их нет, из результата.
+ */
+public class JfrMapperInterceptor implements MethodInterceptor {
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    MapperConversionEvent event = new MapperConversionEvent();
+    event.begin();
+    Object result = invocation.proceed();
+    event.end();
+    if (event.shouldCommit()) {
+      Object source = invocation.getArguments().length > 0
+          ? invocation.getArguments()[0]
+          : null;
+      event.mapper = AopUtils.getTargetClass(invocation.getThis()).getSimpleName();
+      event.method = invocation.getMethod().getName();
+      event.contentId = firstNonNull(contentId(source), contentId(result));
+      event.episodeId = firstNonNull(episodeId(source), episodeId(result));
+      event.commit();
+    }
+    return result;
+  }
+
+  private static String contentId(Object value) {
+    UUID id = null;
+    if (value instanceof Content content) {
+      id = content.getId();
+    } else if (value instanceof ContentDto content) {
+      id = content.id();
+    } else if (value instanceof Episode episode && episode.getContent() != null) {
+      id = episode.getContent().getId();
+    } else if (value instanceof EpisodeDto episode) {
+      id = episode.contentId();
+    }
+    return id == null ? null : id.toString();
+  }
+
+  private static String episodeId(Object value) {
+    UUID id = null;
+    if (value instanceof Episode episode) {
+      id = episode.getId();
+    } else if (value instanceof EpisodeDto episode) {
+      id = episode.id();
+    }
+    return id == null ? null : id.toString();
+  }
+
+  private static String firstNonNull(String first, String second) {
+    return first != null ? first : second;
+  }
+}
@@ -0,0 +1,42 @@
+package com.polytech.contentservice.jfr;
+
+import java.util.UUID;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Событие {@link RepositoryQueryEvent} на каждый вызов метода репозитория.
+ */
+public class JfrRepositoryInterceptor implements MethodInterceptor {
+  private final String repository;
+
+  public JfrRepositoryInterceptor(Class<?> repositoryInterface) {
+    this.repository = repositoryInterface.getSimpleName();
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    RepositoryQueryEvent event = new RepositoryQueryEvent();
+    event.begin();
+    try {
+      return invocation.proceed();
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.repository = repository;
+        event.method = invocation.getMethod().getName();
+        event.entityId = firstUuid(invocation.getArguments());
+        event.commit();
+      }
+    }
+  }
+
+  private static String firstUuid(Object[] arguments) {
+    for (Object argument : arguments) {
+      if (argument instanceof UUID id) {
+        return id.toString();
+      }
+    }
+    return null;
+  }
+}
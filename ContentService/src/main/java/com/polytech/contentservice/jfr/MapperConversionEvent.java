@@ -0,0 +1,28 @@
+package com.polytech.contentservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Преобразование между сущностью и DTO.
+ */
+@Name("com.polytech.contentservice.MapperConversion")
+@Label("Mapper Conversion")
+@Category({"Movify", "ContentService"})
+@Description("Conversion between entity and DTO")
+public class MapperConversionEvent extends Event {
+  @Label("Mapper")
+  public String mapper;
+
+  @Label("Method")
+  public String method;
+
+  @Label("Content ID")
+  public String contentId;
+
+  @Label("Episode ID")
+  public String episodeId;
+}
@@ -0,0 +1,26 @@
+package com.polytech.contentservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Вызов метода Spring Data репозитория.
+ */
+@Name("com.polytech.contentservice.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Movify", "ContentService"})
+@Description("Spring Data repository method call")
+public class RepositoryQueryEvent extends Event {
+  @Label("Repository")
+  public String repository;
+
+  @Label("Method")
+  public String method;
+
+  @Label("Entity ID")
+  @Description("First UUID argument: content, episode or user id depending on the repository")
+  public String entityId;
+}
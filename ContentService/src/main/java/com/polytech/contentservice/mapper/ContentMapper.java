@@ -1,7 +1,9 @@
 package com.polytech.contentservice.mapper;
 
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.content.ContentSuggestionDto;
 import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.repository.ContentTitleSuggestion;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +53,15 @@ public class ContentMapper {
         .build();
   }
 
+  public ContentSuggestionDto convertToContentSuggestionDto(ContentTitleSuggestion suggestion) {
+    return ContentSuggestionDto.builder()
+        .id(suggestion.getId())
+        .title(suggestion.getTitle())
+        .year(suggestion.getYear())
+        .thumbnail(suggestion.getThumbnail())
+        .build();
+  }
+
   public List<ContentDto> convertToListOfContentDto(Page<Content> contents) {
     return contents.stream()
         .map(this::convertToContentDto)
@@ -3,13 +3,14 @@ package com.polytech.contentservice.mapper;
 import com.polytech.contentservice.dto.episode.EpisodeDto;
 import com.polytech.contentservice.entity.Content;
 import com.polytech.contentservice.entity.Episode;
+import java.time.LocalDateTime;
 import org.springframework.stereotype.Component;
 
 /**
  * Маппер для Episode.
  */
 @Component
-public final class EpisodeMapper {
+public class EpisodeMapper {
   public EpisodeDto convertToEpisodeDto(Episode episode) {
     return EpisodeDto.builder()
         .id(episode.getId())
@@ -37,6 +38,7 @@ public final class EpisodeMapper {
         .s3BucketName(
             newDto.s3BucketName() == null ? oldEpisode.getS3BucketName() : newDto.s3BucketName())
         .status(newDto.status() == null ? oldEpisode.getStatus() : newDto.status())
+        .updatedDate(LocalDateTime.now())
         .build();
   }
 
@@ -49,6 +51,7 @@ public final class EpisodeMapper {
         .storyline(episodeDto.storyline())
         .content(content)
         .status(episodeDto.status())
+        .updatedDate(LocalDateTime.now())
         .build();
   }
 }
@@ -0,0 +1,125 @@
+package com.polytech.contentservice.repository;
+
+import com.polytech.contentservice.common.converter.AgeRestrictionConverter;
+import com.polytech.contentservice.common.converter.QualityConverter;
+import com.polytech.contentservice.entity.CastMember;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.Episode;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Пакетная запись каталога через JDBC для массовой загрузки.
+ * Идентификаторы должны быть проставлены заранее: строки пишутся одним batch на таблицу,
+ * без промежуточных select и update, которые делает Hibernate для связи content - cast_member.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentBatchRepository {
+  private static final String INSERT_CONTENT = """
+      insert into content (content_id, title, quality, genre, category, age_restriction,
+                           description, thumbnail, year, publisher, creation_date, updated_date)
+      values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+  private static final int[] CONTENT_TYPES = {Types.OTHER, Types.VARCHAR, Types.VARCHAR,
+      Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER,
+      Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+  private static final String INSERT_CAST_MEMBER = """
+      insert into cast_member (cast_member_id, content_id, full_name, role, creation_date,
+                               updated_date)
+      values (?, ?, ?, ?, ?, ?)
+      """;
+  private static final int[] CAST_MEMBER_TYPES = {Types.OTHER, Types.OTHER, Types.VARCHAR,
+      Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+  private static final String INSERT_EPISODE = """
+      insert into episode (episode_id, content_id, episode_num, season_num, title, storyline,
+                           s3_bucket_name, status, updated_date)
+      values (?, ?, ?, ?, ?, ?, ?, ?, coalesce(?, now()))
+      """;
+  private static final int[] EPISODE_TYPES = {Types.OTHER, Types.OTHER, Types.INTEGER,
+      Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP};
+
+  private final QualityConverter qualityConverter = new QualityConverter();
+  private final AgeRestrictionConverter ageRestrictionConverter = new AgeRestrictionConverter();
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Запись фильмов и сериалов вместе с участниками съёмок и эпизодами.
+   *
+   * @param contents контент с проставленными идентификаторами
+   */
+  public void insertAll(Collection<Content> contents) {
+    List<Object[]> contentRows = new ArrayList<>(contents.size());
+    List<Object[]> castMemberRows = new ArrayList<>();
+    List<Object[]> episodeRows = new ArrayList<>();
+    for (Content content : contents) {
+      contentRows.add(toRow(content));
+      if (content.getCastMembers() != null) {
+        content.getCastMembers().forEach(castMember -> castMemberRows.add(toRow(content, castMember)));
+      }
+      if (content.getEpisodes() != null) {
+        content.getEpisodes().forEach(episode -> episodeRows.add(toRow(content, episode)));
+      }
+    }
+    jdbcTemplate.batchUpdate(INSERT_CONTENT, contentRows, CONTENT_TYPES);
+    if (!castMemberRows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_CAST_MEMBER, castMemberRows, CAST_MEMBER_TYPES);
+    }
+    if (!episodeRows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_EPISODE, episodeRows, EPISODE_TYPES);
+    }
+  }
+
+  private Object[] toRow(Content content) {
+    return new Object[] {
+        content.getId(),
+        content.getTitle(),
+        qualityConverter.convertToDatabaseColumn(content.getQuality()),
+        content.getGenre().name(),
+        content.getCategory().name(),
+        ageRestrictionConverter.convertToDatabaseColumn(content.getAgeRestriction()),
+        content.getDescription(),
+        content.getThumbnail(),
+        content.getYear(),
+        content.getPublisher(),
+        toTimestamp(content.getCreationDate()),
+        toTimestamp(content.getUpdatedDate())
+    };
+  }
+
+  private static Object[] toRow(Content content, CastMember castMember) {
+    return new Object[] {
+        castMember.getId(),
+        content.getId(),
+        castMember.getFullName(),
+        castMember.getRole(),
+        toTimestamp(castMember.getCreationDate()),
+        toTimestamp(castMember.getUpdateDate())
+    };
+  }
+
+  private static Object[] toRow(Content content, Episode episode) {
+    return new Object[] {
+        episode.getId(),
+        content.getId(),
+        episode.getEpisodeNumber(),
+        episode.getSeasonNumber(),
+        episode.getTitle(),
+        episode.getStoryline(),
+        episode.getS3BucketName(),
+        episode.getStatus() == null ? null : episode.getStatus().name(),
+        toTimestamp(episode.getUpdatedDate())
+    };
+  }
+
+  private static Timestamp toTimestamp(LocalDateTime dateTime) {
+    return dateTime == null ? null : Timestamp.valueOf(dateTime);
+  }
+}
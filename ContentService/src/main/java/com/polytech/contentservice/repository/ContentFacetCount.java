@@ -0,0 +1,15 @@
+package com.polytech.contentservice.repository;
+
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Genre;
+
+/**
+ * Количество контента с одним сочетанием жанра, возрастного ограничения и года.
+ *
+ * @param genre          жанр
+ * @param ageRestriction возрастное ограничение
+ * @param year           год создания, может отсутствовать
+ * @param count          количество контента
+ */
+public record ContentFacetCount(Genre genre, AgeRestriction ageRestriction, Integer year, long count) {
+}
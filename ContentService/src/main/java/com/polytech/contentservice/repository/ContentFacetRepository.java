@@ -0,0 +1,41 @@
+package com.polytech.contentservice.repository;
+
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.converter.AgeRestrictionConverter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Доступ к таблице content_facet.
+ * Таблица поддерживается триггерами на content, поэтому её размер зависит только от количества
+ * сочетаний жанра, возрастного ограничения и года, а не от размера каталога.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentFacetRepository {
+  private static final String SELECT_FACETS = """
+      select genre, age_restriction, year, content_count
+      from content_facet
+      where content_count > 0
+      """;
+
+  private final AgeRestrictionConverter ageRestrictionConverter = new AgeRestrictionConverter();
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Получение всех непустых сочетаний.
+   *
+   * @return количество контента по сочетаниям
+   */
+  @Transactional(readOnly = true)
+  public List<ContentFacetCount> findAll() {
+    return jdbcTemplate.query(SELECT_FACETS, (rs, rowNum) -> new ContentFacetCount(
+        Genre.valueOf(rs.getString("genre")),
+        ageRestrictionConverter.convertToEntityAttribute(rs.getString("age_restriction")),
+        rs.getObject("year", Integer.class),
+        rs.getLong("content_count")));
+  }
+}
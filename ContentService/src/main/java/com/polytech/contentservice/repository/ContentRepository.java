@@ -3,8 +3,16 @@ package com.polytech.contentservice.repository;
 import com.polytech.contentservice.entity.Content;
 import com.polytech.contentservice.entity.QContent;
 import com.querydsl.core.types.dsl.StringExpression;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
@@ -12,10 +20,90 @@ import org.springframework.data.querydsl.binding.QuerydslBindings;
 /**
  * Взаимодействие с таблицей content.
  */
-public interface ContentRepository extends JpaRepository<Content, UUID>,
+public interface ContentRepository extends JpaRepository<Content, UUID>, ContentRepositoryCustom,
     QuerydslPredicateExecutor<Content>, QuerydslBinderCustomizer<QContent> {
   @Override
   default void customize(QuerydslBindings bindings, QContent product) {
     bindings.bind(product.title).first(StringExpression::containsIgnoreCase);
   }
+
+  /**
+   * Получение идентификаторов контента для страницы без подсчёта общего количества.
+   *
+   * @param pageable информация о странице
+   * @return идентификаторы контента, от новых к старым
+   */
+  @Query("select c.id from Content c order by c.creationDate desc, c.id desc")
+  List<UUID> findPageIds(Pageable pageable);
+
+  /**
+   * Получение версий контента для страницы в том же порядке, что и {@link #findPageIds}.
+   * Читает только индекс и строки content, без членов состава.
+   *
+   * @param pageable номер и размер страницы
+   * @return идентификаторы и даты обновления контента, от новых к старым
+   */
+  @Query("select c.id as id, c.updatedDate as updatedDate from Content c"
+      + " order by c.creationDate desc, c.id desc")
+  List<ContentVersion> findPageVersions(Pageable pageable);
+
+  /**
+   * Получение даты последнего обновления контента.
+   *
+   * @param id идентификатор контента
+   * @return дата обновления, если контент существует
+   */
+  @Query("select c.updatedDate from Content c where c.id = :id")
+  Optional<LocalDateTime> findUpdatedDateById(@Param("id") UUID id);
+
+  /**
+   * Получение версии набора эпизодов контента по индексу (content_id, updated_date).
+   *
+   * @param contentId идентификатор контента
+   * @return дата обновления контента, последнего изменённого эпизода и количество эпизодов,
+   *     если контент существует
+   */
+  @Query("select c.updatedDate as contentUpdatedDate, max(e.updatedDate) as lastEpisodeUpdatedDate,"
+      + " count(e) as episodeCount"
+      + " from Content c left join c.episodes e where c.id = :contentId group by c.updatedDate")
+  Optional<EpisodesVersion> findEpisodesVersion(@Param("contentId") UUID contentId);
+
+  /**
+   * Получение контента вместе с членами состава одним запросом.
+   *
+   * @param ids идентификаторы контента
+   * @return найденный контент в произвольном порядке
+   */
+  @EntityGraph(attributePaths = "castMembers")
+  List<Content> findAllWithCastMembersByIdIn(Collection<UUID> ids);
+
+  /**
+   * Оценка количества строк в таблице content по статистике планировщика без полного подсчёта.
+   *
+   * @return приблизительное количество строк, отрицательное, если статистика ещё не собрана
+   */
+  @Query(value = "select reltuples::bigint from pg_class where oid = 'content'::regclass", nativeQuery = true)
+  long estimateCount();
+
+  /**
+   * Поиск названий по префиксу, подстроке или похожему написанию с помощью триграммного индекса.
+   * Сначала идут названия, начинающиеся с фрагмента, затем наиболее похожие.
+   *
+   * @param pattern  фрагмент в нижнем регистре с экранированными символами LIKE
+   * @param fragment фрагмент в нижнем регистре без экранирования
+   * @param limit    максимальное количество подсказок
+   * @return подсказки по названию
+   */
+  @Query(value = """
+      select c.content_id as id, c.title as title, c.year as year, c.thumbnail as thumbnail
+      from content c
+      where lower(c.title) like '%' || :pattern || '%' or lower(c.title) % :fragment
+      order by lower(c.title) like :pattern || '%' desc,
+               similarity(lower(c.title), :fragment) desc,
+               c.title
+      limit :limit
+      """, nativeQuery = true)
+  List<ContentTitleSuggestion> findTitleSuggestions(@Param("pattern") String pattern,
+                                                    @Param("fragment") String fragment,
+                                                    @Param("limit") int limit);
 }
@@ -0,0 +1,28 @@
+package com.polytech.contentservice.repository;
+
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Полнотекстовый поиск по таблице content, который не выражается через JPQL.
+ */
+public interface ContentRepositoryCustom {
+  /**
+   * Получение идентификаторов контента, подходящего под поисковый запрос и фильтры.
+   *
+   * @param contentSearchDto поисковый запрос в поле title и дополнительные фильтры
+   * @param offset           количество пропускаемых результатов
+   * @param limit            максимальное количество результатов
+   * @return идентификаторы контента, от наиболее релевантного к наименее
+   */
+  List<UUID> findIdsByFullText(ContentSearchDto contentSearchDto, long offset, int limit);
+
+  /**
+   * Подсчёт контента, подходящего под поисковый запрос и фильтры.
+   *
+   * @param contentSearchDto поисковый запрос в поле title и дополнительные фильтры
+   * @return количество найденного контента
+   */
+  long countByFullText(ContentSearchDto contentSearchDto);
+}
@@ -0,0 +1,63 @@
+package com.polytech.contentservice.repository;
+
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Реализация {@link ContentRepositoryCustom} поверх GIN индекса по content.search_vector.
+ */
+public class ContentRepositoryCustomImpl implements ContentRepositoryCustom {
+  private static final String TS_QUERY = "websearch_to_tsquery('russian', :query)";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<UUID> findIdsByFullText(ContentSearchDto contentSearchDto, long offset, int limit) {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    String sql = "select c.content_id from content c"
+        + where(contentSearchDto, parameters)
+        + " order by ts_rank(c.search_vector, " + TS_QUERY + ") desc,"
+        + " c.creation_date desc, c.content_id desc"
+        + " offset :offset limit :limit";
+    Query query = entityManager.createNativeQuery(sql, UUID.class);
+    parameters.forEach(query::setParameter);
+    query.setParameter("offset", offset);
+    query.setParameter("limit", limit);
+    return query.getResultList();
+  }
+
+  @Override
+  public long countByFullText(ContentSearchDto contentSearchDto) {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    String sql = "select count(*) from content c" + where(contentSearchDto, parameters);
+    Query query = entityManager.createNativeQuery(sql, Long.class);
+    parameters.forEach(query::setParameter);
+    return (Long) query.getSingleResult();
+  }
+
+  private String where(ContentSearchDto contentSearchDto, Map<String, Object> parameters) {
+    StringBuilder where = new StringBuilder(" where c.search_vector @@ ").append(TS_QUERY);
+    parameters.put("query", contentSearchDto.title());
+    if (contentSearchDto.genre() != null) {
+      where.append(" and c.genre = :genre");
+      parameters.put("genre", contentSearchDto.genre().name());
+    }
+    if (contentSearchDto.ageRestriction() != null) {
+      where.append(" and c.age_restriction = :ageRestriction");
+      parameters.put("ageRestriction", contentSearchDto.ageRestriction().getRestriction());
+    }
+    if (contentSearchDto.year() != null) {
+      where.append(" and c.year = :year");
+      parameters.put("year", contentSearchDto.year());
+    }
+    return where.toString();
+  }
+}
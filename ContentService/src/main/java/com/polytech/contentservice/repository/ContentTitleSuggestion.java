@@ -0,0 +1,16 @@
+package com.polytech.contentservice.repository;
+
+import java.util.UUID;
+
+/**
+ * Проекция контента для подсказок при вводе названия.
+ */
+public interface ContentTitleSuggestion {
+  UUID getId();
+
+  String getTitle();
+
+  Integer getYear();
+
+  String getThumbnail();
+}
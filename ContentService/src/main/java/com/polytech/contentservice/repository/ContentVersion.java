@@ -0,0 +1,13 @@
+package com.polytech.contentservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Проекция контента для проверки, изменились ли данные с прошлого запроса.
+ */
+public interface ContentVersion {
+  UUID getId();
+
+  LocalDateTime getUpdatedDate();
+}
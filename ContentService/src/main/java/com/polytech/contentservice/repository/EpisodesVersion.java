@@ -0,0 +1,14 @@
+package com.polytech.contentservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Проекция эпизодов контента для проверки, изменились ли они с прошлого запроса.
+ */
+public interface EpisodesVersion {
+  LocalDateTime getContentUpdatedDate();
+
+  LocalDateTime getLastEpisodeUpdatedDate();
+
+  long getEpisodeCount();
+}
@@ -1,11 +1,15 @@
 package com.polytech.contentservice.repository;
 
-import com.polytech.contentservice.entity.Content;
 import com.polytech.contentservice.entity.PersonalList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Описание доступа personal_list.
@@ -13,4 +17,39 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface PersonalListRepository extends JpaRepository<PersonalList, UUID> {
   Optional<PersonalList> findByUserIdAndContentId(UUID userId, UUID contentId);
   void deleteByUserIdAndContentId(UUID userId, UUID contentId);
+
+  /**
+   * Добавление контента в персональный лист, если его там ещё нет.
+   * Одновременное добавление той же пары не нарушает уникальный индекс (user_id, content_id):
+   * второй запрос дожидается первого и ничего не вставляет.
+   *
+   * @param id           ИД новой записи
+   * @param userId       ИД хозяина персонального листа
+   * @param contentId    ИД контента
+   * @param creationDate дата добавления
+   * @return количество вставленных строк: 0, если контент уже был в листе
+   */
+  @Modifying
+  @Query(value = """
+      insert into personal_list (personal_list_id, user_id, content_id, creation_date)
+      values (:id, :userId, :contentId, :creationDate)
+      on conflict (user_id, content_id) do nothing
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("id") UUID id,
+                     @Param("userId") UUID userId,
+                     @Param("contentId") UUID contentId,
+                     @Param("creationDate") LocalDateTime creationDate);
+
+  /**
+   * Получение контента из заданного набора, который есть в персональном листе пользователя.
+   * Выполняется по уникальному индексу (user_id, content_id) без чтения контента.
+   *
+   * @param userId     ИД хозяина персонального листа
+   * @param contentIds ИД контента, например, со страницы каталога
+   * @return ИД контента, добавленного в персональный лист
+   */
+  @Query("select p.content.id from PersonalList p"
+      + " where p.user.id = :userId and p.content.id in :contentIds")
+  Set<UUID> findContentIdsByUserIdAndContentIdIn(@Param("userId") UUID userId,
+                                                 @Param("contentIds") Collection<UUID> contentIds);
 }
@@ -1,84 +1,182 @@
 package com.polytech.contentservice.service.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.polytech.contentservice.config.AuthAttemptsProperty;
 import com.polytech.contentservice.entity.AuthAttempts;
 import com.polytech.contentservice.repository.AuthAttemptsRepository;
 import jakarta.transaction.Transactional;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Optional;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
  * Реализация {@link AuthAttemptsService}.
+ * Счётчики попыток хранятся в памяти и обновляются атомарно для каждого адреса,
+ * поэтому поток неудачных входов не превращается в поток записей в БД.
+ * При включённом {@link AuthAttemptsProperty#writeBehind()} изменённые счётчики
+ * периодически сохраняются в таблицу auth_attempt и загружаются из неё при старте.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthAttemptsServiceImpl implements AuthAttemptsService {
   private final AuthAttemptsRepository authAttemptsRepository;
+  private final AuthAttemptsProperty property;
+  private final Clock clock;
+  private final Cache<String, LoginAttempts> attempts;
+  private final Set<String> changedIps = ConcurrentHashMap.newKeySet();
 
-  @Value("${auth.ban-time-in-seconds}")
-  private int banTimeInSeconds;
-  @Value("${auth.default-attempts-amount}")
-  private int defaultAttemptsAmount;
+  @Autowired
+  public AuthAttemptsServiceImpl(AuthAttemptsRepository authAttemptsRepository,
+                                 AuthAttemptsProperty property) {
+    this(authAttemptsRepository, property, Clock.systemDefaultZone());
+  }
+
+  AuthAttemptsServiceImpl(AuthAttemptsRepository authAttemptsRepository,
+                          AuthAttemptsProperty property,
+                          Clock clock) {
+    this.authAttemptsRepository = authAttemptsRepository;
+    this.property = property;
+    this.clock = clock;
+    this.attempts = Caffeine.newBuilder()
+        .maximumSize(property.maximumSize())
+        .expireAfter(new AttemptsExpiry())
+        .build();
+  }
 
   @Override
-  @Transactional
   public boolean isMaxLoginAttemptsReached(String ip) {
-    Optional<AuthAttempts> optionalAuthAttempts = authAttemptsRepository.findByIp(ip);
-    if (optionalAuthAttempts.isEmpty()) {
-      authAttemptsRepository.save(createDefaultAuthAttemptsEntity(ip));
-      return false;
+    Instant now = Instant.now(clock);
+    AtomicBoolean reached = new AtomicBoolean();
+    attempts.asMap().compute(ip, (key, current) -> {
+      if (current == null) {
+        return new LoginAttempts(property.defaultAttemptsAmount() - 1, null);
+      }
+      if (current.isBlocked(now)) {
+        reached.set(true);
+        return current;
+      }
+      if (current.attemptsLeft() == 0) {
+        return new LoginAttempts(property.defaultAttemptsAmount() - 1, null);
+      }
+      Instant blockedUntil = current.attemptsLeft() == 1
+          ? now.plusSeconds(property.banTimeInSeconds())
+          : null;
+      return new LoginAttempts(current.attemptsLeft() - 1, blockedUntil);
+    });
+    if (!reached.get()) {
+      markChanged(ip);
     }
+    return reached.get();
+  }
 
-    AuthAttempts authAttempts = optionalAuthAttempts.get();
-    int authAttemptsLeft = authAttempts.getAttemptsLeft();
+  @Override
+  public boolean isLoginBlocked(String ip) {
+    LoginAttempts current = attempts.getIfPresent(ip);
+    return current != null && current.isBlocked(Instant.now(clock));
+  }
 
-    if (authAttemptsLeft == 0 && authAttempts.getNextAttemptsTime().isAfter(LocalDateTime.now())) {
-      return true;
+  @Override
+  public void resetLoginAttemptsByIp(String ip) {
+    if (attempts.asMap().remove(ip) != null) {
+      markChanged(ip);
     }
+  }
 
-    if (authAttemptsLeft == 0 && authAttempts.getNextAttemptsTime().isBefore(LocalDateTime.now())) {
-      authAttempts.setAuthAttemptsId(authAttempts.getAuthAttemptsId());
-      authAttempts.setNextAttemptsTime(null);
-      authAttempts.setAttemptsLeft(defaultAttemptsAmount - 1);
-      authAttemptsRepository.save(authAttempts);
-      return false;
+  /**
+   * Загрузка сохранённых счётчиков после перезапуска.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadPersistedAttempts() {
+    if (!property.writeBehind()) {
+      return;
+    }
+    Instant now = Instant.now(clock);
+    authAttemptsRepository.findAll().forEach(authAttempts -> {
+      LoginAttempts loginAttempts = new LoginAttempts(
+          authAttempts.getAttemptsLeft(),
+          toInstant(authAttempts.getNextAttemptsTime()));
+      if (loginAttempts.attemptsLeft() > 0 || loginAttempts.isBlocked(now)) {
+        attempts.asMap().putIfAbsent(authAttempts.getIp(), loginAttempts);
+      }
+    });
+    log.info("Loaded {} login attempt counters", attempts.estimatedSize());
+  }
+
+  /**
+   * Сохранение изменённых счётчиков в таблицу auth_attempt.
+   */
+  @Scheduled(fixedDelayString = "${auth.write-behind-interval:PT5S}")
+  @Transactional
+  public void flushChangedAttempts() {
+    if (!property.writeBehind()) {
+      return;
     }
-    if (authAttemptsLeft == 1) {
-      authAttempts.setNextAttemptsTime(LocalDateTime.now().plusSeconds(banTimeInSeconds));
+    for (String ip : changedIps) {
+      changedIps.remove(ip);
+      LoginAttempts current = attempts.getIfPresent(ip);
+      if (current == null) {
+        authAttemptsRepository.deleteByIp(ip);
+        continue;
+      }
+      AuthAttempts authAttempts = authAttemptsRepository.findByIp(ip)
+          .orElseGet(() -> AuthAttempts.builder().ip(ip).build());
+      authAttempts.setAttemptsLeft(current.attemptsLeft());
+      authAttempts.setNextAttemptsTime(toLocalDateTime(current.blockedUntil()));
+      authAttemptsRepository.save(authAttempts);
     }
-    authAttempts.setAttemptsLeft(authAttempts.getAttemptsLeft() - 1);
-    authAttemptsRepository.save(authAttempts);
-    return false;
   }
 
-  @Override
-  public boolean isLoginBlocked(String ip) {
-    Optional<AuthAttempts> optionalAuthAttempts = authAttemptsRepository.findByIp(ip);
-    if (optionalAuthAttempts.isEmpty()) {
-      return false;
+  private void markChanged(String ip) {
+    if (property.writeBehind()) {
+      changedIps.add(ip);
     }
+  }
 
-    AuthAttempts authAttempts = optionalAuthAttempts.get();
-    int authAttemptsLeft = authAttempts.getAttemptsLeft();
-    LocalDateTime nextAttemptsTime = authAttempts.getNextAttemptsTime();
-    return (authAttemptsLeft == 0 && nextAttemptsTime.isAfter(LocalDateTime.now()));
+  private Instant toInstant(LocalDateTime dateTime) {
+    return dateTime == null ? null : dateTime.atZone(ZoneId.systemDefault()).toInstant();
   }
 
-  @Override
-  public void resetLoginAttemptsByIp(String ip) {
-    Optional<AuthAttempts> optionalAuthAttempts = authAttemptsRepository.findByIp(ip);
-    if (optionalAuthAttempts.isEmpty()) {
-      return;
+  private LocalDateTime toLocalDateTime(Instant instant) {
+    return instant == null ? null : LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+  }
+
+  private long ttlInNanos(LoginAttempts loginAttempts) {
+    if (loginAttempts.blockedUntil() == null) {
+      return property.attemptsWindow().toNanos();
     }
-    authAttemptsRepository.deleteById(optionalAuthAttempts.get().getAuthAttemptsId());
+    Duration untilUnblock = Duration.between(Instant.now(clock), loginAttempts.blockedUntil());
+    return untilUnblock.isNegative() ? 0 : untilUnblock.toNanos();
   }
 
-  private AuthAttempts createDefaultAuthAttemptsEntity(String ip) {
-    return AuthAttempts.builder()
-        .ip(ip)
-        .attemptsLeft(defaultAttemptsAmount - 1)
-        .build();
+  private class AttemptsExpiry implements Expiry<String, LoginAttempts> {
+    @Override
+    public long expireAfterCreate(String ip, LoginAttempts loginAttempts, long currentTime) {
+      return ttlInNanos(loginAttempts);
+    }
+
+    @Override
+    public long expireAfterUpdate(String ip, LoginAttempts loginAttempts, long currentTime,
+                                  long currentDuration) {
+      return ttlInNanos(loginAttempts);
+    }
+
+    @Override
+    public long expireAfterRead(String ip, LoginAttempts loginAttempts, long currentTime,
+                                long currentDuration) {
+      return currentDuration;
+    }
   }
 }
@@ -6,6 +6,7 @@ import com.auth.ValidationTokenResponse;
 import com.polytech.contentservice.dto.user.detailed.UserDto;
 import com.polytech.contentservice.dto.user.register.UserRegisterDto;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Описание для взаимодействия с сервисом авторизации.
@@ -35,4 +36,16 @@ public interface AuthGrpcClient {
    * @return валиден ли токен
    */
   ValidationTokenResponse sendTokenValidationRequest(UserDto userDto);
+
+  /**
+   * Асинхронная отправка запроса для валидации токена.
+   * Future завершается с {@link com.polytech.contentservice.exception.UnauthorisedException},
+   * если токен не прошёл проверку, и с
+   * {@link com.polytech.contentservice.exception.ServiceUnavailableException},
+   * если сервис авторизации недоступен или не ответил вовремя.
+   *
+   * @param userDto токен для валидации
+   * @return результат валидации
+   */
+  CompletableFuture<ValidationTokenResponse> sendTokenValidationRequestAsync(UserDto userDto);
 }
@@ -7,29 +7,105 @@ import com.auth.RegisterUserRequest;
 import com.auth.RegisterUserResponse;
 import com.auth.ValidationTokenRequest;
 import com.auth.ValidationTokenResponse;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.polytech.contentservice.config.AuthCircuitBreakerProperty;
 import com.polytech.contentservice.config.AuthGrpcClientProperty;
 import com.polytech.contentservice.dto.user.detailed.UserDto;
 import com.polytech.contentservice.dto.user.register.UserRegisterDto;
 import com.polytech.contentservice.exception.LoginException;
+import com.polytech.contentservice.exception.ServiceUnavailableException;
 import com.polytech.contentservice.exception.UnauthorisedException;
-import io.grpc.Channel;
+import com.polytech.contentservice.jfr.JfrGrpcClientInterceptor;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcClientInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 /**
  * Реализация {@link AuthGrpcClient}.
+ * Каждый вызов ограничен {@link AuthGrpcClientProperty#deadline()}, идемпотентный ValidateToken
+ * повторяется по политике из service config канала, канал закрывается вместе с контекстом.
+ * Все вызовы проходят через circuit breaker: пока сервис авторизации недоступен, запросы
+ * сразу завершаются {@link ServiceUnavailableException}, не дожидаясь таймаута.
+ * Контекст трассировки передаётся в метаданных вызова.
  */
+@Slf4j
 @Service
-public class AuthGrpcClientImpl implements AuthGrpcClient {
+public class AuthGrpcClientImpl implements AuthGrpcClient, MeterBinder {
+  private static final String SERVICE_NAME = AuthServiceGrpc.SERVICE_NAME;
+  private static final String VALIDATE_TOKEN_METHOD = "ValidateToken";
+  private static final String CIRCUIT_BREAKER_NAME = "auth-service";
+  private static final String AUTH_SERVICE_UNAVAILABLE = "Auth service is unavailable";
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+  private static final Set<Status.Code> UNAVAILABLE_CODES = EnumSet.of(
+      Status.Code.UNAVAILABLE,
+      Status.Code.DEADLINE_EXCEEDED,
+      Status.Code.RESOURCE_EXHAUSTED);
+
+  private final ManagedChannel channel;
   private final AuthServiceGrpc.AuthServiceBlockingStub stub;
+  private final AuthServiceGrpc.AuthServiceFutureStub futureStub;
+  private final CircuitBreaker circuitBreaker;
   private final AuthAttemptsService authAttemptsService;
+  private final Duration deadline;
 
+  @Autowired
   public AuthGrpcClientImpl(AuthGrpcClientProperty property,
-                            AuthAttemptsService authAttemptsService) {
-    Channel channel =
-        ManagedChannelBuilder.forAddress(property.host(), property.port()).usePlaintext().build();
+                            AuthCircuitBreakerProperty circuitBreakerProperty,
+                            AuthAttemptsService authAttemptsService,
+                            ObservationRegistry observationRegistry) {
+    this(ManagedChannelBuilder.forAddress(property.host(), property.port())
+            .usePlaintext()
+            .intercept(new ObservationGrpcClientInterceptor(observationRegistry),
+                new JfrGrpcClientInterceptor()),
+        property, createCircuitBreaker(circuitBreakerProperty), authAttemptsService);
+  }
+
+  AuthGrpcClientImpl(ManagedChannelBuilder<?> channelBuilder,
+                     AuthGrpcClientProperty property,
+                     CircuitBreaker circuitBreaker,
+                     AuthAttemptsService authAttemptsService) {
+    this.channel = channelBuilder
+        .defaultServiceConfig(serviceConfig(property.retry()))
+        .enableRetry()
+        .maxRetryAttempts(property.retry().maxAttempts())
+        .keepAliveTime(property.keepAlive().time().toNanos(), TimeUnit.NANOSECONDS)
+        .keepAliveTimeout(property.keepAlive().timeout().toNanos(), TimeUnit.NANOSECONDS)
+        .build();
     this.stub = AuthServiceGrpc.newBlockingStub(channel);
+    this.futureStub = AuthServiceGrpc.newFutureStub(channel);
+    this.circuitBreaker = circuitBreaker;
     this.authAttemptsService = authAttemptsService;
+    this.deadline = property.deadline();
+    circuitBreaker.getEventPublisher()
+        .onStateTransition(event -> log.warn("Auth service circuit breaker: {}",
+            event.getStateTransition()));
   }
 
   @Override
@@ -38,15 +114,18 @@ public class AuthGrpcClientImpl implements AuthGrpcClient {
       if (authAttemptsService.isLoginBlocked(ip)) {
         throw new Exception("Login blocked");
       }
-      LoginUserResponse loginUserResponse = stub.loginUser(LoginUserRequest.newBuilder()
-          .setEmail(userDto.email())
-          .setPasswordHash(userDto.passwordHash())
-          .setPasswordSalt(userDto.passwordSalt())
-          .setPassword(userDto.password())
-          .setRole(userDto.role().toString())
-          .build());
+      LoginUserResponse loginUserResponse = call(() -> blockingStub().loginUser(
+          LoginUserRequest.newBuilder()
+              .setEmail(userDto.email())
+              .setPasswordHash(userDto.passwordHash())
+              .setPasswordSalt(userDto.passwordSalt())
+              .setPassword(userDto.password())
+              .setRole(userDto.role().toString())
+              .build()));
       authAttemptsService.resetLoginAttemptsByIp(ip);
       return loginUserResponse;
+    } catch (ServiceUnavailableException e) {
+      throw e;
     } catch (Exception e) {
       if (authAttemptsService.isMaxLoginAttemptsReached(ip)) {
         throw new LoginException("Max amount of attempts is reached");
@@ -57,21 +136,159 @@ public class AuthGrpcClientImpl implements AuthGrpcClient {
 
   @Override
   public RegisterUserResponse sendRegisterRequest(UserRegisterDto userDto) {
-    return stub.registerUser(RegisterUserRequest.newBuilder()
+    return call(() -> blockingStub().registerUser(RegisterUserRequest.newBuilder()
         .setEmail(userDto.email())
         .setRole(userDto.role().toString())
         .setPassword(userDto.password())
-        .build());
+        .build()));
   }
 
   @Override
   public ValidationTokenResponse sendTokenValidationRequest(UserDto userDto) {
     try {
-      return stub.validateToken(ValidationTokenRequest.newBuilder()
+      return call(() -> blockingStub().validateToken(ValidationTokenRequest.newBuilder()
           .setToken(userDto.token())
-          .build());
+          .build()));
+    } catch (ServiceUnavailableException e) {
+      throw e;
     } catch (Exception e) {
       throw new UnauthorisedException("Token is not valid");
     }
   }
+
+  @Override
+  public CompletableFuture<ValidationTokenResponse> sendTokenValidationRequestAsync(
+      UserDto userDto) {
+    CompletableFuture<ValidationTokenResponse> call = new CompletableFuture<>();
+    CompletableFuture<ValidationTokenResponse> result = circuitBreaker
+        .executeCompletionStage(() -> startTokenValidation(userDto, call))
+        .toCompletableFuture()
+        .handle((response, throwable) -> {
+          if (throwable == null) {
+            return response;
+          }
+          if (isAuthServiceDown(unwrap(throwable))) {
+            throw new ServiceUnavailableException(AUTH_SERVICE_UNAVAILABLE);
+          }
+          throw new UnauthorisedException("Token is not valid");
+        });
+    result.whenComplete((response, throwable) -> {
+      if (result.isCancelled()) {
+        call.cancel(true);
+      }
+    });
+    return result;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    TaggedCircuitBreakerMetrics.ofIterable(List.of(circuitBreaker)).bindTo(registry);
+  }
+
+  /**
+   * Закрытие канала: новые вызовы отклоняются, текущим даётся время завершиться.
+   */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    channel.shutdown();
+    if (!channel.awaitTermination(SHUTDOWN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+      log.warn("Auth channel did not terminate in {}, cancelling pending calls", SHUTDOWN_TIMEOUT);
+      channel.shutdownNow();
+    }
+  }
+
+  static CircuitBreaker createCircuitBreaker(AuthCircuitBreakerProperty property) {
+    return CircuitBreaker.of(CIRCUIT_BREAKER_NAME, CircuitBreakerConfig.custom()
+        .failureRateThreshold(property.failureRateThreshold())
+        .slowCallRateThreshold(property.slowCallRateThreshold())
+        .slowCallDurationThreshold(property.slowCallDurationThreshold())
+        .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+        .slidingWindowSize(property.slidingWindowSize())
+        .minimumNumberOfCalls(property.minimumNumberOfCalls())
+        .waitDurationInOpenState(property.waitDurationInOpenState())
+        .permittedNumberOfCallsInHalfOpenState(property.permittedCallsInHalfOpenState())
+        .recordException(AuthGrpcClientImpl::isUnavailable)
+        .build());
+  }
+
+  private <T> T call(Supplier<T> rpc) {
+    try {
+      return circuitBreaker.executeSupplier(rpc);
+    } catch (RuntimeException e) {
+      if (isAuthServiceDown(e)) {
+        throw new ServiceUnavailableException(AUTH_SERVICE_UNAVAILABLE);
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<ValidationTokenResponse> startTokenValidation(
+      UserDto userDto, CompletableFuture<ValidationTokenResponse> call) {
+    ListenableFuture<ValidationTokenResponse> rpc = futureStub
+        .withDeadlineAfter(deadline.toNanos(), TimeUnit.NANOSECONDS)
+        .validateToken(ValidationTokenRequest.newBuilder()
+            .setToken(userDto.token())
+            .build());
+    Futures.addCallback(rpc, new FutureCallback<>() {
+      @Override
+      public void onSuccess(ValidationTokenResponse response) {
+        call.complete(response);
+      }
+
+      @Override
+      public void onFailure(Throwable throwable) {
+        call.completeExceptionally(throwable);
+      }
+    }, MoreExecutors.directExecutor());
+    call.whenComplete((response, throwable) -> {
+      if (call.isCancelled()) {
+        rpc.cancel(true);
+      }
+    });
+    return call;
+  }
+
+  private static boolean isAuthServiceDown(Throwable throwable) {
+    return throwable instanceof CallNotPermittedException || isUnavailable(throwable);
+  }
+
+  private static boolean isUnavailable(Throwable throwable) {
+    return throwable instanceof StatusRuntimeException statusException
+        && UNAVAILABLE_CODES.contains(statusException.getStatus().getCode());
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+  }
+
+  private AuthServiceGrpc.AuthServiceBlockingStub blockingStub() {
+    return stub.withDeadlineAfter(deadline.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private static Map<String, Object> serviceConfig(AuthGrpcClientProperty.Retry retry) {
+    Map<String, Object> methodConfig = new LinkedHashMap<>();
+    methodConfig.put("name", List.of(Map.of(
+        "service", SERVICE_NAME,
+        "method", VALIDATE_TOKEN_METHOD)));
+    if (retry.hedgingDelay() != null && retry.hedgingDelay().isPositive()) {
+      methodConfig.put("hedgingPolicy", Map.of(
+          "maxAttempts", (double) retry.maxAttempts(),
+          "hedgingDelay", toServiceConfigDuration(retry.hedgingDelay()),
+          "nonFatalStatusCodes", List.of(Status.Code.UNAVAILABLE.name())));
+    } else {
+      methodConfig.put("retryPolicy", Map.of(
+          "maxAttempts", (double) retry.maxAttempts(),
+          "initialBackoff", toServiceConfigDuration(retry.initialBackoff()),
+          "maxBackoff", toServiceConfigDuration(retry.maxBackoff()),
+          "backoffMultiplier", 2.0,
+          "retryableStatusCodes", List.of(Status.Code.UNAVAILABLE.name())));
+    }
+    return Map.of("methodConfig", List.of(methodConfig));
+  }
+
+  private static String toServiceConfigDuration(Duration duration) {
+    return BigDecimal.valueOf(duration.toNanos(), 9).stripTrailingZeros().toPlainString() + "s";
+  }
 }
@@ -8,19 +8,27 @@ import com.polytech.contentservice.dto.user.detailed.UserDto;
 import com.polytech.contentservice.dto.user.login.UserLoginResponseDto;
 import com.polytech.contentservice.dto.user.register.UserRegisterDto;
 import com.polytech.contentservice.dto.user.register.UserRegistrationResponseDto;
+import com.polytech.contentservice.exception.ServiceUnavailableException;
 import com.polytech.contentservice.exception.UnauthorisedException;
 import com.polytech.contentservice.service.user.UserService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 /**
  * Реализация {@link AuthService}.
+ * Если сервис авторизации недоступен, а секрет для локальной проверки задан,
+ * токены проверяются через {@link LocalTokenVerifier}.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
   private final AuthGrpcClient authGrpcClient;
   private final UserService userService;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final JwtTokenReader jwtTokenReader;
+  private final LocalTokenVerifier localTokenVerifier;
 
   @Override
   public UserRegistrationResponseDto registerUser(UserRegisterDto userDto) {
@@ -60,21 +68,44 @@ public class AuthServiceImpl implements AuthService {
 
   @Override
   public void checkTokenIsValid(String token, Role role) {
-    UserDto userDto = UserDto.builder()
-        .token(token)
-        .role(role)
-        .build();
-    ValidationTokenResponse response = authGrpcClient.sendTokenValidationRequest(userDto);
-    Role actualRole = Role.valueOf(response.getRole());
+    VerifiedToken verifiedToken = verifiedTokenCache.get(token, this::validateToken);
+    Role actualRole = verifiedToken.role();
     if (actualRole == Role.ADMIN) {
       return;
     }
-    if (actualRole == Role.USER && userDto.role().equals(Role.USER)) {
+    if (actualRole == Role.USER && role.equals(Role.USER)) {
       return;
     }
     throw new UnauthorisedException("Permission denied");
   }
 
+  private VerifiedToken validateToken(String token) {
+    if (localTokenVerifier.isEnabled()) {
+      return localTokenVerifier.verify(token);
+    }
+    try {
+      return requestTokenValidation(token);
+    } catch (ServiceUnavailableException e) {
+      if (!localTokenVerifier.isConfigured()) {
+        throw e;
+      }
+      log.debug("Auth service is unavailable, validating token locally");
+      return localTokenVerifier.verify(token);
+    }
+  }
+
+  private VerifiedToken requestTokenValidation(String token) {
+    UserDto userDto = UserDto.builder()
+        .token(token)
+        .build();
+    ValidationTokenResponse response = authGrpcClient.sendTokenValidationRequest(userDto);
+    return VerifiedToken.builder()
+        .email(response.getEmail())
+        .role(Role.valueOf(response.getRole()))
+        .expiresAt(jwtTokenReader.readExpiration(token).orElse(null))
+        .build();
+  }
+
   private UserRegisterDto convertToUserDto(RegisterUserResponse response,
                                            UserRegisterDto registerUserDto) {
     return UserRegisterDto.builder()
@@ -0,0 +1,121 @@
+package com.polytech.contentservice.service.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Чтение claims из JWT, выпущенного сервисом авторизации.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtTokenReader {
+  private static final String EXPIRATION_CLAIM = "exp";
+  private static final String NOT_BEFORE_CLAIM = "nbf";
+  private static final String ALGORITHM_HEADER = "alg";
+  private static final String SUPPORTED_ALGORITHM = "HS256";
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Получение момента истечения токена без проверки подписи.
+   *
+   * @param token JWT
+   * @return момент истечения, если claim exp присутствует
+   */
+  public Optional<Instant> readExpiration(String token) {
+    return readPayload(token)
+        .map(payload -> payload.get(EXPIRATION_CLAIM))
+        .filter(JsonNode::canConvertToLong)
+        .map(exp -> Instant.ofEpochSecond(exp.asLong()));
+  }
+
+  /**
+   * Проверка подписи HS256 и срока действия токена так же, как это делает сервис авторизации.
+   *
+   * @param token  JWT
+   * @param secret общий с сервисом авторизации секрет
+   * @return claims токена, если подпись верна и токен действует в данный момент
+   */
+  public Optional<JsonNode> readVerifiedClaims(String token, String secret) {
+    String[] parts = splitToken(token);
+    if (parts.length != 3) {
+      return Optional.empty();
+    }
+    boolean supportedAlgorithm = decodePart(parts[0])
+        .map(header -> SUPPORTED_ALGORITHM.equals(header.path(ALGORITHM_HEADER).asText()))
+        .orElse(false);
+    if (!supportedAlgorithm || !hasValidSignature(parts, secret)) {
+      return Optional.empty();
+    }
+    Instant now = Instant.now();
+    return decodePart(parts[1])
+        .filter(claims -> isActive(claims, now));
+  }
+
+  private Optional<JsonNode> readPayload(String token) {
+    String[] parts = splitToken(token);
+    if (parts.length != 3) {
+      return Optional.empty();
+    }
+    return decodePart(parts[1]);
+  }
+
+  private String[] splitToken(String token) {
+    if (token == null) {
+      return new String[0];
+    }
+    return token.split("\\.");
+  }
+
+  private Optional<JsonNode> decodePart(String part) {
+    try {
+      return Optional.of(objectMapper.readTree(Base64.getUrlDecoder().decode(part)));
+    } catch (IllegalArgumentException | IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private boolean hasValidSignature(String[] parts, String secret) {
+    byte[] actualSignature;
+    try {
+      actualSignature = Base64.getUrlDecoder().decode(parts[2]);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    byte[] signingInput = (parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII);
+    return MessageDigest.isEqual(sign(signingInput, secret), actualSignature);
+  }
+
+  private byte[] sign(byte[] signingInput, String secret) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+      return mac.doFinal(signingInput);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HmacSHA256 is not available", e);
+    }
+  }
+
+  private boolean isActive(JsonNode claims, Instant now) {
+    JsonNode exp = claims.get(EXPIRATION_CLAIM);
+    if (exp == null || !exp.canConvertToLong()
+        || !now.isBefore(Instant.ofEpochSecond(exp.asLong()))) {
+      return false;
+    }
+    JsonNode nbf = claims.get(NOT_BEFORE_CLAIM);
+    return nbf == null
+        || nbf.canConvertToLong() && !now.isBefore(Instant.ofEpochSecond(nbf.asLong()));
+  }
+}
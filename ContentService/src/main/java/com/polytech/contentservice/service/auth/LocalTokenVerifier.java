@@ -0,0 +1,86 @@
+package com.polytech.contentservice.service.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.common.TokenValidationMode;
+import com.polytech.contentservice.config.AuthGrpcClientProperty;
+import com.polytech.contentservice.dto.user.detailed.UserDto;
+import com.polytech.contentservice.exception.UnauthorisedException;
+import com.polytech.contentservice.service.user.UserService;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Проверка токенов без обращения в сервис авторизации.
+ * Повторяет ValidateToken: подпись и срок действия JWT, затем сверка роли из claims
+ * с ролью пользователя в нашей бд.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalTokenVerifier {
+  private static final String EMAIL_CLAIM = "userEmail";
+  private static final String ROLE_CLAIM = "userRole";
+  private static final String EXPIRATION_CLAIM = "exp";
+
+  private final AuthGrpcClientProperty property;
+  private final JwtTokenReader jwtTokenReader;
+  private final UserService userService;
+
+  @PostConstruct
+  void warnIfMisconfigured() {
+    if (property.tokenValidationMode() == TokenValidationMode.LOCAL && !isConfigured()) {
+      log.warn("Local token validation requested without jwt-secret, falling back to gRPC");
+    }
+  }
+
+  /**
+   * Включена ли локальная проверка токенов.
+   *
+   * @return true - режим LOCAL и секрет задан
+   */
+  public boolean isEnabled() {
+    return property.tokenValidationMode() == TokenValidationMode.LOCAL && isConfigured();
+  }
+
+  /**
+   * Задан ли секрет для локальной проверки.
+   *
+   * @return true - секрет задан
+   */
+  public boolean isConfigured() {
+    return StringUtils.isNotBlank(property.jwtSecret());
+  }
+
+  /**
+   * Проверка токена.
+   *
+   * @param token JWT
+   * @return проверенный токен
+   * @throws UnauthorisedException если токен недействителен или роль не совпадает
+   */
+  public VerifiedToken verify(String token) {
+    JsonNode claims = jwtTokenReader.readVerifiedClaims(token, property.jwtSecret())
+        .orElseThrow(() -> new UnauthorisedException("Token is not valid"));
+    String email = claims.path(EMAIL_CLAIM).asText(null);
+    String claimedRole = claims.path(ROLE_CLAIM).asText(null);
+    if (email == null || claimedRole == null) {
+      throw new UnauthorisedException("Token is not valid");
+    }
+    Role actualRole = userService.getUserByEmailNonExcept(email)
+        .map(UserDto::role)
+        .orElseThrow(() -> new UnauthorisedException("Token is not valid"));
+    if (!actualRole.name().equals(claimedRole)) {
+      throw new UnauthorisedException("Token is not valid");
+    }
+    return VerifiedToken.builder()
+        .email(email)
+        .role(actualRole)
+        .expiresAt(Instant.ofEpochSecond(claims.get(EXPIRATION_CLAIM).asLong()))
+        .build();
+  }
+}
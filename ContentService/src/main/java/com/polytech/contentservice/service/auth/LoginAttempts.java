@@ -0,0 +1,15 @@
+package com.polytech.contentservice.service.auth;
+
+import java.time.Instant;
+
+/**
+ * Состояние попыток входа с одного адреса.
+ *
+ * @param attemptsLeft оставшееся количество неудачных попыток
+ * @param blockedUntil момент окончания блокировки, если попытки исчерпаны
+ */
+record LoginAttempts(int attemptsLeft, Instant blockedUntil) {
+  boolean isBlocked(Instant now) {
+    return attemptsLeft == 0 && blockedUntil != null && blockedUntil.isAfter(now);
+  }
+}
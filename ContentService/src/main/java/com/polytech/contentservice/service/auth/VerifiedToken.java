@@ -0,0 +1,16 @@
+package com.polytech.contentservice.service.auth;
+
+import com.polytech.contentservice.common.Role;
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * Результат проверки токена сервисом авторизации.
+ *
+ * @param email     почта владельца токена
+ * @param role      актуальная роль пользователя
+ * @param expiresAt момент истечения токена из claim exp, null если его не удалось прочитать
+ */
+@Builder
+public record VerifiedToken(String email, Role role, Instant expiresAt) {
+}
@@ -0,0 +1,99 @@
+package com.polytech.contentservice.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.polytech.contentservice.config.AuthTokenCacheProperty;
+import com.polytech.contentservice.jfr.CacheLookups;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ограниченный по размеру кэш токенов, уже проверенных сервисом авторизации.
+ * Запись живёт не дольше claim exp токена и не дольше {@link AuthTokenCacheProperty#maxTtl()}.
+ */
+@Component
+public class VerifiedTokenCache {
+  private static final String CACHE_NAME = "auth-token";
+
+  private final AuthTokenCacheProperty property;
+  private final Clock clock;
+  private final Cache<String, VerifiedToken> cache;
+
+  @Autowired
+  public VerifiedTokenCache(AuthTokenCacheProperty property) {
+    this(property, Clock.systemUTC());
+  }
+
+  VerifiedTokenCache(AuthTokenCacheProperty property, Clock clock) {
+    this.property = property;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(property.maximumSize())
+        .expireAfter(new TokenExpiry())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Получение проверенного токена из кэша или через загрузчик.
+   * Ошибки загрузчика не кэшируются.
+   *
+   * @param token  JWT
+   * @param loader проверка токена в сервисе авторизации
+   * @return проверенный токен
+   */
+  public VerifiedToken get(String token, Function<String, VerifiedToken> loader) {
+    if (!property.enabled() || token == null) {
+      return loader.apply(token);
+    }
+    return CacheLookups.get(cache, CACHE_NAME, token, null, loader);
+  }
+
+  /**
+   * Статистика попаданий и промахов кэша.
+   *
+   * @return снимок статистики
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private long ttlInNanos(VerifiedToken verifiedToken) {
+    if (verifiedToken.expiresAt() == null) {
+      return 0;
+    }
+    Duration untilExpiration = Duration.between(Instant.now(clock), verifiedToken.expiresAt());
+    if (untilExpiration.isNegative()) {
+      return 0;
+    }
+    Duration ttl = untilExpiration.compareTo(property.maxTtl()) < 0
+        ? untilExpiration
+        : property.maxTtl();
+    return ttl.toNanos();
+  }
+
+  private class TokenExpiry implements Expiry<String, VerifiedToken> {
+    @Override
+    public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+      return ttlInNanos(verifiedToken);
+    }
+
+    @Override
+    public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime,
+                                  long currentDuration) {
+      return ttlInNanos(verifiedToken);
+    }
+
+    @Override
+    public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime,
+                                long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.polytech.contentservice.service.content;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Версия данных каталога для условных GET запросов.
+ * ETag слабый: он меняется вместе с датами обновления, а не с байтами ответа.
+ *
+ * @param etag         слабый ETag в формате {@code W/"..."}
+ * @param lastModified момент последнего изменения, если его можно определить надёжно
+ */
+public record CatalogVersion(String etag, Instant lastModified) {
+  private static final int DIGEST_BYTES = 16;
+
+  /**
+   * Версия одной сущности по дате её обновления.
+   *
+   * @param updatedDate дата обновления
+   * @return версия с ETag и Last-Modified
+   */
+  public static CatalogVersion of(LocalDateTime updatedDate) {
+    Instant instant = updatedDate.atZone(ZoneId.systemDefault()).toInstant();
+    long micros = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    return new CatalogVersion(weak(Long.toHexString(micros)), instant);
+  }
+
+  /**
+   * Версия набора сущностей по составляющим его значениям.
+   * Last-Modified не выставляется: по датам нельзя заметить удаление из набора.
+   *
+   * @param parts идентификаторы, даты и счётчики, однозначно описывающие набор
+   * @return версия только с ETag
+   */
+  public static CatalogVersion ofParts(List<?> parts) {
+    MessageDigest digest = sha256();
+    for (Object part : parts) {
+      digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+    }
+    return new CatalogVersion(weak(HexFormat.of().formatHex(digest.digest(), 0, DIGEST_BYTES)),
+        null);
+  }
+
+  private static String weak(String tag) {
+    return "W/\"" + tag + "\"";
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
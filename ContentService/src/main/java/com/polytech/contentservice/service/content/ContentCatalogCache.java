@@ -0,0 +1,137 @@
+package com.polytech.contentservice.service.content;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.polytech.contentservice.config.ContentCatalogCacheProperty;
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.jfr.CacheLookups;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Локальный кэш карточек контента и списков эпизодов.
+ * Записи удаляются сразу при изменении и повторно после завершения транзакции,
+ * чтобы параллельное чтение не вернуло в кэш данные, которые ещё не закоммичены.
+ */
+@Component
+public class ContentCatalogCache implements MeterBinder {
+  private static final String CONTENT_CACHE_NAME = "content";
+  private static final String EPISODES_CACHE_NAME = "content-episodes";
+
+  private final ContentCatalogCacheProperty property;
+  private final Cache<UUID, ContentDto> contents;
+  private final Cache<UUID, Set<EpisodeDto>> episodes;
+
+  public ContentCatalogCache(ContentCatalogCacheProperty property) {
+    this.property = property;
+    this.contents = Caffeine.newBuilder()
+        .maximumSize(property.maximumSize())
+        .expireAfterWrite(property.ttl())
+        .recordStats()
+        .build();
+    this.episodes = Caffeine.newBuilder()
+        .maximumSize(property.maximumSize())
+        .expireAfterWrite(property.ttl())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Получение карточки контента из кэша или через загрузчик.
+   * Ошибки загрузчика не кэшируются.
+   *
+   * @param contentId идентификатор контента
+   * @param loader    загрузка карточки из БД
+   * @return карточка контента
+   */
+  public ContentDto getContent(UUID contentId, Function<UUID, ContentDto> loader) {
+    if (!property.enabled()) {
+      return loader.apply(contentId);
+    }
+    return CacheLookups.get(contents, CONTENT_CACHE_NAME, contentId, contentId.toString(),
+        loader);
+  }
+
+  /**
+   * Получение эпизодов контента из кэша или через загрузчик.
+   * Ошибки загрузчика не кэшируются.
+   *
+   * @param contentId идентификатор контента
+   * @param loader    загрузка эпизодов из БД
+   * @return неизменяемое множество эпизодов
+   */
+  public Set<EpisodeDto> getEpisodes(UUID contentId, Function<UUID, Set<EpisodeDto>> loader) {
+    if (!property.enabled()) {
+      return loader.apply(contentId);
+    }
+    return CacheLookups.get(episodes, EPISODES_CACHE_NAME, contentId, contentId.toString(),
+        id -> Set.copyOf(loader.apply(id)));
+  }
+
+  /**
+   * Удаление карточки контента и его эпизодов.
+   *
+   * @param contentId идентификатор контента
+   */
+  public void evictContent(UUID contentId) {
+    evict(() -> {
+      contents.invalidate(contentId);
+      episodes.invalidate(contentId);
+    });
+  }
+
+  /**
+   * Удаление эпизодов контента.
+   *
+   * @param contentIds идентификаторы контента
+   */
+  public void evictEpisodes(Collection<UUID> contentIds) {
+    evict(() -> episodes.invalidateAll(contentIds));
+  }
+
+  /**
+   * Статистика кэша карточек контента.
+   *
+   * @return снимок статистики
+   */
+  public CacheStats contentStats() {
+    return contents.stats();
+  }
+
+  /**
+   * Статистика кэша эпизодов.
+   *
+   * @return снимок статистики
+   */
+  public CacheStats episodeStats() {
+    return episodes.stats();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, contents, CONTENT_CACHE_NAME);
+    CaffeineCacheMetrics.monitor(registry, episodes, EPISODES_CACHE_NAME);
+  }
+
+  private void evict(Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          eviction.run();
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.polytech.contentservice.service.content;
+
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Позиция в ленте контента, отсортированной по дате создания и идентификатору по убыванию.
+ *
+ * @param creationDate дата создания последнего полученного контента
+ * @param id           идентификатор последнего полученного контента
+ */
+record ContentCursor(LocalDateTime creationDate, UUID id) {
+  private static final String SEPARATOR = "|";
+
+  static ContentCursor after(Content content) {
+    return new ContentCursor(content.getCreationDate(), content.getId());
+  }
+
+  /**
+   * Разбор курсора, полученного клиентом со страницей.
+   *
+   * @param cursor курсор
+   * @return позиция в ленте
+   * @throws BadRequestException если курсор повреждён
+   */
+  static ContentCursor decode(String cursor) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = value.indexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      return new ContentCursor(
+          LocalDateTime.parse(value.substring(0, separatorIndex)),
+          UUID.fromString(value.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  String encode() {
+    String value = creationDate + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
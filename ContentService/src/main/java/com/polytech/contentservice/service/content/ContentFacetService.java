@@ -0,0 +1,19 @@
+package com.polytech.contentservice.service.content;
+
+import com.polytech.contentservice.dto.content.ContentFacetsDto;
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import java.util.Optional;
+
+/**
+ * Счётчики фильтров поиска по жанру, возрастному ограничению и году.
+ */
+public interface ContentFacetService {
+  /**
+   * Подсчёт контента для значений фильтров с учётом остальных выбранных фильтров.
+   * Текстовые условия по сводной таблице не учесть, поэтому для них счётчики не возвращаются.
+   *
+   * @param contentSearchDto выбранные фильтры
+   * @return счётчики фильтров, если поиск не содержит текстового условия
+   */
+  Optional<ContentFacetsDto> countFacets(ContentSearchDto contentSearchDto);
+}
@@ -0,0 +1,72 @@
+package com.polytech.contentservice.service.content;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.config.ContentFacetProperty;
+import com.polytech.contentservice.dto.content.ContentFacetsDto;
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.repository.ContentFacetCount;
+import com.polytech.contentservice.repository.ContentFacetRepository;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Реализация {@link ContentFacetService}.
+ * Сводная таблица content_facet читается целиком не чаще раза в {@link ContentFacetProperty#ttl()},
+ * счётчики для конкретного поиска считаются в памяти по её строкам.
+ */
+@Service
+public class ContentFacetServiceImpl implements ContentFacetService {
+  private final LoadingCache<Boolean, List<ContentFacetCount>> snapshot;
+
+  public ContentFacetServiceImpl(ContentFacetRepository contentFacetRepository,
+                                 ContentFacetProperty property) {
+    this.snapshot = Caffeine.newBuilder()
+        .maximumSize(1)
+        .expireAfterWrite(property.ttl())
+        .build(key -> contentFacetRepository.findAll());
+  }
+
+  @Override
+  public Optional<ContentFacetsDto> countFacets(ContentSearchDto contentSearchDto) {
+    if (StringUtils.isNotEmpty(contentSearchDto.title())) {
+      return Optional.empty();
+    }
+    Map<Genre, Long> genres = new EnumMap<>(Genre.class);
+    Map<AgeRestriction, Long> ageRestrictions = new EnumMap<>(AgeRestriction.class);
+    Map<Integer, Long> years = new TreeMap<>(Comparator.reverseOrder());
+    for (ContentFacetCount facet : snapshot.get(Boolean.TRUE)) {
+      boolean genreMatches = matches(contentSearchDto.genre(), facet.genre());
+      boolean ageRestrictionMatches =
+          matches(contentSearchDto.ageRestriction(), facet.ageRestriction());
+      boolean yearMatches = matches(contentSearchDto.year(), facet.year());
+      if (ageRestrictionMatches && yearMatches) {
+        genres.merge(facet.genre(), facet.count(), Long::sum);
+      }
+      if (genreMatches && yearMatches) {
+        ageRestrictions.merge(facet.ageRestriction(), facet.count(), Long::sum);
+      }
+      if (genreMatches && ageRestrictionMatches && facet.year() != null) {
+        years.merge(facet.year(), facet.count(), Long::sum);
+      }
+    }
+    return Optional.of(ContentFacetsDto.builder()
+        .genres(genres)
+        .ageRestrictions(ageRestrictions)
+        .years(years)
+        .build());
+  }
+
+  private static <T> boolean matches(T selected, T value) {
+    return selected == null || Objects.equals(selected, value);
+  }
+}
@@ -0,0 +1,19 @@
+package com.polytech.contentservice.service.content;
+
+import com.polytech.contentservice.dto.content.ContentImportResultDto;
+import java.io.InputStream;
+
+/**
+ * Описание для бизнес слоя по массовой загрузке каталога.
+ */
+public interface ContentImportService {
+  /**
+   * Загрузка фильмов и сериалов из NDJSON: одна строка - один
+   * {@link com.polytech.contentservice.dto.content.ContentImportItemDto}.
+   * Строки с ошибками пропускаются и попадают в отчёт, остальные загружаются.
+   *
+   * @param ndjson поток строк в формате NDJSON
+   * @return отчёт о загрузке
+   */
+  ContentImportResultDto importContents(InputStream ndjson);
+}
@@ -0,0 +1,212 @@
+package com.polytech.contentservice.service.content;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.polytech.contentservice.common.EpisodeStatus;
+import com.polytech.contentservice.config.ContentImportProperty;
+import com.polytech.contentservice.dto.castmember.CastMemberDto;
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.content.ContentImportErrorDto;
+import com.polytech.contentservice.dto.content.ContentImportItemDto;
+import com.polytech.contentservice.dto.content.ContentImportResultDto;
+import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.Episode;
+import com.polytech.contentservice.entity.id.UuidV7Generator;
+import com.polytech.contentservice.exception.BadRequestException;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import com.polytech.contentservice.repository.ContentBatchRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Реализация {@link ContentImportService}.
+ * Строки читаются потоком и копятся в пачки по {@link ContentImportProperty#batchSize()},
+ * каждая пачка пишется JDBC batch в своей транзакции. Если пачка не записалась,
+ * её строки пишутся по одной, чтобы в отчёт попали только ошибочные.
+ */
+@Slf4j
+@Service
+public class ContentImportServiceImpl implements ContentImportService {
+  private final ContentBatchRepository contentBatchRepository;
+  private final ContentMapper contentMapper;
+  private final EpisodeMapper episodeMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectReader itemReader;
+  private final ContentImportProperty property;
+
+  public ContentImportServiceImpl(ContentBatchRepository contentBatchRepository,
+                                  ContentMapper contentMapper,
+                                  EpisodeMapper episodeMapper,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  ContentImportProperty property) {
+    this.contentBatchRepository = contentBatchRepository;
+    this.contentMapper = contentMapper;
+    this.episodeMapper = episodeMapper;
+    this.transactionTemplate = transactionTemplate;
+    this.itemReader = objectMapper.readerFor(ContentImportItemDto.class);
+    this.property = property;
+  }
+
+  @Override
+  public ContentImportResultDto importContents(InputStream ndjson) {
+    long start = System.nanoTime();
+    ImportReport report = new ImportReport(property.maxReportedErrors());
+    List<ImportLine> batch = new ArrayList<>(property.batchSize());
+    try (BufferedReader reader =
+             new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+      long lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          batch.add(new ImportLine(lineNumber, toContent(itemReader.readValue(line))));
+        } catch (JsonProcessingException e) {
+          report.fail(lineNumber, "Malformed line: " + e.getOriginalMessage());
+        } catch (BadRequestException e) {
+          report.fail(lineNumber, e.getMessage());
+        }
+        if (batch.size() == property.batchSize()) {
+          write(batch, report);
+          batch.clear();
+        }
+      }
+    } catch (IOException e) {
+      throw new BadRequestException("Failed to read import body");
+    }
+    write(batch, report);
+    log.info("Imported {} contents, {} lines failed in {} ms", report.imported, report.failed,
+        (System.nanoTime() - start) / 1_000_000);
+    return report.toDto();
+  }
+
+  private void write(List<ImportLine> batch, ImportReport report) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      insert(batch);
+      report.imported += batch.size();
+    } catch (DataAccessException e) {
+      log.debug("Import batch failed, retrying line by line", e);
+      for (ImportLine line : batch) {
+        try {
+          insert(List.of(line));
+          report.imported++;
+        } catch (DataAccessException lineException) {
+          report.fail(line.number(), lineException.getMostSpecificCause().getMessage());
+        }
+      }
+    }
+  }
+
+  private void insert(List<ImportLine> lines) {
+    List<Content> contents = lines.stream()
+        .map(ImportLine::content)
+        .toList();
+    transactionTemplate.executeWithoutResult(status -> contentBatchRepository.insertAll(contents));
+  }
+
+  private Content toContent(ContentImportItemDto item) {
+    validate(item);
+    Content content = contentMapper.convertToContentEntity(item.content());
+    content.setId(UuidV7Generator.nextUuid());
+    content.getCastMembers().forEach(castMember -> castMember.setId(UuidV7Generator.nextUuid()));
+    List<EpisodeDto> episodes = item.episodes() == null ? List.of() : item.episodes();
+    content.setEpisodes(episodes.stream()
+        .map(episodeDto -> toEpisode(episodeDto, content))
+        .collect(Collectors.toSet()));
+    return content;
+  }
+
+  private Episode toEpisode(EpisodeDto episodeDto, Content content) {
+    Episode episode = episodeMapper.convertToEpisodeEntity(episodeDto, content);
+    episode.setId(UuidV7Generator.nextUuid());
+    episode.setStatus(EpisodeStatus.NOT_UPLOADED);
+    return episode;
+  }
+
+  private static void validate(ContentImportItemDto item) {
+    ContentDto content = item.content();
+    if (content == null) {
+      throw new BadRequestException("Content is required");
+    }
+    if (content.title() == null || content.title().isBlank()) {
+      throw new BadRequestException("Title is required");
+    }
+    if (content.quality() == null || content.genre() == null || content.category() == null
+        || content.ageRestriction() == null) {
+      throw new BadRequestException("Quality, genre, category and age restriction are required");
+    }
+    if (content.castMembers() != null) {
+      for (CastMemberDto castMember : content.castMembers()) {
+        if (castMember.employeeFullName() == null || castMember.roleName() == null) {
+          throw new BadRequestException("Cast member full name and role are required");
+        }
+      }
+    }
+    if (item.episodes() != null) {
+      Set<String> episodeKeys = new HashSet<>();
+      for (EpisodeDto episode : item.episodes()) {
+        if (episode.title() == null || episode.episodeNumber() == null) {
+          throw new BadRequestException("Episode title and number are required");
+        }
+        if (episode.seasonNumber() != null
+            && !episodeKeys.add(episode.seasonNumber() + "/" + episode.episodeNumber())) {
+          throw new BadRequestException("Duplicate episode " + episode.episodeNumber()
+              + " in season " + episode.seasonNumber());
+        }
+      }
+    }
+  }
+
+  private record ImportLine(long number, Content content) {
+  }
+
+  private static final class ImportReport {
+    private final int maxReportedErrors;
+    private final List<ContentImportErrorDto> errors = new ArrayList<>();
+    private long imported;
+    private long failed;
+
+    private ImportReport(int maxReportedErrors) {
+      this.maxReportedErrors = maxReportedErrors;
+    }
+
+    private void fail(long line, String message) {
+      failed++;
+      if (errors.size() < maxReportedErrors) {
+        errors.add(ContentImportErrorDto.builder()
+            .line(line)
+            .message(message)
+            .build());
+      }
+    }
+
+    private ContentImportResultDto toDto() {
+      return ContentImportResultDto.builder()
+          .imported(imported)
+          .failed(failed)
+          .errors(List.copyOf(errors))
+          .build();
+    }
+  }
+}
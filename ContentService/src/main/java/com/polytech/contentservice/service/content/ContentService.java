@@ -2,8 +2,11 @@ package com.polytech.contentservice.service.content;
 
 import com.polytech.contentservice.dto.content.ContentDto;
 import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.dto.content.ContentSuggestionDto;
 import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -45,6 +48,22 @@ public interface ContentService {
    */
   ContentDto findContentById(UUID id);
 
+  /**
+   * Получение версии контента без загрузки самого контента.
+   *
+   * @param id ИД контента
+   * @return версия контента, если он существует
+   */
+  Optional<CatalogVersion> findContentVersion(UUID id);
+
+  /**
+   * Получение версии страницы контента без загрузки членов состава.
+   *
+   * @param pageable номер и размер страницы
+   * @return версия страницы, если страница не пуста
+   */
+  Optional<CatalogVersion> findContentPageVersion(Pageable pageable);
+
   /**
    * Удаление контента по id.
    *
@@ -60,6 +79,14 @@ public interface ContentService {
    */
   Set<EpisodeDto> findAllEpisodesForContent(UUID contentId);
 
+  /**
+   * Получение версии набора эпизодов контента без загрузки эпизодов.
+   *
+   * @param contentId Идентификатор контента
+   * @return версия набора эпизодов, если контент существует
+   */
+  Optional<CatalogVersion> findEpisodesVersion(UUID contentId);
+
   /**
    * Получение контента по фильтрам.
    *
@@ -67,4 +94,31 @@ public interface ContentService {
    * @return список полученных контентов
    */
   Page<ContentDto> getAllContentsByFilter(ContentSearchDto contentSearchDto);
+
+  /**
+   * Получение страницы контента по курсору, от новых к старым.
+   *
+   * @param cursor   курсор, полученный с предыдущей страницей, или null для первой страницы
+   * @param pageSize количество элементов на странице
+   * @return страница контента с курсором на следующую страницу
+   */
+  CursorPageDto<ContentDto> findContentPage(String cursor, int pageSize);
+
+  /**
+   * Получение страницы контента по фильтрам и курсору, от новых к старым.
+   *
+   * @param contentSearchDto фильтры, номер страницы не учитывается
+   * @param cursor           курсор, полученный с предыдущей страницей, или null для первой страницы
+   * @return страница контента с курсором на следующую страницу
+   */
+  CursorPageDto<ContentDto> findContentPageByFilter(ContentSearchDto contentSearchDto, String cursor);
+
+  /**
+   * Получение подсказок по названию для ввода в строке поиска.
+   *
+   * @param query фрагмент названия
+   * @param limit максимальное количество подсказок
+   * @return подсказки, начиная с наиболее подходящих
+   */
+  List<ContentSuggestionDto> suggestTitles(String query, int limit);
 }
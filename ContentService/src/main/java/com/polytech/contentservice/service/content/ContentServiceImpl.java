@@ -1,23 +1,32 @@
 package com.polytech.contentservice.service.content;
 
+import com.polytech.contentservice.common.ContentSearchMode;
 import com.polytech.contentservice.dto.content.ContentDto;
 import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.dto.content.ContentSuggestionDto;
 import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
 import com.polytech.contentservice.entity.Content;
 import com.polytech.contentservice.entity.QContent;
+import com.polytech.contentservice.exception.BadRequestException;
 import com.polytech.contentservice.exception.NotFoundException;
 import com.polytech.contentservice.mapper.ContentMapper;
 import com.polytech.contentservice.mapper.EpisodeMapper;
 import com.polytech.contentservice.repository.ContentRepository;
+import com.polytech.contentservice.repository.ContentVersion;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -26,6 +35,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Реализация {@link ContentService}.
@@ -33,11 +43,14 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class ContentServiceImpl implements ContentService {
+  private static final int MAX_SUGGESTIONS = 50;
+
   private final QContent content = QContent.content;
 
   private final ContentRepository contentRepository;
   private final ContentMapper contentMapper;
   private final EpisodeMapper episodeMapper;
+  private final ContentCatalogCache catalogCache;
 
   @PersistenceContext
   private EntityManager entityManager;
@@ -55,10 +68,26 @@ public class ContentServiceImpl implements ContentService {
     Content oldContent = getContentById(id);
     Content updatedContent = contentMapper.patchUpdate(oldContent, contentDto);
     contentRepository.save(updatedContent);
+    catalogCache.evictContent(id);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Set<EpisodeDto> findAllEpisodesForContent(UUID contentId) {
+    return catalogCache.getEpisodes(contentId, this::loadAllEpisodesForContent);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<CatalogVersion> findEpisodesVersion(UUID contentId) {
+    return contentRepository.findEpisodesVersion(contentId)
+        .map(version -> CatalogVersion.ofParts(List.of(
+            version.getContentUpdatedDate(),
+            Objects.toString(version.getLastEpisodeUpdatedDate()),
+            version.getEpisodeCount())));
+  }
+
+  private Set<EpisodeDto> loadAllEpisodesForContent(UUID contentId) {
     Content curContent = getContentById(contentId);
     return curContent.getEpisodes()
         .stream()
@@ -72,18 +101,130 @@ public class ContentServiceImpl implements ContentService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<ContentDto> findAllContent(Pageable pageable) {
-    Page<Content> contents = contentRepository.findAll(pageable);
-    return contentMapper.convertToListOfContentDto(contents);
+    return findAllWithCastMembers(contentRepository.findPageIds(pageable))
+        .stream()
+        .map(contentMapper::convertToContentDto)
+        .toList();
+  }
+
+  private List<Content> findAllWithCastMembers(List<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<UUID, Content> contents = contentRepository.findAllWithCastMembersByIdIn(ids)
+        .stream()
+        .collect(Collectors.toMap(Content::getId, Function.identity(), (first, second) -> first));
+    return ids.stream()
+        .map(contents::get)
+        .filter(Objects::nonNull)
+        .toList();
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<ContentDto> getAllContentsByFilter(ContentSearchDto contentSearchDto) {
-    JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
     Pageable pageable = PageRequest.of(
         contentSearchDto.pageNumber(),
         contentSearchDto.pageSize());
+    if (isFullTextSearch(contentSearchDto)) {
+      return getAllContentsByFullText(contentSearchDto, pageable);
+    }
+
+    JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+    BooleanBuilder booleanBuilder = buildFilter(contentSearchDto);
+    List<UUID> ids = queryFactory.select(content.id)
+        .from(content)
+        .where(booleanBuilder)
+        .orderBy(content.creationDate.desc(), content.id.desc())
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    List<ContentDto> products = findAllWithCastMembers(ids)
+        .stream()
+        .map(contentMapper::convertToContentDto)
+        .toList();
+
+    Long total = queryFactory.select(content.count())
+        .from(content)
+        .where(booleanBuilder)
+        .fetchOne();
+    return new PageImpl<>(products, pageable, total == null ? 0 : total);
+  }
+
+  private Page<ContentDto> getAllContentsByFullText(ContentSearchDto contentSearchDto,
+                                                     Pageable pageable) {
+    List<UUID> ids = contentRepository.findIdsByFullText(
+        contentSearchDto, pageable.getOffset(), pageable.getPageSize());
+    List<ContentDto> products = findAllWithCastMembers(ids)
+        .stream()
+        .map(contentMapper::convertToContentDto)
+        .toList();
+    return new PageImpl<>(products, pageable, contentRepository.countByFullText(contentSearchDto));
+  }
 
+  private boolean isFullTextSearch(ContentSearchDto contentSearchDto) {
+    return contentSearchDto.searchMode() == ContentSearchMode.FULL_TEXT
+        && StringUtils.isNotBlank(contentSearchDto.title());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageDto<ContentDto> findContentPage(String cursor, int pageSize) {
+    long estimatedCount = contentRepository.estimateCount();
+    return findCursorPage(new BooleanBuilder(), cursor, pageSize,
+        estimatedCount < 0 ? null : estimatedCount);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageDto<ContentDto> findContentPageByFilter(ContentSearchDto contentSearchDto,
+                                                           String cursor) {
+    if (contentSearchDto.pageSize() == null) {
+      throw new BadRequestException("Page size is required");
+    }
+    if (isFullTextSearch(contentSearchDto)) {
+      throw new BadRequestException("Full text search results are ranked and cannot be paged by cursor");
+    }
+    return findCursorPage(buildFilter(contentSearchDto), cursor, contentSearchDto.pageSize(), null);
+  }
+
+  private CursorPageDto<ContentDto> findCursorPage(BooleanBuilder filter, String cursor,
+                                                   int pageSize, Long approximateTotal) {
+    if (pageSize <= 0) {
+      throw new BadRequestException("Page size must be positive");
+    }
+    BooleanBuilder booleanBuilder = new BooleanBuilder(filter);
+    if (StringUtils.isNotEmpty(cursor)) {
+      ContentCursor after = ContentCursor.decode(cursor);
+      // Первое условие служит границей сканирования индекса, второе отсекает уже отданные строки
+      booleanBuilder.and(content.creationDate.loe(after.creationDate()))
+          .and(content.creationDate.lt(after.creationDate()).or(content.id.lt(after.id())));
+    }
+    List<UUID> ids = new JPAQueryFactory(entityManager).select(content.id)
+        .from(content)
+        .where(booleanBuilder)
+        .orderBy(content.creationDate.desc(), content.id.desc())
+        .limit(pageSize + 1L)
+        .fetch();
+
+    boolean hasNext = ids.size() > pageSize;
+    List<Content> contents = findAllWithCastMembers(hasNext ? ids.subList(0, pageSize) : ids);
+    String nextCursor = hasNext && !contents.isEmpty()
+        ? ContentCursor.after(contents.getLast()).encode()
+        : null;
+    return CursorPageDto.<ContentDto>builder()
+        .items(contents.stream()
+            .map(contentMapper::convertToContentDto)
+            .toList())
+        .nextCursor(nextCursor)
+        .approximateTotal(approximateTotal)
+        .build();
+  }
+
+  private BooleanBuilder buildFilter(ContentSearchDto contentSearchDto) {
     BooleanBuilder booleanBuilder = new BooleanBuilder();
 
     if (StringUtils.isNoneEmpty(contentSearchDto.title())) {
@@ -98,27 +239,64 @@ public class ContentServiceImpl implements ContentService {
     if (contentSearchDto.year() != null) {
       booleanBuilder.and(content.year.eq(contentSearchDto.year()));
     }
-    JPAQuery<Content> query = queryFactory.selectFrom(content)
-        .where(booleanBuilder);
+    return booleanBuilder;
+  }
 
-    List<ContentDto> products = query.offset(pageable.getOffset())
-        .limit(pageable.getPageSize())
-        .fetch()
+  @Override
+  @Transactional(readOnly = true)
+  public List<ContentSuggestionDto> suggestTitles(String query, int limit) {
+    if (limit <= 0 || limit > MAX_SUGGESTIONS) {
+      throw new BadRequestException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+    }
+    if (StringUtils.isBlank(query)) {
+      return List.of();
+    }
+    String fragment = query.strip().toLowerCase(Locale.ROOT);
+    return contentRepository.findTitleSuggestions(escapeLikePattern(fragment), fragment, limit)
         .stream()
-        .map(contentMapper::convertToContentDto)
+        .map(contentMapper::convertToContentSuggestionDto)
         .toList();
+  }
 
-    return new PageImpl<>(products, pageable, query.fetchCount());
+  private String escapeLikePattern(String value) {
+    return value.replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
   }
 
   @Override
+  @Transactional(readOnly = true)
   public ContentDto findContentById(UUID id) {
-    return contentMapper.convertToContentDto(getContentById(id));
+    return catalogCache.getContent(id,
+        contentId -> contentMapper.convertToContentDto(getContentById(contentId)));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<CatalogVersion> findContentVersion(UUID id) {
+    return contentRepository.findUpdatedDateById(id)
+        .map(CatalogVersion::of);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<CatalogVersion> findContentPageVersion(Pageable pageable) {
+    List<ContentVersion> versions = contentRepository.findPageVersions(pageable);
+    if (versions.isEmpty()) {
+      return Optional.empty();
+    }
+    List<Object> parts = new ArrayList<>(versions.size() * 2);
+    versions.forEach(version -> {
+      parts.add(version.getId());
+      parts.add(version.getUpdatedDate());
+    });
+    return Optional.of(CatalogVersion.ofParts(parts));
   }
 
   @Override
   public void deleteById(UUID id) {
     getContentById(id);
     contentRepository.deleteById(id);
+    catalogCache.evictContent(id);
   }
 }
@@ -1,6 +1,8 @@
 package com.polytech.contentservice.service.episode;
 
 import com.polytech.contentservice.dto.episode.EpisodeDto;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +26,14 @@ public interface EpisodeService {
    */
   void updateEpisodeInfo(UUID episodeId, EpisodeDto episode);
 
+  /**
+   * Обновление информации о нескольких эпизодах в одной транзакции.
+   *
+   * @param episodes Данные для обновления по идентификаторам эпизодов
+   * @return Идентификаторы эпизодов, которые не были найдены
+   */
+  Set<UUID> updateEpisodesInfo(Map<UUID, EpisodeDto> episodes);
+
   /**
    * Получения информации о конкретном ролике.
    *
@@ -8,8 +8,16 @@ import com.polytech.contentservice.exception.NotFoundException;
 import com.polytech.contentservice.mapper.EpisodeMapper;
 import com.polytech.contentservice.repository.ContentRepository;
 import com.polytech.contentservice.repository.EpisodeRepository;
+import com.polytech.contentservice.service.content.ContentCatalogCache;
 import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -22,6 +30,7 @@ public class EpisodeServiceImpl implements EpisodeService {
   private final EpisodeRepository episodeRepository;
   private final ContentRepository contentRepository;
   private final EpisodeMapper episodeMapper;
+  private final ContentCatalogCache catalogCache;
 
   @Override
   public EpisodeDto createNewEpisode(UUID contentId, EpisodeDto episode) {
@@ -29,7 +38,9 @@ public class EpisodeServiceImpl implements EpisodeService {
         .orElseThrow(() -> new NotFoundException("Content not found"));
     Episode episodeToSave = episodeMapper.convertToEpisodeEntity(episode, content);
     episodeToSave.setStatus(EpisodeStatus.NOT_UPLOADED);
-    return episodeMapper.convertToEpisodeDto(episodeRepository.save(episodeToSave));
+    Episode savedEpisode = episodeRepository.save(episodeToSave);
+    catalogCache.evictEpisodes(Set.of(contentId));
+    return episodeMapper.convertToEpisodeDto(savedEpisode);
   }
 
   @Override
@@ -40,6 +51,22 @@ public class EpisodeServiceImpl implements EpisodeService {
 
     Episode updatedEpisode = episodeMapper.patchUpdate(oldEpisode, episode);
     episodeRepository.save(updatedEpisode);
+    evictEpisodes(List.of(oldEpisode));
+  }
+
+  @Override
+  @Transactional
+  public Set<UUID> updateEpisodesInfo(Map<UUID, EpisodeDto> episodes) {
+    List<Episode> oldEpisodes = episodeRepository.findAllById(episodes.keySet());
+    List<Episode> updatedEpisodes = oldEpisodes.stream()
+        .map(oldEpisode -> episodeMapper.patchUpdate(oldEpisode, episodes.get(oldEpisode.getId())))
+        .toList();
+    episodeRepository.saveAll(updatedEpisodes);
+    evictEpisodes(oldEpisodes);
+
+    Set<UUID> notFoundEpisodes = new HashSet<>(episodes.keySet());
+    oldEpisodes.forEach(episode -> notFoundEpisodes.remove(episode.getId()));
+    return notFoundEpisodes;
   }
 
   @Override
@@ -51,8 +78,17 @@ public class EpisodeServiceImpl implements EpisodeService {
   @Override
   @Transactional
   public void deleteEpisodeById(UUID id) {
-    episodeRepository.findById(id)
+    Episode episode = episodeRepository.findById(id)
         .orElseThrow(() -> new NotFoundException("Episode not found"));
     episodeRepository.deleteById(id);
+    evictEpisodes(List.of(episode));
+  }
+
+  private void evictEpisodes(Collection<Episode> episodes) {
+    catalogCache.evictEpisodes(episodes.stream()
+        .map(Episode::getContent)
+        .filter(Objects::nonNull)
+        .map(Content::getId)
+        .collect(Collectors.toSet()));
   }
 }
@@ -0,0 +1,52 @@
+package com.polytech.contentservice.service.personallist;
+
+import com.polytech.contentservice.dto.personallist.PersonalListItemDto;
+import com.polytech.contentservice.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Позиция в персональном листе, отсортированном по дате добавления и идентификатору записи по убыванию.
+ *
+ * @param addedDate      дата добавления последней полученной записи
+ * @param personalListId идентификатор последней полученной записи
+ */
+record PersonalListCursor(LocalDateTime addedDate, UUID personalListId) {
+  private static final String SEPARATOR = "|";
+
+  static PersonalListCursor after(PersonalListItemDto item) {
+    return new PersonalListCursor(item.addedDate(), item.personalListId());
+  }
+
+  /**
+   * Разбор курсора, полученного клиентом со страницей.
+   *
+   * @param cursor курсор
+   * @return позиция в персональном листе
+   * @throws BadRequestException если курсор повреждён
+   */
+  static PersonalListCursor decode(String cursor) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = value.indexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      return new PersonalListCursor(
+          LocalDateTime.parse(value.substring(0, separatorIndex)),
+          UUID.fromString(value.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  String encode() {
+    String value = addedDate + SEPARATOR + personalListId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -1,9 +1,13 @@
 package com.polytech.contentservice.service.personallist;
 
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDeletionDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDto;
+import com.polytech.contentservice.dto.personallist.PersonalListItemDto;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -15,4 +19,33 @@ public interface PersonalListService {
   void removeFavoriteMovie(PersonalListDeletionDto dto);
 
   List<ContentDto> getFavoriteMoviesByUser(UUID userId);
+
+  /**
+   * Получение страницы персонального листа по курсору, от последних добавленных к первым.
+   * Читает только краткое описание контента одним запросом, без членов состава.
+   *
+   * @param userId   ИД хозяина персонального листа
+   * @param cursor   курсор, полученный с предыдущей страницей, или null для первой страницы
+   * @param pageSize количество элементов на странице
+   * @return страница персонального листа с курсором на следующую страницу
+   */
+  CursorPageDto<PersonalListItemDto> getFavoriteMoviesPage(UUID userId, String cursor, int pageSize);
+
+  /**
+   * Проверка, какой контент из набора добавлен в персональный лист, одним запросом по индексу.
+   *
+   * @param userId     ИД хозяина персонального листа
+   * @param contentIds ИД контента, например, со страницы каталога
+   * @return признак наличия в персональном листе для каждого переданного ИД
+   */
+  Map<UUID, Boolean> findPersonalListMembership(UUID userId, Collection<UUID> contentIds);
+
+  /**
+   * Проставление признака наличия в персональном листе для страницы каталога.
+   *
+   * @param userId   ИД хозяина персонального листа
+   * @param contents контент страницы
+   * @return тот же контент в том же порядке с заполненным {@link ContentDto#inPersonalList()}
+   */
+  List<ContentDto> markPersonalListMembership(UUID userId, List<ContentDto> contents);
 }
@@ -1,22 +1,39 @@
 package com.polytech.contentservice.service.personallist;
 
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDeletionDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDto;
+import com.polytech.contentservice.dto.personallist.PersonalListItemDto;
 import com.polytech.contentservice.entity.Content;
 import com.polytech.contentservice.entity.PersonalList;
+import com.polytech.contentservice.entity.QContent;
+import com.polytech.contentservice.entity.QPersonalList;
 import com.polytech.contentservice.entity.User;
+import com.polytech.contentservice.entity.id.UuidV7Generator;
+import com.polytech.contentservice.exception.BadRequestException;
 import com.polytech.contentservice.exception.NotFoundException;
 import com.polytech.contentservice.mapper.ContentMapper;
 import com.polytech.contentservice.repository.ContentRepository;
 import com.polytech.contentservice.repository.PersonalListRepository;
 import com.polytech.contentservice.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Реализация {@link PersonalListService}.
@@ -24,10 +41,17 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class PersonalListServiceImpl implements PersonalListService {
+  private static final int MAX_MEMBERSHIP_IDS = 1000;
+
   private final PersonalListRepository personalListRepository;
   private final ContentRepository contentRepository;
   private final UserRepository userRepository;
   private final ContentMapper contentMapper;
+  private final QPersonalList personalList = QPersonalList.personalList;
+  private final QContent listedContent = QContent.content;
+
+  @PersistenceContext
+  private EntityManager entityManager;
 
   @Transactional
   @Override
@@ -36,18 +60,12 @@ public class PersonalListServiceImpl implements PersonalListService {
         .orElseThrow(() -> new NotFoundException("User not found"));
     Content content = contentRepository.findById(personalListDto.contentId())
         .orElseThrow(() -> new NotFoundException("Content not found"));
-
-    PersonalList favoriteMovie = PersonalList.builder()
-        .user(user)
-        .content(content)
-        .creationDate(LocalDateTime.now())
-        .build();
-    PersonalList savedPersonalList = personalListRepository.save(favoriteMovie);
-    return PersonalListDto.builder()
-        .contentId(savedPersonalList.getContent().getId())
-        .personalListId(savedPersonalList.getId())
-        .userId(savedPersonalList.getUser().getId())
-        .build();
+    // Повторное добавление, например двойной клик, возвращает уже существующую запись
+    personalListRepository.insertIfAbsent(UuidV7Generator.nextUuid(), user.getId(),
+        content.getId(), LocalDateTime.now());
+    return personalListRepository.findByUserIdAndContentId(user.getId(), content.getId())
+        .map(PersonalListServiceImpl::toPersonalListDto)
+        .orElseThrow(() -> new NotFoundException("Personal list content does not found"));
   }
 
   @Override
@@ -59,6 +77,7 @@ public class PersonalListServiceImpl implements PersonalListService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<ContentDto> getFavoriteMoviesByUser(UUID userId) {
     return userRepository.findById(userId)
         .orElseThrow(() -> new NotFoundException("User not found"))
@@ -68,4 +87,85 @@ public class PersonalListServiceImpl implements PersonalListService {
         .map(contentMapper::convertToContentDto)
         .toList();
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageDto<PersonalListItemDto> getFavoriteMoviesPage(UUID userId, String cursor,
+                                                                  int pageSize) {
+    if (pageSize <= 0) {
+      throw new BadRequestException("Page size must be positive");
+    }
+    BooleanBuilder booleanBuilder = new BooleanBuilder(personalList.user.id.eq(userId));
+    boolean firstPage = StringUtils.isEmpty(cursor);
+    if (!firstPage) {
+      PersonalListCursor after = PersonalListCursor.decode(cursor);
+      // Первое условие служит границей сканирования индекса, второе отсекает уже отданные строки
+      booleanBuilder.and(personalList.creationDate.loe(after.addedDate()))
+          .and(personalList.creationDate.lt(after.addedDate())
+              .or(personalList.id.lt(after.personalListId())));
+    }
+    List<PersonalListItemDto> items = new JPAQueryFactory(entityManager)
+        .select(Projections.constructor(PersonalListItemDto.class,
+            personalList.id,
+            listedContent.id,
+            listedContent.title,
+            listedContent.year,
+            listedContent.genre,
+            listedContent.category,
+            listedContent.ageRestriction,
+            listedContent.thumbnail,
+            personalList.creationDate))
+        .from(personalList)
+        .join(personalList.content, listedContent)
+        .where(booleanBuilder)
+        .orderBy(personalList.creationDate.desc(), personalList.id.desc())
+        .limit(pageSize + 1L)
+        .fetch();
+
+    if (firstPage && items.isEmpty() && !userRepository.existsById(userId)) {
+      throw new NotFoundException("User not found");
+    }
+    boolean hasNext = items.size() > pageSize;
+    List<PersonalListItemDto> page = hasNext ? items.subList(0, pageSize) : items;
+    return CursorPageDto.<PersonalListItemDto>builder()
+        .items(page)
+        .nextCursor(hasNext ? PersonalListCursor.after(page.getLast()).encode() : null)
+        .build();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<UUID, Boolean> findPersonalListMembership(UUID userId, Collection<UUID> contentIds) {
+    Set<UUID> requestedIds = new LinkedHashSet<>(contentIds);
+    if (requestedIds.size() > MAX_MEMBERSHIP_IDS) {
+      throw new BadRequestException("Too many content ids, max " + MAX_MEMBERSHIP_IDS);
+    }
+    Set<UUID> favoriteIds = requestedIds.isEmpty()
+        ? Set.of()
+        : personalListRepository.findContentIdsByUserIdAndContentIdIn(userId, requestedIds);
+    Map<UUID, Boolean> membership = new LinkedHashMap<>();
+    requestedIds.forEach(contentId -> membership.put(contentId, favoriteIds.contains(contentId)));
+    return membership;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ContentDto> markPersonalListMembership(UUID userId, List<ContentDto> contents) {
+    Map<UUID, Boolean> membership = findPersonalListMembership(userId, contents.stream()
+        .map(ContentDto::id)
+        .toList());
+    return contents.stream()
+        .map(contentDto -> contentDto.toBuilder()
+            .inPersonalList(membership.get(contentDto.id()))
+            .build())
+        .toList();
+  }
+
+  private static PersonalListDto toPersonalListDto(PersonalList entry) {
+    return PersonalListDto.builder()
+        .contentId(entry.getContent().getId())
+        .personalListId(entry.getId())
+        .userId(entry.getUser().getId())
+        .build();
+  }
 }
@@ -0,0 +1,40 @@
+package com.polytech.contentservice.service.profiling;
+
+import com.polytech.contentservice.dto.profiling.JfrRecordingDto;
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * Описание для бизнес слоя по записи JFR во время работы сервиса.
+ * Одновременно ведётся не больше одной записи.
+ */
+public interface JfrRecordingService {
+  /**
+   * Начало новой записи. Предыдущая остановленная запись удаляется.
+   *
+   * @param duration длительность записи или null для максимальной
+   * @return состояние записи
+   */
+  JfrRecordingDto start(Duration duration);
+
+  /**
+   * Остановка текущей записи.
+   *
+   * @return состояние записи
+   */
+  JfrRecordingDto stop();
+
+  /**
+   * Состояние последней записи.
+   *
+   * @return состояние записи
+   */
+  JfrRecordingDto getRecording();
+
+  /**
+   * Данные остановленной записи в формате JFR.
+   *
+   * @return поток данных записи
+   */
+  InputStream openRecording();
+}
@@ -0,0 +1,124 @@
+package com.polytech.contentservice.service.profiling;
+
+import com.polytech.contentservice.config.JfrRecordingProperty;
+import com.polytech.contentservice.dto.profiling.JfrRecordingDto;
+import com.polytech.contentservice.exception.BadRequestException;
+import com.polytech.contentservice.exception.NotFoundException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.time.Duration;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Реализация {@link JfrRecordingService}.
+ * Запись идёт на диск с ограничением по размеру и длительности из {@link JfrRecordingProperty},
+ * поэтому забытая запись не займёт больше заданного места.
+ */
+@Slf4j
+@Service
+public class JfrRecordingServiceImpl implements JfrRecordingService {
+  private static final String RECORDING_NAME = "content-service";
+
+  private final JfrRecordingProperty property;
+  private final Configuration configuration;
+  private Recording recording;
+
+  public JfrRecordingServiceImpl(JfrRecordingProperty property) {
+    this.property = property;
+    try {
+      this.configuration = Configuration.getConfiguration(property.settings());
+    } catch (IOException | ParseException e) {
+      throw new IllegalStateException("Unknown JFR settings: " + property.settings(), e);
+    }
+  }
+
+  @Override
+  public synchronized JfrRecordingDto start(Duration duration) {
+    Duration recordingDuration = duration == null ? property.maxDuration() : duration;
+    if (!recordingDuration.isPositive() || recordingDuration.compareTo(property.maxDuration()) > 0) {
+      throw new BadRequestException("Duration must be positive and at most "
+          + property.maxDuration());
+    }
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      throw new BadRequestException("Recording is already running");
+    }
+    close();
+    Recording newRecording = new Recording(configuration);
+    newRecording.setName(RECORDING_NAME);
+    newRecording.setToDisk(true);
+    newRecording.setMaxSize(property.maxSize().toBytes());
+    newRecording.setDuration(recordingDuration);
+    newRecording.start();
+    recording = newRecording;
+    log.info("JFR recording {} started for {}", recording.getId(), recordingDuration);
+    return toDto(recording);
+  }
+
+  @Override
+  public synchronized JfrRecordingDto stop() {
+    Recording current = current();
+    if (current.getState() == RecordingState.RUNNING) {
+      current.stop();
+      log.info("JFR recording {} stopped", current.getId());
+    }
+    return toDto(current);
+  }
+
+  @Override
+  public synchronized JfrRecordingDto getRecording() {
+    return toDto(current());
+  }
+
+  @Override
+  public synchronized InputStream openRecording() {
+    Recording current = current();
+    if (current.getState() != RecordingState.STOPPED) {
+      throw new BadRequestException("Recording is not stopped");
+    }
+    InputStream data;
+    try {
+      data = current.getStream(null, null);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (data == null) {
+      throw new NotFoundException("Recording has no data");
+    }
+    return data;
+  }
+
+  /**
+   * Удаление записи и её файлов при остановке сервиса.
+   */
+  @PreDestroy
+  public synchronized void close() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  private Recording current() {
+    if (recording == null) {
+      throw new NotFoundException("Recording not found");
+    }
+    return recording;
+  }
+
+  private static JfrRecordingDto toDto(Recording recording) {
+    return JfrRecordingDto.builder()
+        .id(recording.getId())
+        .state(recording.getState().name())
+        .startTime(recording.getStartTime())
+        .duration(recording.getDuration())
+        .size(recording.getSize())
+        .build();
+  }
+}
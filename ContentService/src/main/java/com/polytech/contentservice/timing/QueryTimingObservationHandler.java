@@ -0,0 +1,31 @@
+package com.polytech.contentservice.timing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import net.ttddyy.observation.tracing.QueryContext;
+
+/**
+ * Учёт времени JDBC запросов в фазе {@link ServerTimingPhase#DB}.
+ * Использует те же наблюдения datasource-micrometer, из которых строятся спаны запросов.
+ */
+public class QueryTimingObservationHandler implements ObservationHandler<QueryContext> {
+  private static final String START_KEY = QueryTimingObservationHandler.class.getName();
+
+  @Override
+  public void onStart(QueryContext context) {
+    context.put(START_KEY, ServerTiming.start(ServerTimingPhase.DB));
+  }
+
+  @Override
+  public void onStop(QueryContext context) {
+    Long start = context.get(START_KEY);
+    if (start != null) {
+      ServerTiming.stop(ServerTimingPhase.DB, start);
+    }
+  }
+
+  @Override
+  public boolean supportsContext(Observation.Context context) {
+    return context instanceof QueryContext;
+  }
+}
@@ -0,0 +1,99 @@
+package com.polytech.contentservice.timing;
+
+import java.util.Locale;
+
+/**
+ * Накопитель времени по фазам одного HTTP запроса.
+ * Живёт в потоке запроса, поэтому обходится без блокировок. Вложенные вызовы одной фазы
+ * учитываются один раз, разные фазы могут пересекаться: например, маппинг с ленивой
+ * загрузкой попадает и в mapping, и в db.
+ */
+public final class ServerTiming {
+  private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+  private static final int PHASES = ServerTimingPhase.values().length;
+
+  private final long startNanos = System.nanoTime();
+  private final long[] nanos = new long[PHASES];
+  private final int[] calls = new int[PHASES];
+  private final int[] depth = new int[PHASES];
+
+  private ServerTiming() {
+  }
+
+  /**
+   * Начало учёта для запроса в текущем потоке.
+   *
+   * @return накопитель запроса
+   */
+  public static ServerTiming begin() {
+    ServerTiming timing = new ServerTiming();
+    CURRENT.set(timing);
+    return timing;
+  }
+
+  /**
+   * Окончание учёта в текущем потоке.
+   */
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Начало фазы. Без активного учёта ничего не делает.
+   *
+   * @param phase фаза
+   * @return отметка времени для {@link #stop(ServerTimingPhase, long)}
+   */
+  public static long start(ServerTimingPhase phase) {
+    ServerTiming timing = CURRENT.get();
+    if (timing == null) {
+      return 0;
+    }
+    timing.depth[phase.ordinal()]++;
+    return System.nanoTime();
+  }
+
+  /**
+   * Окончание фазы, начатой {@link #start(ServerTimingPhase)}.
+   *
+   * @param phase      фаза
+   * @param startNanos отметка времени начала
+   */
+  public static void stop(ServerTimingPhase phase, long startNanos) {
+    ServerTiming timing = CURRENT.get();
+    if (timing == null) {
+      return;
+    }
+    int index = phase.ordinal();
+    if (--timing.depth[index] == 0) {
+      timing.nanos[index] += System.nanoTime() - startNanos;
+      timing.calls[index]++;
+    }
+  }
+
+  /**
+   * Значение заголовка Server-Timing: фазы с хотя бы одним вызовом и общее время.
+   *
+   * @return значение заголовка
+   */
+  public String toHeaderValue() {
+    StringBuilder header = new StringBuilder();
+    for (ServerTimingPhase phase : ServerTimingPhase.values()) {
+      int index = phase.ordinal();
+      if (calls[index] > 0) {
+        append(header, phase.getMetricName(), nanos[index]);
+        header.append(";desc=\"").append(calls[index]).append(" calls\"");
+      }
+    }
+    append(header, "total", System.nanoTime() - startNanos);
+    return header.toString();
+  }
+
+  private static void append(StringBuilder header, String name, long nanos) {
+    if (!header.isEmpty()) {
+      header.append(", ");
+    }
+    header.append(name).append(";dur=")
+        .append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+  }
+}
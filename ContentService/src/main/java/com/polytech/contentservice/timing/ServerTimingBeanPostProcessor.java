@@ -0,0 +1,48 @@
+package com.polytech.contentservice.timing;
+
+import java.util.Map;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Учёт времени всех публичных методов бинов заданных типов в соответствующей фазе.
+ * Без активного учёта прокси только проверяет ThreadLocal и вызывает метод.
+ * Если бин уже прокси, перехватчик добавляется в него.
+ */
+public class ServerTimingBeanPostProcessor implements BeanPostProcessor {
+  private final Map<Class<?>, ServerTimingPhase> phases;
+
+  public ServerTimingBeanPostProcessor(Map<Class<?>, ServerTimingPhase> phases) {
+    this.phases = Map.copyOf(phases);
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    for (Map.Entry<Class<?>, ServerTimingPhase> entry : phases.entrySet()) {
+      if (entry.getKey().isInstance(bean)) {
+        MethodInterceptor interceptor = timed(entry.getValue());
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+          advised.addAdvice(interceptor);
+          return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+      }
+    }
+    return bean;
+  }
+
+  private static MethodInterceptor timed(ServerTimingPhase phase) {
+    return invocation -> {
+      long start = ServerTiming.start(phase);
+      try {
+        return invocation.proceed();
+      } finally {
+        ServerTiming.stop(phase, start);
+      }
+    };
+  }
+}
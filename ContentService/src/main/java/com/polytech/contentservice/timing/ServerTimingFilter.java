@@ -0,0 +1,107 @@
+package com.polytech.contentservice.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Заголовок Server-Timing с разбивкой времени запроса по фазам.
+ * Пока учёт включён, JSON ответы буферизуются: заголовок можно выставить только после
+ * сериализации, а к этому моменту ответ без буфера уже мог быть отправлен.
+ * Остальные ответы, например выгрузка записи JFR, идут в клиент без буфера, а заголовок
+ * выставляется перед первой записью тела и содержит фазы, завершённые к этому моменту.
+ * Переключается во время работы через {@link ServerTimingSwitch}.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+  public static final String HEADER = "Server-Timing";
+
+  private final ServerTimingSwitch timingSwitch;
+
+  public ServerTimingFilter(ServerTimingSwitch timingSwitch) {
+    this.timingSwitch = timingSwitch;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    if (!timingSwitch.isEnabled()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    ServerTiming timing = ServerTiming.begin();
+    JsonCachingResponseWrapper wrappedResponse = new JsonCachingResponseWrapper(response, timing);
+    try {
+      filterChain.doFilter(request, wrappedResponse);
+    } finally {
+      ServerTiming.end();
+      if (!wrappedResponse.isStreaming()) {
+        wrappedResponse.setHeader(HEADER, timing.toHeaderValue());
+      }
+      wrappedResponse.copyBodyToResponse();
+    }
+  }
+
+  /**
+   * Буфер только для JSON. Решение принимается при первом обращении к телу ответа,
+   * когда тип содержимого уже выставлен.
+   */
+  private static final class JsonCachingResponseWrapper extends ContentCachingResponseWrapper {
+    private final ServerTiming timing;
+    private Boolean streaming;
+
+    private JsonCachingResponseWrapper(HttpServletResponse response, ServerTiming timing) {
+      super(response);
+      this.timing = timing;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      return isStreaming() ? getResponse().getWriter() : super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      if (Boolean.TRUE.equals(streaming)) {
+        getResponse().flushBuffer();
+      } else {
+        super.flushBuffer();
+      }
+    }
+
+    private boolean isStreaming() {
+      if (streaming == null) {
+        streaming = !isJson(getContentType());
+        if (streaming) {
+          ((HttpServletResponse) getResponse()).setHeader(HEADER, timing.toHeaderValue());
+        }
+      }
+      return streaming;
+    }
+
+    private static boolean isJson(String contentType) {
+      if (contentType == null) {
+        return false;
+      }
+      try {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+            || "json".equals(mediaType.getSubtypeSuffix());
+      } catch (InvalidMediaTypeException e) {
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.polytech.contentservice.timing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Фазы обработки запроса, которые попадают в заголовок Server-Timing.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ServerTimingPhase {
+  AUTH("auth"),
+  DB("db"),
+  MAPPING("mapping"),
+  SERIALIZATION("json");
+
+  private final String metricName;
+}
@@ -0,0 +1,21 @@
+package com.polytech.contentservice.timing;
+
+/**
+ * Включён ли заголовок Server-Timing. Переключается администратором во время работы
+ * через {@link com.polytech.contentservice.conroller.ProfilingController}.
+ */
+public class ServerTimingSwitch {
+  private volatile boolean enabled;
+
+  public ServerTimingSwitch(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+}
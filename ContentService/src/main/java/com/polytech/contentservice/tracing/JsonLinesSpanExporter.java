@@ -0,0 +1,92 @@
+package com.polytech.contentservice.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Запись законченных спанов в локальный файл, по одному JSON объекту на строку.
+ * Заменяет OTLP коллектор при локальной отладке: файл можно читать jq или grep по trace_id.
+ */
+@Slf4j
+public class JsonLinesSpanExporter implements SpanExporter {
+  private final ObjectMapper objectMapper;
+  private final Writer writer;
+
+  public JsonLinesSpanExporter(Path path, ObjectMapper objectMapper) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+    try {
+      for (SpanData span : spans) {
+        writer.write(objectMapper.writeValueAsString(toJson(span)));
+        writer.write('\n');
+      }
+      writer.flush();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      log.warn("Failed to write {} spans", spans.size(), e);
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  @Override
+  public synchronized CompletableResultCode flush() {
+    try {
+      writer.flush();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  @Override
+  public synchronized CompletableResultCode shutdown() {
+    try {
+      writer.close();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  private static Map<String, Object> toJson(SpanData span) {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("trace_id", span.getTraceId());
+    json.put("span_id", span.getSpanId());
+    SpanContext parent = span.getParentSpanContext();
+    if (parent.isValid()) {
+      json.put("parent_span_id", parent.getSpanId());
+    }
+    json.put("name", span.getName());
+    json.put("kind", span.getKind().name());
+    json.put("start", Instant.EPOCH.plusNanos(span.getStartEpochNanos()).toString());
+    json.put("duration_us", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000);
+    json.put("status", span.getStatus().getStatusCode().name());
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+    json.put("attributes", attributes);
+    return json;
+  }
+}
@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true
+create index if not exists idx_content_creation_date_id on content (creation_date desc, content_id desc);
+-----
+-- drop index idx_content_creation_date_id;
@@ -0,0 +1,67 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true splitStatements:false
+alter table content add column search_vector tsvector;
+
+create index if not exists idx_cast_member_content_id on cast_member (content_id);
+
+create or replace function build_content_search_vector(
+    p_content_id uuid,
+    p_title varchar,
+    p_description varchar,
+    p_publisher varchar
+) returns tsvector as
+$$
+select setweight(to_tsvector('russian', coalesce(p_title, '')), 'A')
+           || setweight(to_tsvector('russian', coalesce(
+        (select string_agg(cm.full_name, ' ') from cast_member cm where cm.content_id = p_content_id), '')), 'B')
+           || setweight(to_tsvector('russian', coalesce(p_publisher, '')), 'C')
+           || setweight(to_tsvector('russian', coalesce(p_description, '')), 'D')
+$$ language sql stable;
+
+create or replace function content_search_vector_trigger() returns trigger as
+$$
+begin
+    new.search_vector := build_content_search_vector(new.content_id, new.title, new.description, new.publisher);
+    return new;
+end
+$$ language plpgsql;
+
+create trigger content_search_vector_update
+    before insert or update of title, description, publisher
+    on content
+    for each row
+execute function content_search_vector_trigger();
+
+create or replace function cast_member_search_vector_trigger() returns trigger as
+$$
+begin
+    update content c
+    set search_vector = build_content_search_vector(c.content_id, c.title, c.description, c.publisher)
+    where c.content_id in (
+        case when tg_op <> 'DELETE' then new.content_id end,
+        case when tg_op <> 'INSERT' then old.content_id end
+    );
+    return null;
+end
+$$ language plpgsql;
+
+create trigger cast_member_search_vector_update
+    after insert or update of full_name, content_id or delete
+    on cast_member
+    for each row
+execute function cast_member_search_vector_trigger();
+
+update content
+set search_vector = build_content_search_vector(content_id, title, description, publisher);
+
+create index idx_gin_content_search_vector on content using gin (search_vector);
+-----
+-- drop index idx_gin_content_search_vector;
+-- drop trigger cast_member_search_vector_update on cast_member;
+-- drop trigger content_search_vector_update on content;
+-- drop function cast_member_search_vector_trigger();
+-- drop function content_search_vector_trigger();
+-- drop function build_content_search_vector(uuid, varchar, varchar, varchar);
+-- alter table content drop column search_vector;
+-- drop index idx_cast_member_content_id;
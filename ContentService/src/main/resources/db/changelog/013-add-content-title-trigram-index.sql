@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true
+create extension if not exists pg_trgm;
+
+create index if not exists idx_gin_content_title_trgm on content using gin (lower(title) gin_trgm_ops);
+-----
+-- drop index idx_gin_content_title_trgm;
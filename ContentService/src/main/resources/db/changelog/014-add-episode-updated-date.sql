@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true
+alter table episode add column updated_date timestamp not null default now();
+create index if not exists idx_episode_content_id_updated_date on episode (content_id, updated_date);
+-----
+-- drop index idx_episode_content_id_updated_date;
+-- alter table episode drop column updated_date;
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true
+create index if not exists idx_personal_list_user_id_creation_date_id
+    on personal_list (user_id, creation_date desc, personal_list_id desc);
+-----
+-- drop index idx_personal_list_user_id_creation_date_id;
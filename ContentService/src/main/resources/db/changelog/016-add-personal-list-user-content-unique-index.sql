@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true
+delete from personal_list duplicate
+    using personal_list original
+where duplicate.user_id = original.user_id
+  and duplicate.content_id = original.content_id
+  and (duplicate.creation_date, duplicate.personal_list_id) > (original.creation_date, original.personal_list_id);
+create unique index if not exists uq_personal_list_user_id_content_id on personal_list (user_id, content_id);
+-----
+-- drop index uq_personal_list_user_id_content_id;
@@ -0,0 +1,69 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true splitStatements:false
+create table if not exists content_facet
+(
+    genre           varchar not null,
+    age_restriction varchar not null,
+    year            integer,
+    content_count   bigint  not null,
+
+    constraint content_facet_uq unique nulls not distinct (genre, age_restriction, year)
+);
+
+create or replace function content_facet_trigger() returns trigger as
+$$
+begin
+    if tg_op <> 'INSERT' then
+        update content_facet f
+        set content_count = f.content_count - d.content_count
+        from (select genre, age_restriction, year, count(*) as content_count
+              from old_content
+              group by genre, age_restriction, year) d
+        where f.genre = d.genre
+          and f.age_restriction = d.age_restriction
+          and f.year is not distinct from d.year;
+    end if;
+    if tg_op <> 'DELETE' then
+        insert into content_facet (genre, age_restriction, year, content_count)
+        select genre, age_restriction, year, count(*)
+        from new_content
+        group by genre, age_restriction, year
+        on conflict (genre, age_restriction, year)
+            do update set content_count = content_facet.content_count + excluded.content_count;
+    end if;
+    return null;
+end
+$$ language plpgsql;
+
+create trigger content_facet_insert
+    after insert
+    on content
+    referencing new table as new_content
+    for each statement
+execute function content_facet_trigger();
+
+create trigger content_facet_update
+    after update
+    on content
+    referencing old table as old_content new table as new_content
+    for each statement
+execute function content_facet_trigger();
+
+create trigger content_facet_delete
+    after delete
+    on content
+    referencing old table as old_content
+    for each statement
+execute function content_facet_trigger();
+
+insert into content_facet (genre, age_restriction, year, content_count)
+select genre, age_restriction, year, count(*)
+from content
+group by genre, age_restriction, year;
+-----
+-- drop trigger content_facet_delete on content;
+-- drop trigger content_facet_update on content;
+-- drop trigger content_facet_insert on content;
+-- drop function content_facet_trigger();
+-- drop table content_facet;
@@ -0,0 +1,74 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true splitStatements:false
+drop trigger cast_member_search_vector_update on cast_member;
+drop function cast_member_search_vector_trigger();
+
+create or replace function cast_member_search_vector_trigger() returns trigger as
+$$
+begin
+    if tg_op = 'INSERT' then
+        update content c
+        set search_vector = build_content_search_vector(c.content_id, c.title, c.description, c.publisher)
+        where c.content_id in (select content_id from new_cast_member);
+    elsif tg_op = 'DELETE' then
+        update content c
+        set search_vector = build_content_search_vector(c.content_id, c.title, c.description, c.publisher)
+        where c.content_id in (select content_id from old_cast_member);
+    else
+        update content c
+        set search_vector = build_content_search_vector(c.content_id, c.title, c.description, c.publisher)
+        where c.content_id in (
+            select unnest(array [o.content_id, n.content_id])
+            from old_cast_member o
+                     join new_cast_member n on n.cast_member_id = o.cast_member_id
+            where n.full_name is distinct from o.full_name
+               or n.content_id is distinct from o.content_id
+        );
+    end if;
+    return null;
+end
+$$ language plpgsql;
+
+create trigger cast_member_search_vector_insert
+    after insert
+    on cast_member
+    referencing new table as new_cast_member
+    for each statement
+execute function cast_member_search_vector_trigger();
+
+create trigger cast_member_search_vector_update
+    after update
+    on cast_member
+    referencing old table as old_cast_member new table as new_cast_member
+    for each statement
+execute function cast_member_search_vector_trigger();
+
+create trigger cast_member_search_vector_delete
+    after delete
+    on cast_member
+    referencing old table as old_cast_member
+    for each statement
+execute function cast_member_search_vector_trigger();
+-----
+-- drop trigger cast_member_search_vector_delete on cast_member;
+-- drop trigger cast_member_search_vector_update on cast_member;
+-- drop trigger cast_member_search_vector_insert on cast_member;
+-- drop function cast_member_search_vector_trigger();
+-- create or replace function cast_member_search_vector_trigger() returns trigger as
+-- $$
+-- begin
+--     update content c
+--     set search_vector = build_content_search_vector(c.content_id, c.title, c.description, c.publisher)
+--     where c.content_id in (
+--         case when tg_op <> 'DELETE' then new.content_id end,
+--         case when tg_op <> 'INSERT' then old.content_id end
+--     );
+--     return null;
+-- end
+-- $$ language plpgsql;
+-- create trigger cast_member_search_vector_update
+--     after insert or update of full_name, content_id or delete
+--     on cast_member
+--     for each row
+-- execute function cast_member_search_vector_trigger();
@@ -0,0 +1,53 @@
+--liquibase formatted sql
+
+--changeset author:llav3ji2019 failOnError:true splitStatements:false
+create or replace function content_facet_update_trigger() returns trigger as
+$$
+begin
+    with changed as (select d.genre, d.age_restriction, d.year, sum(d.delta) as delta
+                     from old_content o
+                              join new_content n on n.content_id = o.content_id
+                              cross join lateral (values (o.genre, o.age_restriction, o.year, -1),
+                                                         (n.genre, n.age_restriction, n.year, 1))
+                         as d(genre, age_restriction, year, delta)
+                     where o.genre is distinct from n.genre
+                        or o.age_restriction is distinct from n.age_restriction
+                        or o.year is distinct from n.year
+                     group by d.genre, d.age_restriction, d.year
+                     having sum(d.delta) <> 0),
+         decremented as (
+             update content_facet f
+                 set content_count = f.content_count + c.delta
+                 from changed c
+                 where c.delta < 0
+                     and f.genre = c.genre
+                     and f.age_restriction = c.age_restriction
+                     and f.year is not distinct from c.year)
+    insert
+    into content_facet (genre, age_restriction, year, content_count)
+    select genre, age_restriction, year, delta
+    from changed
+    where delta > 0
+    on conflict (genre, age_restriction, year)
+        do update set content_count = content_facet.content_count + excluded.content_count;
+    return null;
+end
+$$ language plpgsql;
+
+drop trigger content_facet_update on content;
+
+create trigger content_facet_update
+    after update
+    on content
+    referencing old table as old_content new table as new_content
+    for each statement
+execute function content_facet_update_trigger();
+-----
+-- drop trigger content_facet_update on content;
+-- drop function content_facet_update_trigger();
+-- create trigger content_facet_update
+--     after update
+--     on content
+--     referencing old table as old_content new table as new_content
+--     for each statement
+-- execute function content_facet_trigger();
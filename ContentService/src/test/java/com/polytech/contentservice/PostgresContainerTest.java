@@ -0,0 +1,17 @@
+package com.polytech.contentservice;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Базовый класс для тестов, которым нужна настоящая PostgreSQL со схемой из liquibase.
+ * Пропускается, если Docker недоступен.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerTest {
+  @Container
+  @ServiceConnection
+  protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+}
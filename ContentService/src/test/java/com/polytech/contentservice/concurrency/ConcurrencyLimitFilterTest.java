@@ -0,0 +1,46 @@
+package com.polytech.contentservice.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+  private final ConcurrencyLimiter limiter = new ConcurrencyLimiter("http", 1);
+  private final ConcurrencyLimitFilter filter =
+      new ConcurrencyLimitFilter(limiter, Duration.ofMillis(10));
+
+  @Test
+  void testDoFilter_ReleasesPermit() throws Exception {
+    FilterChain chain = mock(FilterChain.class);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/contents");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, chain);
+
+    verify(chain).doFilter(request, response);
+    assertEquals(HttpStatus.OK.value(), response.getStatus());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void testDoFilter_RejectsWhenLimitReached() throws Exception {
+    FilterChain chain = mock(FilterChain.class);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/contents");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    limiter.acquire();
+
+    filter.doFilter(request, response, chain);
+
+    verify(chain, never()).doFilter(request, response);
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+    assertEquals(1, limiter.getInFlight());
+  }
+}
@@ -0,0 +1,84 @@
+package com.polytech.contentservice.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.auth.AuthServiceGrpc;
+import com.auth.ValidationTokenRequest;
+import com.auth.ValidationTokenResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitGrpcInterceptorTest {
+  private final ConcurrencyLimiter limiter = new ConcurrencyLimiter("grpc", 1);
+  private final AtomicInteger calls = new AtomicInteger();
+  private Server server;
+  private ManagedChannel channel;
+  private AuthServiceGrpc.AuthServiceBlockingStub stub;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .directExecutor()
+        .addService(ServerInterceptors.intercept(new AuthServiceGrpc.AuthServiceImplBase() {
+          @Override
+          public void validateToken(ValidationTokenRequest request,
+                                    StreamObserver<ValidationTokenResponse> responseObserver) {
+            calls.incrementAndGet();
+            responseObserver.onNext(ValidationTokenResponse.newBuilder()
+                .setRole("USER")
+                .build());
+            responseObserver.onCompleted();
+          }
+        }, new ConcurrencyLimitGrpcInterceptor(limiter, Duration.ofMillis(10))))
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    stub = AuthServiceGrpc.newBlockingStub(channel);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void testInterceptCall_ReleasesPermit() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      assertEquals("USER", stub.validateToken(request()).getRole());
+    }
+
+    assertEquals(3, calls.get());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void testInterceptCall_RejectsWhenLimitReached() {
+    limiter.acquire();
+
+    StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+        () -> stub.validateToken(request()));
+
+    assertEquals(Status.Code.RESOURCE_EXHAUSTED, exception.getStatus().getCode());
+    assertEquals(0, calls.get());
+    assertEquals(1, limiter.getInFlight());
+  }
+
+  private static ValidationTokenRequest request() {
+    return ValidationTokenRequest.newBuilder().setToken("token").build();
+  }
+}
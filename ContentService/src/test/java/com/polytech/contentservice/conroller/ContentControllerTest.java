@@ -3,21 +3,37 @@ package com.polytech.contentservice.conroller;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polytech.contentservice.common.AgeRestriction;
 import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Role;
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.content.ContentFacetsDto;
+import com.polytech.contentservice.dto.content.ContentImportErrorDto;
+import com.polytech.contentservice.dto.content.ContentImportResultDto;
 import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.dto.content.ContentSuggestionDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
 import com.polytech.contentservice.exception.UnauthorisedException;
 import com.polytech.contentservice.service.auth.AuthService;
+import com.polytech.contentservice.service.content.CatalogVersion;
+import com.polytech.contentservice.service.content.ContentFacetService;
+import com.polytech.contentservice.service.content.ContentImportService;
 import com.polytech.contentservice.service.content.ContentService;
+import com.polytech.contentservice.service.personallist.PersonalListService;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +42,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -38,7 +55,13 @@ class ContentControllerTest {
   @MockBean
   private ContentService contentService;
   @MockBean
+  private ContentImportService contentImportService;
+  @MockBean
+  private ContentFacetService contentFacetService;
+  @MockBean
   private AuthService authService;
+  @MockBean
+  private PersonalListService personalListService;
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -91,6 +114,38 @@ class ContentControllerTest {
     Mockito.verify(authService).checkTokenIsValid(any(), any());
   }
 
+  @Test
+  void getAllContent_MarksPersonalList() throws Exception {
+    ContentDto contentDto = getContentDto();
+    UUID userId = UUID.randomUUID();
+
+    Mockito.when(contentService.findAllContent(any())).thenReturn(List.of(contentDto));
+    Mockito.when(personalListService.markPersonalListMembership(userId, List.of(contentDto)))
+        .thenReturn(List.of(contentDto.toBuilder().inPersonalList(true).build()));
+
+    mvc.perform(get("/v1/contents")
+            .param("page_number", "0")
+            .param("page_size", "10")
+            .param("user_id", userId.toString())
+            .header("Authorization", "Bearer token"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].in_personal_list", is(true)));
+
+    Mockito.verify(authService).checkTokenIsValid("Bearer token", Role.USER);
+    Mockito.verify(contentService, Mockito.never()).findContentPageVersion(any());
+  }
+
+  @Test
+  void getAllContent_UserWithoutToken() throws Exception {
+    mvc.perform(get("/v1/contents")
+            .param("page_number", "0")
+            .param("page_size", "10")
+            .param("user_id", UUID.randomUUID().toString()))
+        .andExpect(status().isUnauthorized());
+
+    Mockito.verify(contentService, Mockito.never()).findAllContent(any());
+  }
+
   @Test
   void getContentById() throws Exception {
     ContentDto contentDto = getContentDto();
@@ -106,6 +161,56 @@ class ContentControllerTest {
     Mockito.verify(contentService).findContentById(any());
   }
 
+  @Test
+  void getContentById_NotModified() throws Exception {
+    UUID contentId = UUID.randomUUID();
+    CatalogVersion version = CatalogVersion.of(LocalDateTime.of(2024, 11, 3, 12, 0));
+
+    Mockito.when(contentService.findContentVersion(contentId))
+        .thenReturn(Optional.of(version));
+
+    mvc.perform(get("/v1/contents/{content-id}", contentId.toString())
+            .header(HttpHeaders.IF_NONE_MATCH, version.etag()))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, version.etag()));
+
+    Mockito.verify(contentService, Mockito.never()).findContentById(any());
+  }
+
+  @Test
+  void getContentById_ReturnsEtag() throws Exception {
+    ContentDto contentDto = getContentDto();
+    CatalogVersion version = CatalogVersion.of(LocalDateTime.of(2024, 11, 3, 12, 0));
+
+    Mockito.when(contentService.findContentVersion(contentDto.id()))
+        .thenReturn(Optional.of(version));
+    Mockito.when(contentService.findContentById(contentDto.id()))
+        .thenReturn(contentDto);
+
+    mvc.perform(get("/v1/contents/{content-id}", contentDto.id().toString())
+            .header(HttpHeaders.IF_NONE_MATCH, "W/\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, version.etag()))
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+  }
+
+  @Test
+  void getAllContent_NotModified() throws Exception {
+    CatalogVersion version = CatalogVersion.ofParts(List.of(UUID.randomUUID()));
+
+    Mockito.when(contentService.findContentPageVersion(any()))
+        .thenReturn(Optional.of(version));
+
+    mvc.perform(get("/v1/contents")
+            .param("page_number", "0")
+            .param("page_size", "10")
+            .header(HttpHeaders.IF_NONE_MATCH, version.etag()))
+        .andExpect(status().isNotModified());
+
+    Mockito.verify(contentService, Mockito.never()).findAllContent(any());
+  }
+
   @Test
   void getContentByFilters() throws Exception {
     ContentDto contentDto = getContentDto();
@@ -124,6 +229,89 @@ class ContentControllerTest {
     Mockito.verify(contentService).getAllContentsByFilter(any());
   }
 
+  @Test
+  void getContentByFilters_WithFacets() throws Exception {
+    ContentDto contentDto = getContentDto();
+    ContentFacetsDto facets = ContentFacetsDto.builder()
+        .genres(Map.of(Genre.BLOCKBUSTER, 1L, Genre.DRAMA, 4L))
+        .ageRestrictions(Map.of(AgeRestriction.EIGHTEEN_PLUS, 1L))
+        .years(Map.of(2020, 1L))
+        .build();
+
+    Mockito.when(contentService.getAllContentsByFilter(any()))
+        .thenReturn(new PageImpl<>(List.of(contentDto)));
+    Mockito.when(contentFacetService.countFacets(any())).thenReturn(Optional.of(facets));
+
+    mvc.perform(post("/v1/contents/search")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(ContentSearchDto.builder().genre(Genre.BLOCKBUSTER).build())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.totalElements", is(1)))
+        .andExpect(jsonPath("$.facets.genres.DRAMA", is(4)))
+        .andExpect(jsonPath("$.facets.age_restrictions.EIGHTEEN_PLUS", is(1)))
+        .andExpect(jsonPath("$.facets.years.2020", is(1)));
+  }
+
+  @Test
+  void getContentPage() throws Exception {
+    ContentDto contentDto = getContentDto();
+
+    Mockito.when(contentService.findContentPage("cursor", 10))
+        .thenReturn(CursorPageDto.<ContentDto>builder()
+            .items(List.of(contentDto))
+            .nextCursor("next")
+            .approximateTotal(100L)
+            .build());
+
+    mvc.perform(get("/v1/contents/cursor")
+            .param("cursor", "cursor")
+            .param("page_size", "10")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items", hasSize(1)))
+        .andExpect(jsonPath("$.items[0].id", is(contentDto.id().toString())))
+        .andExpect(jsonPath("$.next_cursor", is("next")))
+        .andExpect(jsonPath("$.approximate_total", is(100)));
+  }
+
+  @Test
+  void getContentPageByFilters() throws Exception {
+    ContentDto contentDto = getContentDto();
+
+    Mockito.when(contentService.findContentPageByFilter(any(), isNull()))
+        .thenReturn(CursorPageDto.<ContentDto>builder()
+            .items(List.of(contentDto))
+            .build());
+
+    mvc.perform(post("/v1/contents/search/cursor")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(ContentSearchDto.builder().genre(Genre.BLOCKBUSTER).pageSize(10).build())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items", hasSize(1)))
+        .andExpect(jsonPath("$.next_cursor").doesNotExist());
+
+    Mockito.verify(contentService).findContentPageByFilter(any(), isNull());
+  }
+
+  @Test
+  void getTitleSuggestions() throws Exception {
+    ContentSuggestionDto suggestion = ContentSuggestionDto.builder()
+        .id(UUID.randomUUID())
+        .title("Первому игроку приготовиться")
+        .build();
+
+    Mockito.when(contentService.suggestTitles("перв", 10)).thenReturn(List.of(suggestion));
+
+    mvc.perform(get("/v1/contents/suggestions")
+            .param("query", "перв")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].title", is(suggestion.title())));
+  }
+
   @Test
   void updateContentInfo_thenThrowUnauthorisedException() throws Exception {
     ContentDto contentDto = getContentDto();
@@ -197,6 +385,43 @@ class ContentControllerTest {
     Mockito.verify(authService).checkTokenIsValid(any(), any());
   }
 
+  @Test
+  void importContents_thenReportReturned() throws Exception {
+    ContentImportResultDto result = ContentImportResultDto.builder()
+        .imported(1)
+        .failed(1)
+        .errors(List.of(ContentImportErrorDto.builder()
+            .line(2)
+            .message("Title is required")
+            .build()))
+        .build();
+    Mockito.when(contentImportService.importContents(any())).thenReturn(result);
+
+    mvc.perform(post("/v1/contents/import")
+            .header("Authorization", "Bearer token")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("{\"content\":{\"title\":\"title\"}}\n{\"content\":{}}\n"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported", is(1)))
+        .andExpect(jsonPath("$.errors[0].line", is(2)));
+
+    Mockito.verify(authService).checkTokenIsValid(any(), any());
+  }
+
+  @Test
+  void importContents_withoutAdminRole_thenUnauthorized() throws Exception {
+    Mockito.doThrow(new UnauthorisedException("Permission denied"))
+        .when(authService).checkTokenIsValid(any(), any());
+
+    mvc.perform(post("/v1/contents/import")
+            .header("Authorization", "Bearer token")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("{\"content\":{\"title\":\"title\"}}\n"))
+        .andExpect(status().isUnauthorized());
+
+    Mockito.verifyNoInteractions(contentImportService);
+  }
+
   private static ContentDto getContentDto() {
     return ContentDto.builder()
         .id(UUID.randomUUID())
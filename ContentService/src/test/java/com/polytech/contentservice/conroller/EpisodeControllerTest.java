@@ -2,12 +2,14 @@ package com.polytech.contentservice.conroller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -15,8 +17,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.polytech.contentservice.dto.episode.EpisodeDto;
 import com.polytech.contentservice.exception.UnauthorisedException;
 import com.polytech.contentservice.service.auth.AuthService;
+import com.polytech.contentservice.service.content.CatalogVersion;
 import com.polytech.contentservice.service.content.ContentService;
 import com.polytech.contentservice.service.episode.EpisodeService;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -25,6 +30,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -163,6 +169,22 @@ class EpisodeControllerTest {
     verify(contentService).findAllEpisodesForContent(any());
   }
 
+  @Test
+  void getAllEpisodesForContent_NotModified() throws Exception {
+    UUID contentId = UUID.randomUUID();
+    CatalogVersion version = CatalogVersion.ofParts(List.of(contentId, 3L));
+    when(contentService.findEpisodesVersion(contentId))
+        .thenReturn(Optional.of(version));
+
+    mockMvc.perform(get("/v1/episodes")
+            .param("content_id", contentId.toString())
+            .header(HttpHeaders.IF_NONE_MATCH, version.etag()))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, version.etag()));
+
+    verify(contentService, never()).findAllEpisodesForContent(any());
+  }
+
   private static EpisodeDto getEpisodeDto() {
     return EpisodeDto.builder()
         .id(UUID.randomUUID())
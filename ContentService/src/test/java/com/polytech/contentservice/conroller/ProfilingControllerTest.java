@@ -0,0 +1,123 @@
+package com.polytech.contentservice.conroller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.dto.profiling.JfrRecordingDto;
+import com.polytech.contentservice.exception.UnauthorisedException;
+import com.polytech.contentservice.service.auth.AuthService;
+import com.polytech.contentservice.service.profiling.JfrRecordingService;
+import com.polytech.contentservice.timing.ServerTimingSwitch;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(ProfilingController.class)
+class ProfilingControllerTest {
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private JfrRecordingService jfrRecordingService;
+  @MockBean
+  private ServerTimingSwitch serverTimingSwitch;
+  @MockBean
+  private AuthService authService;
+
+  @Test
+  void startRecording_ShouldStartForAdmin() throws Exception {
+    when(jfrRecordingService.start(Duration.ofMinutes(5))).thenReturn(recording("RUNNING"));
+
+    mockMvc.perform(post("/v1/profiling/jfr/start")
+            .param("duration", "PT5M")
+            .header("Authorization", "adminToken"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.state").value("RUNNING"))
+        .andExpect(jsonPath("$.start_time").exists());
+
+    verify(authService).checkTokenIsValid("adminToken", Role.ADMIN);
+  }
+
+  @Test
+  void startRecording_thenThrowUnauthorisedException() throws Exception {
+    doThrow(new UnauthorisedException("Permission denied"))
+        .when(authService).checkTokenIsValid(any(), eq(Role.ADMIN));
+
+    mockMvc.perform(post("/v1/profiling/jfr/start")
+            .header("Authorization", "userToken"))
+        .andExpect(status().isUnauthorized());
+
+    verifyNoInteractions(jfrRecordingService);
+  }
+
+  @Test
+  void downloadRecording_ShouldReturnJfrFile() throws Exception {
+    when(jfrRecordingService.getRecording()).thenReturn(recording("STOPPED"));
+    when(jfrRecordingService.openRecording())
+        .thenReturn(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+
+    mockMvc.perform(get("/v1/profiling/jfr/file")
+            .header("Authorization", "adminToken"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"content-service-3.jfr\""))
+        .andExpect(content().bytes(new byte[] {1, 2, 3}));
+  }
+
+  @Test
+  void updateServerTiming_ShouldSwitchForAdmin() throws Exception {
+    when(serverTimingSwitch.isEnabled()).thenReturn(true);
+
+    mockMvc.perform(put("/v1/profiling/server-timing")
+            .param("enabled", "true")
+            .header("Authorization", "adminToken"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.enabled").value(true));
+
+    verify(authService).checkTokenIsValid("adminToken", Role.ADMIN);
+    verify(serverTimingSwitch).setEnabled(true);
+  }
+
+  @Test
+  void updateServerTiming_thenThrowUnauthorisedException() throws Exception {
+    doThrow(new UnauthorisedException("Permission denied"))
+        .when(authService).checkTokenIsValid(any(), eq(Role.ADMIN));
+
+    mockMvc.perform(put("/v1/profiling/server-timing")
+            .param("enabled", "true")
+            .header("Authorization", "userToken"))
+        .andExpect(status().isUnauthorized());
+
+    verifyNoInteractions(serverTimingSwitch);
+  }
+
+  private static JfrRecordingDto recording(String state) {
+    return JfrRecordingDto.builder()
+        .id(3)
+        .state(state)
+        .startTime(Instant.parse("2024-11-03T12:00:00Z"))
+        .duration(Duration.ofMinutes(5))
+        .size(3)
+        .build();
+  }
+}
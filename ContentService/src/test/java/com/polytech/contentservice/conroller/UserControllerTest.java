@@ -9,8 +9,10 @@ import com.polytech.contentservice.common.Genre;
 import com.polytech.contentservice.common.Role;
 import com.polytech.contentservice.common.UserSearchType;
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDeletionDto;
 import com.polytech.contentservice.dto.personallist.PersonalListDto;
+import com.polytech.contentservice.dto.personallist.PersonalListItemDto;
 import com.polytech.contentservice.dto.user.detailed.UserDto;
 import com.polytech.contentservice.dto.user.login.UserLoginDto;
 import com.polytech.contentservice.dto.user.login.UserLoginResponseDto;
@@ -22,6 +24,7 @@ import com.polytech.contentservice.service.auth.AuthService;
 import com.polytech.contentservice.service.personallist.PersonalListService;
 import com.polytech.contentservice.service.user.UserService;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -275,6 +278,51 @@ class UserControllerTest {
     verify(personalListService).getFavoriteMoviesByUser(any());
   }
 
+  @Test
+  void getPersonalListPage() throws Exception {
+    UUID userId = UUID.randomUUID();
+    CursorPageDto<PersonalListItemDto> response = CursorPageDto.<PersonalListItemDto>builder()
+        .items(List.of(PersonalListItemDto.builder()
+            .contentId(UUID.randomUUID())
+            .title("SSS")
+            .genre(Genre.BLOCKBUSTER)
+            .build()))
+        .nextCursor("next")
+        .build();
+
+    doNothing().when(authService).checkTokenIsValid(any(), any());
+    when(personalListService.getFavoriteMoviesPage(userId, null, 20)).thenReturn(response);
+
+    mockMvc.perform(get("/v1/users/personal-list/{user-id}/cursor", userId)
+            .param("page_size", "20")
+            .header("Authorization", "Bearer valid-token"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].title").value("SSS"))
+        .andExpect(jsonPath("$.next_cursor").value("next"));
+
+    verify(authService).checkTokenIsValid(any(), eq(Role.USER));
+  }
+
+  @Test
+  void getPersonalListMembership() throws Exception {
+    UUID userId = UUID.randomUUID();
+    UUID favoriteId = UUID.randomUUID();
+    UUID otherId = UUID.randomUUID();
+
+    doNothing().when(authService).checkTokenIsValid(any(), any());
+    when(personalListService.findPersonalListMembership(userId, List.of(favoriteId, otherId)))
+        .thenReturn(Map.of(favoriteId, true, otherId, false));
+
+    mockMvc.perform(get("/v1/users/personal-list/{user-id}/membership", userId)
+            .param("content_id", favoriteId.toString(), otherId.toString())
+            .header("Authorization", "Bearer valid-token"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$['" + favoriteId + "']").value(true))
+        .andExpect(jsonPath("$['" + otherId + "']").value(false));
+
+    verify(authService).checkTokenIsValid(any(), eq(Role.USER));
+  }
+
   @Test
   void grantToAdmin() throws Exception {
     UserDto userDto = UserDto.builder()
@@ -0,0 +1,67 @@
+package com.polytech.contentservice.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.http.Cookie;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesFilterTest {
+  private final ReadYourWritesFilter filter = new ReadYourWritesFilter();
+
+  @Test
+  void testDoFilter_RequiredPositionFromCookie() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "2a"));
+    AtomicLong requiredLsn = new AtomicLong();
+
+    filter.doFilter(request, new MockHttpServletResponse(),
+        (req, res) -> requiredLsn.set(ReadYourWrites.requiredLsn()));
+
+    assertEquals(0x2a, requiredLsn.get());
+    assertFalse(ReadYourWrites.isActive());
+  }
+
+  @Test
+  void testDoFilter_MalformedCookieIgnored() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "not-a-position"));
+    AtomicLong requiredLsn = new AtomicLong(-1);
+
+    filter.doFilter(request, new MockHttpServletResponse(),
+        (req, res) -> requiredLsn.set(ReadYourWrites.requiredLsn()));
+
+    assertEquals(0, requiredLsn.get());
+  }
+
+  @Test
+  void testDoFilter_WriteSetsCookie() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "2a"));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, (req, res) -> {
+      ReadYourWrites.recordWrite(0x10);
+      ReadYourWrites.recordWrite(0x3b);
+    });
+
+    Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+    assertEquals("3b", cookie.getValue());
+    assertTrue(cookie.isHttpOnly());
+  }
+
+  @Test
+  void testDoFilter_ReadOnlyRequestSetsNoCookie() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+    });
+
+    assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+  }
+}
@@ -0,0 +1,161 @@
+package com.polytech.contentservice.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Маршрутизация на двух независимых локальных PostgreSQL.
+ * Базы различаются по имени, поэтому по current_database() видно, куда ушёл запрос.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+  private static final String CURRENT_DATABASE = "select current_database()";
+  private static final String CREATE_TABLE =
+      "create table if not exists routing_write (id bigserial primary key)";
+
+  @Container
+  private static final PostgreSQLContainer<?> PRIMARY =
+      new PostgreSQLContainer<>("postgres:15").withDatabaseName("primary_db");
+  @Container
+  private static final PostgreSQLContainer<?> REPLICA =
+      new PostgreSQLContainer<>("postgres:15").withDatabaseName("replica_db");
+
+  private ReplicaState replica;
+  private ReplicaRoutingDataSource routingDataSource;
+  private ReplicaLagMonitor lagMonitor;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnlyTransaction;
+  private TransactionTemplate readWriteTransaction;
+
+  @BeforeEach
+  void setUp() {
+    new JdbcTemplate(dataSource(PRIMARY)).execute(CREATE_TABLE);
+    replica = new ReplicaState("replica-0", dataSource(REPLICA));
+    setUpRouting(replica);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReadYourWrites.end();
+  }
+
+  @Test
+  void testReadOnly_PrimaryUntilReplicaIsChecked() {
+    assertEquals("primary_db", readOnly());
+  }
+
+  @Test
+  void testReadOnly_ReplicaAfterCheck() {
+    lagMonitor.check();
+
+    assertEquals("replica_db", readOnly());
+    assertEquals("primary_db", readWrite());
+  }
+
+  @Test
+  void testReadOnly_PrimaryAfterClientWriteUntilReplicaCatchesUp() {
+    lagMonitor.check();
+    AtomicLong clientLsn = new AtomicLong();
+    ReadYourWrites.begin(0, clientLsn::set);
+
+    insertRow();
+
+    assertNotEquals(0, clientLsn.get());
+    assertEquals("primary_db", readOnly());
+    lagMonitor.check();
+    assertEquals("replica_db", readOnly());
+  }
+
+  @Test
+  void testReadOnly_ClientPositionCarriedToNextRequest() {
+    lagMonitor.check();
+    AtomicLong clientLsn = new AtomicLong();
+    ReadYourWrites.begin(0, clientLsn::set);
+    insertRow();
+    ReadYourWrites.end();
+
+    ReadYourWrites.begin(clientLsn.get(), lsn -> {
+    });
+
+    assertEquals("primary_db", readOnly());
+  }
+
+  @Test
+  void testReadOnly_OtherWritesDoNotPinReads() {
+    lagMonitor.check();
+
+    // Фоновая задача без клиента
+    insertRow();
+    // Другой клиент
+    ReadYourWrites.begin(0, lsn -> {
+    });
+    insertRow();
+    ReadYourWrites.end();
+
+    ReadYourWrites.begin(0, lsn -> {
+    });
+    assertEquals("replica_db", readOnly());
+  }
+
+  @Test
+  void testReadOnly_PrimaryWhenReplicaIsDown() {
+    replica = new ReplicaState("replica-0",
+        new DriverManagerDataSource("jdbc:postgresql://localhost:1/missing", "user", "password"));
+    setUpRouting(replica);
+
+    lagMonitor.check();
+    assertEquals("primary_db", readOnly());
+
+    // Реплика упала между проверками: соединение берётся с основной БД
+    replica.update(Duration.ZERO, 0);
+    assertEquals("primary_db", readOnly());
+  }
+
+  private void setUpRouting(ReplicaState replicaState) {
+    routingDataSource = new ReplicaRoutingDataSource(dataSource(PRIMARY), List.of(replicaState),
+        Duration.ofSeconds(5));
+    lagMonitor = new ReplicaLagMonitor(routingDataSource);
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    readWriteTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  private String readOnly() {
+    return readOnlyTransaction.execute(
+        status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+  }
+
+  private String readWrite() {
+    return readWriteTransaction.execute(
+        status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+  }
+
+  private void insertRow() {
+    readWriteTransaction.executeWithoutResult(
+        status -> jdbcTemplate.update("insert into routing_write default values"));
+  }
+
+  private static DataSource dataSource(PostgreSQLContainer<?> container) {
+    return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(),
+        container.getPassword());
+  }
+}
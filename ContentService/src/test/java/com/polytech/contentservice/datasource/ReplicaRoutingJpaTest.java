@@ -0,0 +1,141 @@
+package com.polytech.contentservice.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.polytech.contentservice.config.ReadReplicaConfiguration;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Маршрутизация через JPA, когда EntityManager живёт весь запрос, как при Open Session in View.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingJpaTest {
+  private static final String CREATE_TABLE =
+      "create table if not exists routing_note (id bigint primary key, text varchar)";
+  private static final String COUNT_NOTES = "select count(*) from routing_note";
+
+  @Container
+  private static final PostgreSQLContainer<?> PRIMARY =
+      new PostgreSQLContainer<>("postgres:15").withDatabaseName("primary_db");
+  @Container
+  private static final PostgreSQLContainer<?> REPLICA =
+      new PostgreSQLContainer<>("postgres:15").withDatabaseName("replica_db");
+
+  private LocalContainerEntityManagerFactoryBean factoryBean;
+  private EntityManagerFactory entityManagerFactory;
+  private ReplicaLagMonitor lagMonitor;
+  private TransactionTemplate readOnlyTransaction;
+  private TransactionTemplate readWriteTransaction;
+
+  @BeforeEach
+  void setUp() {
+    for (PostgreSQLContainer<?> container : List.of(PRIMARY, REPLICA)) {
+      JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource(container));
+      jdbcTemplate.execute(CREATE_TABLE);
+      jdbcTemplate.execute("truncate routing_note");
+    }
+    ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+        dataSource(PRIMARY), List.of(new ReplicaState("replica-0", dataSource(REPLICA))),
+        Duration.ofSeconds(5));
+    lagMonitor = new ReplicaLagMonitor(routingDataSource);
+
+    Map<String, Object> jpaProperties = new HashMap<>();
+    new ReadReplicaConfiguration().releaseConnectionAfterTransaction().customize(jpaProperties);
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+    factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factoryBean.setManagedTypes(PersistenceManagedTypes.of(RoutingNote.class.getName()));
+    factoryBean.setJpaPropertyMap(jpaProperties);
+    factoryBean.afterPropertiesSet();
+    entityManagerFactory = factoryBean.getObject();
+
+    JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    readWriteTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @Test
+  void testOpenEntityManager_WriteAfterReplicaReadGoesToPrimary() {
+    lagMonitor.check();
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    TransactionSynchronizationManager.bindResource(entityManagerFactory,
+        new EntityManagerHolder(entityManager));
+    try {
+      assertEquals("replica_db", readOnlyTransaction.execute(
+          status -> currentDatabase(entityManager)));
+
+      assertEquals("primary_db", readWriteTransaction.execute(status -> {
+        entityManager.persist(new RoutingNote(1L, "Заметка"));
+        entityManager.flush();
+        return currentDatabase(entityManager);
+      }));
+    } finally {
+      TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+      entityManager.close();
+    }
+
+    assertEquals(1L, countNotes(PRIMARY));
+    assertEquals(0L, countNotes(REPLICA));
+  }
+
+  private static String currentDatabase(EntityManager entityManager) {
+    return (String) entityManager.createNativeQuery("select current_database()")
+        .getSingleResult();
+  }
+
+  private static long countNotes(PostgreSQLContainer<?> container) {
+    return new JdbcTemplate(dataSource(container)).queryForObject(COUNT_NOTES, Long.class);
+  }
+
+  private static DataSource dataSource(PostgreSQLContainer<?> container) {
+    return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(),
+        container.getPassword());
+  }
+
+  @Entity
+  @Table(name = "routing_note")
+  static class RoutingNote {
+    @Id
+    private Long id;
+    private String text;
+
+    protected RoutingNote() {
+    }
+
+    RoutingNote(Long id, String text) {
+      this.id = id;
+      this.text = text;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.polytech.contentservice.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class ReplicaStateTest {
+  private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+  @Test
+  void testIsReadable_NotCheckedYet() {
+    ReplicaState replica = new ReplicaState("replica-0", mock(DataSource.class));
+
+    assertFalse(replica.isReadable(MAX_LAG, 0));
+  }
+
+  @Test
+  void testIsReadable_ReplayedClientWrite() {
+    ReplicaState replica = new ReplicaState("replica-0", mock(DataSource.class));
+
+    replica.update(Duration.ZERO, 100);
+
+    assertTrue(replica.isReadable(MAX_LAG, 0));
+    assertTrue(replica.isReadable(MAX_LAG, 100));
+  }
+
+  @Test
+  void testIsReadable_NotReplayedClientWrite() {
+    ReplicaState replica = new ReplicaState("replica-0", mock(DataSource.class));
+
+    replica.update(Duration.ofMillis(200), 100);
+
+    assertFalse(replica.isReadable(MAX_LAG, 101));
+    assertFalse(replica.isReadable(MAX_LAG, WalPosition.MAX));
+  }
+
+  @Test
+  void testIsReadable_LagTooHigh() {
+    ReplicaState replica = new ReplicaState("replica-0", mock(DataSource.class));
+
+    replica.update(Duration.ofSeconds(6), 100);
+
+    assertFalse(replica.isReadable(MAX_LAG, 0));
+  }
+
+  @Test
+  void testIsReadable_MarkedUnavailable() {
+    ReplicaState replica = new ReplicaState("replica-0", mock(DataSource.class));
+    replica.update(Duration.ZERO, 100);
+
+    replica.markUnavailable();
+
+    assertFalse(replica.isReadable(MAX_LAG, 0));
+  }
+}
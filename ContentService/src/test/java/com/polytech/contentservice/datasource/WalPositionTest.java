@@ -0,0 +1,23 @@
+package com.polytech.contentservice.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class WalPositionTest {
+  @Test
+  void testParse() {
+    assertEquals(0x16_B374D848L, WalPosition.parse("16/B374D848"));
+    assertEquals(0, WalPosition.parse(null));
+    assertThrows(IllegalArgumentException.class, () -> WalPosition.parse("B374D848"));
+  }
+
+  @Test
+  void testReached_ComparesUnsigned() {
+    assertTrue(WalPosition.reached(WalPosition.parse("FFFFFFFF/0"), WalPosition.parse("1/0")));
+    assertFalse(WalPosition.reached(WalPosition.parse("1/0"), WalPosition.MAX));
+  }
+}
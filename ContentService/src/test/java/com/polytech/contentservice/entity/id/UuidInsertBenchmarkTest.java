@@ -0,0 +1,65 @@
+package com.polytech.contentservice.entity.id;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Сравнение скорости вставки и размера первичного ключа для UUIDv4 и UUIDv7.
+ * Запускается только явно: {@code ./gradlew test --tests '*UuidInsertBenchmarkTest' -Dbenchmark=true}.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UuidInsertBenchmarkTest extends PostgresContainerTest {
+  private static final Logger LOG = LoggerFactory.getLogger(UuidInsertBenchmarkTest.class);
+  private static final int ROW_AMOUNT = 2_000_000;
+  private static final int BATCH_SIZE = 1_000;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("drop table if exists uuid_benchmark_v4, uuid_benchmark_v7");
+  }
+
+  @Test
+  void compareRandomAndTimeOrderedIds() {
+    measure("uuid_benchmark_v4", UUID::randomUUID);
+    measure("uuid_benchmark_v7", UuidV7Generator::nextUuid);
+  }
+
+  private void measure(String table, Supplier<UUID> ids) {
+    jdbcTemplate.execute("create table " + table
+        + " (id uuid primary key, payload varchar not null)");
+    String insert = "insert into " + table + " (id, payload) values (?, ?)";
+    long start = System.nanoTime();
+    for (int inserted = 0; inserted < ROW_AMOUNT; inserted += BATCH_SIZE) {
+      List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        rows.add(new Object[] {ids.get(), "payload " + (inserted + i)});
+      }
+      jdbcTemplate.batchUpdate(insert, rows);
+    }
+    long millis = (System.nanoTime() - start) / 1_000_000;
+    Long indexBytes = jdbcTemplate.queryForObject(
+        "select pg_relation_size('" + table + "_pkey')", Long.class);
+    LOG.info("{}: {} rows in {} ms ({} rows/s), primary key {} MB", table, ROW_AMOUNT, millis,
+        ROW_AMOUNT * 1_000L / Math.max(millis, 1), indexBytes / (1024 * 1024));
+  }
+}
@@ -0,0 +1,56 @@
+package com.polytech.contentservice.entity.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+  @Test
+  void testNextUuid_VersionAndVariant() {
+    UUID uuid = UuidV7Generator.nextUuid();
+
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+  }
+
+  @Test
+  void testNextUuid_ContainsCurrentTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID uuid = UuidV7Generator.nextUuid();
+    long after = System.currentTimeMillis();
+
+    long timestamp = uuid.getMostSignificantBits() >>> 16;
+    assertTrue(timestamp >= before, "timestamp " + timestamp + " is before " + before);
+    assertTrue(timestamp <= after + 1, "timestamp " + timestamp + " is after " + after);
+  }
+
+  @Test
+  void testNextUuid_MonotonicInStringOrder() {
+    List<String> uuids = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      uuids.add(UuidV7Generator.nextUuid().toString());
+    }
+
+    for (int i = 1; i < uuids.size(); i++) {
+      assertTrue(uuids.get(i - 1).compareTo(uuids.get(i)) < 0,
+          uuids.get(i - 1) + " >= " + uuids.get(i));
+    }
+  }
+
+  @Test
+  void testNextUuid_UniqueAcrossThreads() {
+    Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+
+    IntStream.range(0, 200_000).parallel()
+        .forEach(i -> uuids.add(UuidV7Generator.nextUuid()));
+
+    assertEquals(200_000, uuids.size());
+  }
+}
@@ -2,10 +2,13 @@ package com.polytech.contentservice.grpc;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.content.SetContentImageUrlRequest;
 import com.content.SetEpisodeVideoUrlRequest;
+import com.content.SetEpisodesVideoUrlRequest;
+import com.content.SetEpisodesVideoUrlResponse;
 import com.content.UserRoleRequest;
 import com.content.UserRoleResponse;
 import com.google.protobuf.Empty;
@@ -20,7 +23,9 @@ import com.polytech.contentservice.service.episode.EpisodeService;
 import com.polytech.contentservice.service.user.UserService;
 import io.grpc.StatusException;
 import io.grpc.stub.StreamObserver;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +48,8 @@ class ContentGrpcControllerTest {
   private StreamObserver<UserRoleResponse> userRoleResponseObserver;
   @Mock
   private StreamObserver<Empty> emptyResponseObserver;
+  @Mock
+  private StreamObserver<SetEpisodesVideoUrlResponse> batchResponseObserver;
 
   @Test
   void testGetUserRole_UserExists() {
@@ -125,4 +132,53 @@ class ContentGrpcControllerTest {
     verify(emptyResponseObserver).onNext(Empty.getDefaultInstance());
     verify(emptyResponseObserver).onCompleted();
   }
+
+  @Test
+  void testSetEpisodesVideoUrl() {
+    UUID uploadedEpisodeId = UUID.randomUUID();
+    UUID missingEpisodeId = UUID.randomUUID();
+    String videoUrl = "http://example.com/video.mp4";
+
+    SetEpisodesVideoUrlRequest request = SetEpisodesVideoUrlRequest.newBuilder()
+        .addEpisodes(SetEpisodeVideoUrlRequest.newBuilder()
+            .setEpisodeId(uploadedEpisodeId.toString())
+            .setUrl(videoUrl)
+            .setStatus("UPLOADED"))
+        .addEpisodes(SetEpisodeVideoUrlRequest.newBuilder()
+            .setEpisodeId(missingEpisodeId.toString())
+            .setUrl("")
+            .setStatus("ERROR"))
+        .build();
+    Map<UUID, EpisodeDto> expectedUpdates = Map.of(
+        uploadedEpisodeId,
+        EpisodeDto.builder().s3BucketName(videoUrl).status(EpisodeStatus.UPLOADED).build(),
+        missingEpisodeId,
+        EpisodeDto.builder().s3BucketName("").status(EpisodeStatus.ERROR).build());
+    when(episodeService.updateEpisodesInfo(expectedUpdates)).thenReturn(Set.of(missingEpisodeId));
+
+    controller.setEpisodesVideoUrl(request, batchResponseObserver);
+
+    verify(batchResponseObserver).onNext(SetEpisodesVideoUrlResponse.newBuilder()
+        .addNotFoundEpisodeIds(missingEpisodeId.toString())
+        .build());
+    verify(batchResponseObserver).onCompleted();
+  }
+
+  @Test
+  void testSetEpisodesVideoUrl_InvalidStatus() {
+    SetEpisodesVideoUrlRequest request = SetEpisodesVideoUrlRequest.newBuilder()
+        .addEpisodes(SetEpisodeVideoUrlRequest.newBuilder()
+            .setEpisodeId(UUID.randomUUID().toString())
+            .setUrl("")
+            .setStatus("DELETED"))
+        .build();
+
+    controller.setEpisodesVideoUrl(request, batchResponseObserver);
+
+    ArgumentCaptor<Throwable> exceptionCaptor = ArgumentCaptor.forClass(Throwable.class);
+    verify(batchResponseObserver).onError(exceptionCaptor.capture());
+    StatusException statusException = (StatusException) exceptionCaptor.getValue();
+    assertEquals(Code.INVALID_ARGUMENT.getNumber(), statusException.getStatus().getCode().value());
+    verifyNoInteractions(episodeService);
+  }
 }
@@ -2,6 +2,7 @@ package com.polytech.contentservice.mapper;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.polytech.contentservice.common.Category;
@@ -9,8 +10,10 @@ import com.polytech.contentservice.common.Genre;
 import com.polytech.contentservice.common.Quality;
 import com.polytech.contentservice.dto.castmember.CastMemberDto;
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.content.ContentSuggestionDto;
 import com.polytech.contentservice.entity.CastMember;
 import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.repository.ContentTitleSuggestion;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -45,6 +48,22 @@ class ContentMapperTest {
     contentDto = getContentDto(contentId);
   }
 
+  @Test
+  void testConvertToContentSuggestionDto() {
+    ContentTitleSuggestion suggestion = mock(ContentTitleSuggestion.class);
+    when(suggestion.getId()).thenReturn(content.getId());
+    when(suggestion.getTitle()).thenReturn(content.getTitle());
+    when(suggestion.getYear()).thenReturn(content.getYear());
+    when(suggestion.getThumbnail()).thenReturn(content.getThumbnail());
+
+    ContentSuggestionDto result = contentMapper.convertToContentSuggestionDto(suggestion);
+
+    assertEquals(content.getId(), result.id());
+    assertEquals(content.getTitle(), result.title());
+    assertEquals(content.getYear(), result.year());
+    assertEquals(content.getThumbnail(), result.thumbnail());
+  }
+
   @Test
   void testConvertToContentDto() {
     when(castMemberMapper.convertToSetOfCastMemberDto(any())).thenReturn(Set.of(castMemberDto));
@@ -0,0 +1,123 @@
+package com.polytech.contentservice.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.EpisodeStatus;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.entity.CastMember;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.Episode;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ContentBatchRepository.class)
+class ContentBatchRepositoryTest extends PostgresContainerTest {
+  @Autowired
+  private ContentBatchRepository contentBatchRepository;
+  @Autowired
+  private ContentRepository contentRepository;
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  void testInsertAll() {
+    Content first = content("Баки Ханма");
+    Content second = content("Игра престолов");
+
+    contentBatchRepository.insertAll(List.of(first, second));
+    entityManager.clear();
+
+    Content saved = contentRepository.findById(first.getId()).orElseThrow();
+    assertEquals("Баки Ханма", saved.getTitle());
+    assertEquals(Quality.P1080, saved.getQuality());
+    assertEquals(AgeRestriction.EIGHTEEN_PLUS, saved.getAgeRestriction());
+    assertEquals("Иван Иванов", saved.getCastMembers().iterator().next().getFullName());
+    assertEquals(EpisodeStatus.NOT_UPLOADED, saved.getEpisodes().iterator().next().getStatus());
+    assertEquals(2L, contentRepository.count());
+  }
+
+  @Test
+  void testInsertAll_SearchVectorIsBuilt() {
+    Content content = content("Баки Ханма");
+
+    contentBatchRepository.insertAll(List.of(content));
+
+    Object matches = entityManager.createNativeQuery("""
+            select count(*) from content
+            where search_vector @@ websearch_to_tsquery('russian', 'Иванов')
+            """)
+        .getSingleResult();
+    assertEquals(1L, ((Number) matches).longValue());
+  }
+
+  @Test
+  void testSearchVector_FollowsCastMemberChanges() {
+    Content content = content("Баки Ханма");
+    contentBatchRepository.insertAll(List.of(content));
+
+    entityManager.createNativeQuery("update cast_member set full_name = 'Пётр Петров' where content_id = ?1")
+        .setParameter(1, content.getId())
+        .executeUpdate();
+    assertEquals(0L, countMatches("Иванов"));
+    assertEquals(1L, countMatches("Петров"));
+
+    entityManager.createNativeQuery("delete from cast_member where content_id = ?1")
+        .setParameter(1, content.getId())
+        .executeUpdate();
+    assertEquals(0L, countMatches("Петров"));
+  }
+
+  private long countMatches(String query) {
+    Object matches = entityManager.createNativeQuery("""
+            select count(*) from content
+            where search_vector @@ websearch_to_tsquery('russian', ?1)
+            """)
+        .setParameter(1, query)
+        .getSingleResult();
+    return ((Number) matches).longValue();
+  }
+
+  private static Content content(String title) {
+    Content content = Content.builder()
+        .id(UUID.randomUUID())
+        .title(title)
+        .quality(Quality.P1080)
+        .genre(Genre.DRAMA)
+        .category(Category.SERIES)
+        .ageRestriction(AgeRestriction.EIGHTEEN_PLUS)
+        .year(2018)
+        .creationDate(LocalDateTime.now())
+        .updatedDate(LocalDateTime.now())
+        .castMembers(Set.of(CastMember.builder()
+            .id(UUID.randomUUID())
+            .fullName("Иван Иванов")
+            .role("Актёр")
+            .creationDate(LocalDateTime.now())
+            .updateDate(LocalDateTime.now())
+            .build()))
+        .build();
+    content.setEpisodes(Set.of(Episode.builder()
+        .id(UUID.randomUUID())
+        .title("Пилот")
+        .episodeNumber(1)
+        .seasonNumber(1)
+        .status(EpisodeStatus.NOT_UPLOADED)
+        .content(content)
+        .build()));
+    return content;
+  }
+}
@@ -0,0 +1,118 @@
+package com.polytech.contentservice.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.entity.Content;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ContentFacetRepository.class, ContentBatchRepository.class})
+class ContentFacetRepositoryTest extends PostgresContainerTest {
+  @Autowired
+  private ContentFacetRepository contentFacetRepository;
+  @Autowired
+  private ContentBatchRepository contentBatchRepository;
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  void testFindAll_MaintainedOnInsert() {
+    entityManager.persist(content(Genre.DRAMA, 2020));
+    entityManager.persist(content(Genre.DRAMA, 2020));
+    entityManager.persist(content(Genre.DRAMA, null));
+    entityManager.flush();
+
+    assertEquals(List.of(
+            new ContentFacetCount(Genre.DRAMA, AgeRestriction.SIXTEEN_PLUS, null, 1),
+            new ContentFacetCount(Genre.DRAMA, AgeRestriction.SIXTEEN_PLUS, 2020, 2)),
+        sorted(contentFacetRepository.findAll()));
+  }
+
+  @Test
+  void testFindAll_MaintainedOnBatchInsert() {
+    Content first = content(Genre.BLOCKBUSTER, 2021);
+    Content second = content(Genre.BLOCKBUSTER, 2021);
+    first.setId(UUID.randomUUID());
+    second.setId(UUID.randomUUID());
+
+    contentBatchRepository.insertAll(List.of(first, second));
+
+    assertEquals(List.of(new ContentFacetCount(Genre.BLOCKBUSTER, AgeRestriction.SIXTEEN_PLUS, 2021, 2)),
+        contentFacetRepository.findAll());
+  }
+
+  @Test
+  void testFindAll_MaintainedOnUpdateAndDelete() {
+    Content updated = content(Genre.DRAMA, 2020);
+    Content deleted = content(Genre.DRAMA, 2020);
+    entityManager.persist(updated);
+    entityManager.persist(deleted);
+    entityManager.flush();
+
+    updated.setGenre(Genre.BLOCKBUSTER);
+    entityManager.remove(deleted);
+    entityManager.flush();
+
+    assertEquals(List.of(new ContentFacetCount(Genre.BLOCKBUSTER, AgeRestriction.SIXTEEN_PLUS, 2020, 1)),
+        contentFacetRepository.findAll());
+  }
+
+  @Test
+  void testFindAll_UntouchedWhenFacetColumnsDoNotChange() {
+    Content content = content(Genre.DRAMA, 2020);
+    entityManager.persist(content);
+    entityManager.flush();
+    Object facetRowBefore = facetRowVersion();
+
+    content.setDescription("Новое описание");
+    content.setThumbnail("https://example.com/thumbnail.png");
+    entityManager.flush();
+
+    // Новая версия строки появилась бы и при обновлении тем же значением
+    assertEquals(facetRowBefore, facetRowVersion());
+    assertEquals(List.of(new ContentFacetCount(Genre.DRAMA, AgeRestriction.SIXTEEN_PLUS, 2020, 1)),
+        contentFacetRepository.findAll());
+  }
+
+  private Object facetRowVersion() {
+    return entityManager.createNativeQuery("select ctid::text from content_facet")
+        .getSingleResult();
+  }
+
+  private static List<ContentFacetCount> sorted(List<ContentFacetCount> facets) {
+    return facets.stream()
+        .sorted(Comparator.comparing(ContentFacetCount::year,
+            Comparator.nullsFirst(Comparator.naturalOrder())))
+        .toList();
+  }
+
+  private static Content content(Genre genre, Integer year) {
+    return Content.builder()
+        .title("Фильм")
+        .quality(Quality.P1080)
+        .genre(genre)
+        .category(Category.MOVIE)
+        .ageRestriction(AgeRestriction.SIXTEEN_PLUS)
+        .year(year)
+        .creationDate(LocalDateTime.now())
+        .updatedDate(LocalDateTime.now())
+        .castMembers(Set.of())
+        .build();
+  }
+}
@@ -0,0 +1,103 @@
+package com.polytech.contentservice.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.ContentSearchMode;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.entity.CastMember;
+import com.polytech.contentservice.entity.Content;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ContentRepositoryCustomImplTest extends PostgresContainerTest {
+  @Autowired
+  private ContentRepository contentRepository;
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  void testFindIdsByFullText_RanksTitleAboveDescription() {
+    Content inDescription = persist("Оазис", "Фильм о виртуальной реальности и игроках", Genre.BLOCKBUSTER);
+    Content inTitle = persist("Первому игроку приготовиться", null, Genre.BLOCKBUSTER);
+    persist("Баки Ханма", "Аниме о боевых искусствах", Genre.ACTION_FILM);
+
+    List<UUID> ids = contentRepository.findIdsByFullText(search("игрок", null), 0, 10);
+
+    assertEquals(List.of(inTitle.getId(), inDescription.getId()), ids);
+    assertEquals(2, contentRepository.countByFullText(search("игрок", null)));
+  }
+
+  @Test
+  void testFindIdsByFullText_AppliesFilters() {
+    persist("Первому игроку приготовиться", null, Genre.BLOCKBUSTER);
+    Content drama = persist("Игрок", null, Genre.DRAMA);
+
+    List<UUID> ids = contentRepository.findIdsByFullText(search("игрок", Genre.DRAMA), 0, 10);
+
+    assertEquals(List.of(drama.getId()), ids);
+  }
+
+  @Test
+  void testFindIdsByFullText_FindsByCastMemberAfterChange() {
+    Content content = persist("Матрица", null, Genre.BLOCKBUSTER);
+    CastMember castMember = CastMember.builder()
+        .content(content)
+        .role("Нео")
+        .fullName("Keanu Reeves")
+        .creationDate(LocalDateTime.now())
+        .updateDate(LocalDateTime.now())
+        .build();
+    entityManager.persist(castMember);
+    entityManager.flush();
+
+    assertEquals(List.of(content.getId()),
+        contentRepository.findIdsByFullText(search("reeves", null), 0, 10));
+
+    castMember.setFullName("Carrie-Anne Moss");
+    entityManager.flush();
+
+    assertTrue(contentRepository.findIdsByFullText(search("reeves", null), 0, 10).isEmpty());
+    assertEquals(List.of(content.getId()),
+        contentRepository.findIdsByFullText(search("moss", null), 0, 10));
+  }
+
+  private ContentSearchDto search(String query, Genre genre) {
+    return ContentSearchDto.builder()
+        .title(query)
+        .genre(genre)
+        .searchMode(ContentSearchMode.FULL_TEXT)
+        .build();
+  }
+
+  private Content persist(String title, String description, Genre genre) {
+    Content content = Content.builder()
+        .title(title)
+        .description(description)
+        .quality(Quality.P1080)
+        .genre(genre)
+        .category(Category.MOVIE)
+        .ageRestriction(AgeRestriction.SIXTEEN_PLUS)
+        .creationDate(LocalDateTime.now())
+        .updatedDate(LocalDateTime.now())
+        .castMembers(Set.of())
+        .build();
+    entityManager.persist(content);
+    entityManager.flush();
+    return content;
+  }
+}
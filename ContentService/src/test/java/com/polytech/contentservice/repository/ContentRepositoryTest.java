@@ -0,0 +1,129 @@
+package com.polytech.contentservice.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.EpisodeStatus;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.Episode;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ContentRepositoryTest extends PostgresContainerTest {
+  @Autowired
+  private ContentRepository contentRepository;
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    persist("Первому игроку приготовиться");
+    persist("Игра престолов");
+    persist("Сто процентов");
+    persist("100% волк");
+    entityManager.flush();
+  }
+
+  @Test
+  void testFindTitleSuggestions_PrefixGoesFirst() {
+    assertEquals(List.of("Игра престолов", "Первому игроку приготовиться"),
+        titles(contentRepository.findTitleSuggestions("игр", "игр", 10)));
+  }
+
+  @Test
+  void testFindTitleSuggestions_ToleratesTypos() {
+    assertEquals("Игра престолов",
+        titles(contentRepository.findTitleSuggestions("игра престлов", "игра престлов", 10)).getFirst());
+  }
+
+  @Test
+  void testFindTitleSuggestions_EscapedWildcardIsLiteral() {
+    assertEquals(List.of("100% волк"),
+        titles(contentRepository.findTitleSuggestions("100\\%", "100%", 10)));
+  }
+
+  @Test
+  void testFindTitleSuggestions_RespectsLimit() {
+    assertEquals(1, contentRepository.findTitleSuggestions("игр", "игр", 1).size());
+  }
+
+  @Test
+  void testIdGeneration_CompatibleWithRandomUuids() {
+    UUID legacyId = (UUID) entityManager.createNativeQuery("""
+            insert into content (title, quality, genre, category, age_restriction)
+            values ('Старый фильм', '1080P', 'DRAMA', 'MOVIE', '16+')
+            returning content_id
+            """, UUID.class)
+        .getSingleResult();
+    Content content = persist("Новый фильм");
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(4, legacyId.version());
+    assertEquals(7, content.getId().version());
+    assertEquals("Старый фильм", contentRepository.findById(legacyId).orElseThrow().getTitle());
+    assertEquals("Новый фильм", contentRepository.findById(content.getId()).orElseThrow().getTitle());
+  }
+
+  @Test
+  void testFindEpisodesVersion() {
+    Content content = persist("Сериал");
+    LocalDateTime episodeUpdatedDate = LocalDateTime.of(2024, 11, 3, 12, 0);
+    entityManager.persist(Episode.builder()
+        .title("Пилот")
+        .episodeNumber(1)
+        .seasonNumber(1)
+        .status(EpisodeStatus.NOT_UPLOADED)
+        .updatedDate(episodeUpdatedDate)
+        .content(content)
+        .build());
+    Content empty = persist("Без эпизодов");
+    entityManager.flush();
+
+    EpisodesVersion version = contentRepository.findEpisodesVersion(content.getId()).orElseThrow();
+    EpisodesVersion emptyVersion = contentRepository.findEpisodesVersion(empty.getId()).orElseThrow();
+
+    assertEquals(1L, version.getEpisodeCount());
+    assertEquals(episodeUpdatedDate, version.getLastEpisodeUpdatedDate());
+    assertEquals(0L, emptyVersion.getEpisodeCount());
+    assertNull(emptyVersion.getLastEpisodeUpdatedDate());
+    assertTrue(contentRepository.findEpisodesVersion(UUID.randomUUID()).isEmpty());
+  }
+
+  private List<String> titles(List<ContentTitleSuggestion> suggestions) {
+    return suggestions.stream()
+        .map(ContentTitleSuggestion::getTitle)
+        .toList();
+  }
+
+  private Content persist(String title) {
+    Content content = Content.builder()
+        .title(title)
+        .quality(Quality.P1080)
+        .genre(Genre.DRAMA)
+        .category(Category.MOVIE)
+        .ageRestriction(AgeRestriction.SIXTEEN_PLUS)
+        .creationDate(LocalDateTime.now())
+        .updatedDate(LocalDateTime.now())
+        .castMembers(Set.of())
+        .build();
+    entityManager.persist(content);
+    return content;
+  }
+}
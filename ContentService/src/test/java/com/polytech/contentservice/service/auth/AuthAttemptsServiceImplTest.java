@@ -5,155 +5,184 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.polytech.contentservice.config.AuthAttemptsProperty;
 import com.polytech.contentservice.entity.AuthAttempts;
 import com.polytech.contentservice.repository.AuthAttemptsRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class AuthAttemptsServiceImplTest {
+  private static final int BAN_TIME_IN_SECONDS = 30;
+  private static final int DEFAULT_ATTEMPTS_AMOUNT = 3;
+
   @Mock
   private AuthAttemptsRepository authAttemptsRepository;
 
-  @InjectMocks
+  private MutableClock clock;
   private AuthAttemptsServiceImpl authAttemptsService;
 
   private final String testIp = "192.168.1.1";
 
-  @Test
-  void testIsMaxLoginAttemptsReached_FirstAttempt() {
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.empty());
-
-    boolean result = authAttemptsService.isMaxLoginAttemptsReached(testIp);
-
-    assertFalse(result);
-    verify(authAttemptsRepository, times(1)).save(any(AuthAttempts.class));
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2024-10-01T12:00:00Z"));
+    authAttemptsService = createService(false);
   }
 
   @Test
   void testIsMaxLoginAttemptsReached_AttemptsRemaining() {
-    AuthAttempts authAttempts = new AuthAttempts();
-    authAttempts.setIp(testIp);
-    authAttempts.setAttemptsLeft(2);
+    assertFalse(authAttemptsService.isMaxLoginAttemptsReached(testIp));
+    assertFalse(authAttemptsService.isMaxLoginAttemptsReached(testIp));
 
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.of(authAttempts));
+    assertFalse(authAttemptsService.isLoginBlocked(testIp));
+    verifyNoInteractions(authAttemptsRepository);
+  }
 
-    boolean result = authAttemptsService.isMaxLoginAttemptsReached(testIp);
+  @Test
+  void testIsMaxLoginAttemptsReached_LastAttemptBlocks() {
+    failLogin(DEFAULT_ATTEMPTS_AMOUNT);
 
-    assertFalse(result);
-    assertEquals(1, authAttempts.getAttemptsLeft());
-    verify(authAttemptsRepository, times(1)).save(authAttempts);
+    assertTrue(authAttemptsService.isLoginBlocked(testIp));
+    assertFalse(authAttemptsService.isLoginBlocked("10.0.0.1"));
   }
 
   @Test
-  void testIsMaxLoginAttemptsReached_LastAttempt() {
-    AuthAttempts authAttempts = new AuthAttempts();
-    authAttempts.setIp(testIp);
-    authAttempts.setAttemptsLeft(1);
-
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.of(authAttempts));
+  void testIsMaxLoginAttemptsReached_BlockActive() {
+    failLogin(DEFAULT_ATTEMPTS_AMOUNT);
+    clock.advance(Duration.ofSeconds(BAN_TIME_IN_SECONDS - 1));
 
-    boolean result = authAttemptsService.isMaxLoginAttemptsReached(testIp);
+    assertTrue(authAttemptsService.isMaxLoginAttemptsReached(testIp));
+    assertTrue(authAttemptsService.isLoginBlocked(testIp));
+  }
 
-    assertFalse(result);
-    assertEquals(0, authAttempts.getAttemptsLeft());
-    assertNotNull(authAttempts.getNextAttemptsTime());
-    verify(authAttemptsRepository, times(1)).save(authAttempts);
+  @Test
+  void testIsMaxLoginAttemptsReached_BlockExpired() {
+    failLogin(DEFAULT_ATTEMPTS_AMOUNT);
+    clock.advance(Duration.ofSeconds(BAN_TIME_IN_SECONDS + 1));
+
+    assertFalse(authAttemptsService.isLoginBlocked(testIp));
+    assertFalse(authAttemptsService.isMaxLoginAttemptsReached(testIp));
+    // после окончания блокировки снова доступно defaultAttemptsAmount попыток
+    failLogin(DEFAULT_ATTEMPTS_AMOUNT - 1);
+    assertTrue(authAttemptsService.isLoginBlocked(testIp));
   }
 
   @Test
-  void testIsMaxLoginAttemptsReached_BlockActive() {
-    AuthAttempts authAttempts = new AuthAttempts();
-    authAttempts.setIp(testIp);
-    authAttempts.setAttemptsLeft(0);
-    authAttempts.setNextAttemptsTime(LocalDateTime.now().plusSeconds(30));
+  void testIsLoginBlocked_NoAttemptsRecord() {
+    assertFalse(authAttemptsService.isLoginBlocked(testIp));
+  }
 
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.of(authAttempts));
+  @Test
+  void testResetLoginAttemptsByIp() {
+    failLogin(DEFAULT_ATTEMPTS_AMOUNT);
 
-    boolean result = authAttemptsService.isMaxLoginAttemptsReached(testIp);
+    authAttemptsService.resetLoginAttemptsByIp(testIp);
 
-    assertTrue(result);
-    verify(authAttemptsRepository, never()).save(any());
+    assertFalse(authAttemptsService.isLoginBlocked(testIp));
+    verifyNoInteractions(authAttemptsRepository);
   }
 
   @Test
-  void testIsMaxLoginAttemptsReached_BlockExpired() {
-    AuthAttempts authAttempts = new AuthAttempts();
-    authAttempts.setIp(testIp);
-    authAttempts.setAttemptsLeft(0);
-    authAttempts.setNextAttemptsTime(LocalDateTime.now().minusSeconds(10));
-
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.of(authAttempts));
+  void testFlushChangedAttempts_Disabled() {
+    failLogin(1);
 
-    boolean result = authAttemptsService.isMaxLoginAttemptsReached(testIp);
+    authAttemptsService.flushChangedAttempts();
 
-    assertFalse(result);
-    verify(authAttemptsRepository, times(1)).save(authAttempts);
+    verifyNoInteractions(authAttemptsRepository);
   }
 
   @Test
-  void testIsLoginBlocked_NoAttemptsRecord() {
+  void testFlushChangedAttempts_SavesChangedCounters() {
+    authAttemptsService = createService(true);
     when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.empty());
+    failLogin(DEFAULT_ATTEMPTS_AMOUNT);
 
-    boolean result = authAttemptsService.isLoginBlocked(testIp);
+    authAttemptsService.flushChangedAttempts();
+    authAttemptsService.flushChangedAttempts();
 
-    assertFalse(result);
+    ArgumentCaptor<AuthAttempts> captor = ArgumentCaptor.forClass(AuthAttempts.class);
+    verify(authAttemptsRepository, times(1)).save(captor.capture());
+    assertEquals(testIp, captor.getValue().getIp());
+    assertEquals(0, captor.getValue().getAttemptsLeft());
+    assertNotNull(captor.getValue().getNextAttemptsTime());
   }
 
   @Test
-  void testIsLoginBlocked_NotBlocked() {
-    AuthAttempts authAttempts = new AuthAttempts();
-    authAttempts.setIp(testIp);
-    authAttempts.setAttemptsLeft(1);
-
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.of(authAttempts));
+  void testFlushChangedAttempts_DeletesResetCounters() {
+    authAttemptsService = createService(true);
+    failLogin(1);
+    authAttemptsService.resetLoginAttemptsByIp(testIp);
 
-    boolean result = authAttemptsService.isLoginBlocked(testIp);
+    authAttemptsService.flushChangedAttempts();
 
-    assertFalse(result);
+    verify(authAttemptsRepository, times(1)).deleteByIp(testIp);
+    verify(authAttemptsRepository, never()).save(any());
   }
 
   @Test
-  void testIsLoginBlocked_Blocked() {
-    AuthAttempts authAttempts = new AuthAttempts();
-    authAttempts.setIp(testIp);
-    authAttempts.setAttemptsLeft(0);
-    authAttempts.setNextAttemptsTime(LocalDateTime.now().plusSeconds(30));
+  void testLoadPersistedAttempts() {
+    authAttemptsService = createService(true);
+    LocalDateTime blockedUntil = LocalDateTime.ofInstant(
+        clock.instant().plusSeconds(BAN_TIME_IN_SECONDS), ZoneId.systemDefault());
+    when(authAttemptsRepository.findAll()).thenReturn(List.of(
+        AuthAttempts.builder().ip(testIp).attemptsLeft(0).nextAttemptsTime(blockedUntil).build()));
 
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.of(authAttempts));
+    authAttemptsService.loadPersistedAttempts();
 
-    boolean result = authAttemptsService.isLoginBlocked(testIp);
+    assertTrue(authAttemptsService.isLoginBlocked(testIp));
+  }
 
-    assertTrue(result);
+  private void failLogin(int times) {
+    for (int i = 0; i < times; i++) {
+      assertFalse(authAttemptsService.isMaxLoginAttemptsReached(testIp));
+    }
   }
 
-  @Test
-  void testResetLoginAttemptsByIp_NoRecord() {
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.empty());
+  private AuthAttemptsServiceImpl createService(boolean writeBehind) {
+    AuthAttemptsProperty property = new AuthAttemptsProperty(BAN_TIME_IN_SECONDS,
+        DEFAULT_ATTEMPTS_AMOUNT, Duration.ofHours(1), 1000, writeBehind, Duration.ofSeconds(5));
+    return new AuthAttemptsServiceImpl(authAttemptsRepository, property, clock);
+  }
 
-    authAttemptsService.resetLoginAttemptsByIp(testIp);
+  private static class MutableClock extends Clock {
+    private Instant instant;
 
-    verify(authAttemptsRepository, never()).deleteById(any());
-  }
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
 
-  @Test
-  void testResetLoginAttemptsByIp_RecordExists() {
-    AuthAttempts authAttempts = new AuthAttempts();
-    authAttempts.setAuthAttemptsId(UUID.randomUUID());
-    authAttempts.setIp(testIp);
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
 
-    when(authAttemptsRepository.findByIp(testIp)).thenReturn(Optional.of(authAttempts));
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.systemDefault();
+    }
 
-    authAttemptsService.resetLoginAttemptsByIp(testIp);
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
 
-    verify(authAttemptsRepository, times(1)).deleteById(authAttempts.getAuthAttemptsId());
+    @Override
+    public Instant instant() {
+      return instant;
+    }
   }
 }
@@ -0,0 +1,252 @@
+package com.polytech.contentservice.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.auth.AuthServiceGrpc;
+import com.auth.ValidationTokenRequest;
+import com.auth.ValidationTokenResponse;
+import com.polytech.contentservice.common.TokenValidationMode;
+import com.polytech.contentservice.config.AuthCircuitBreakerProperty;
+import com.polytech.contentservice.config.AuthGrpcClientProperty;
+import com.polytech.contentservice.dto.user.detailed.UserDto;
+import com.polytech.contentservice.exception.ServiceUnavailableException;
+import com.polytech.contentservice.exception.UnauthorisedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthGrpcClientImplTest {
+  private static final String TOKEN = "token";
+  private static final String AUTH_GRPC_CALL_EVENT = "com.polytech.contentservice.AuthGrpcCall";
+
+  @Mock
+  private AuthAttemptsService authAttemptsService;
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private Server server;
+  private AuthGrpcClientImpl authGrpcClient;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    authGrpcClient.shutdown();
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void testSendTokenValidationRequest_RetriesUnavailable() throws Exception {
+    start(new AuthServiceGrpc.AuthServiceImplBase() {
+      @Override
+      public void validateToken(ValidationTokenRequest request,
+                                StreamObserver<ValidationTokenResponse> responseObserver) {
+        if (calls.incrementAndGet() == 1) {
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+          return;
+        }
+        respond(responseObserver);
+      }
+    }, Duration.ofSeconds(2), Duration.ZERO);
+
+    ValidationTokenResponse response = authGrpcClient.sendTokenValidationRequest(userDto());
+
+    assertEquals("john@example.com", response.getEmail());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testSendTokenValidationRequest_RecordsEventPerAttempt() throws Exception {
+    start(new AuthServiceGrpc.AuthServiceImplBase() {
+      @Override
+      public void validateToken(ValidationTokenRequest request,
+                                StreamObserver<ValidationTokenResponse> responseObserver) {
+        if (calls.incrementAndGet() == 1) {
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+          return;
+        }
+        respond(responseObserver);
+      }
+    }, Duration.ofSeconds(2), Duration.ZERO);
+    Path dump = Files.createTempFile("auth-grpc", ".jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(AUTH_GRPC_CALL_EVENT);
+      recording.start();
+      authGrpcClient.sendTokenValidationRequest(userDto());
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+        .filter(event -> event.getEventType().getName().equals(AUTH_GRPC_CALL_EVENT))
+        .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+        .toList();
+    Files.delete(dump);
+    assertEquals(List.of("UNAVAILABLE", "OK"),
+        events.stream().map(event -> event.getString("status")).toList());
+    assertEquals(List.of(0, 1),
+        events.stream().map(event -> event.getInt("previousAttempts")).toList());
+  }
+
+  @Test
+  void testSendTokenValidationRequestAsync_HedgesSlowAttempt() throws Exception {
+    start(new AuthServiceGrpc.AuthServiceImplBase() {
+      @Override
+      public void validateToken(ValidationTokenRequest request,
+                                StreamObserver<ValidationTokenResponse> responseObserver) {
+        if (calls.incrementAndGet() == 1) {
+          return;
+        }
+        respond(responseObserver);
+      }
+    }, Duration.ofSeconds(2), Duration.ofMillis(50));
+
+    ValidationTokenResponse response =
+        authGrpcClient.sendTokenValidationRequestAsync(userDto()).get(2, TimeUnit.SECONDS);
+
+    assertEquals("john@example.com", response.getEmail());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testSendTokenValidationRequest_DeadlineExceeded() throws Exception {
+    start(new AuthServiceGrpc.AuthServiceImplBase() {
+      @Override
+      public void validateToken(ValidationTokenRequest request,
+                                StreamObserver<ValidationTokenResponse> responseObserver) {
+        calls.incrementAndGet();
+      }
+    }, Duration.ofMillis(100), Duration.ZERO);
+
+    assertThrows(ServiceUnavailableException.class,
+        () -> authGrpcClient.sendTokenValidationRequest(userDto()));
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> authGrpcClient.sendTokenValidationRequestAsync(userDto()).get(2, TimeUnit.SECONDS));
+    assertInstanceOf(ServiceUnavailableException.class, exception.getCause());
+  }
+
+  @Test
+  void testSendTokenValidationRequest_InvalidToken() throws Exception {
+    start(new AuthServiceGrpc.AuthServiceImplBase() {
+      @Override
+      public void validateToken(ValidationTokenRequest request,
+                                StreamObserver<ValidationTokenResponse> responseObserver) {
+        calls.incrementAndGet();
+        responseObserver.onError(Status.UNAUTHENTICATED.asRuntimeException());
+      }
+    }, Duration.ofSeconds(2), Duration.ZERO);
+
+    for (int i = 0; i < 3; i++) {
+      assertThrows(UnauthorisedException.class,
+          () -> authGrpcClient.sendTokenValidationRequest(userDto()));
+    }
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> authGrpcClient.sendTokenValidationRequestAsync(userDto()).get(2, TimeUnit.SECONDS));
+    assertInstanceOf(UnauthorisedException.class, exception.getCause());
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  void testSendTokenValidationRequestAsync_CancelReachesServer() throws Exception {
+    CountDownLatch cancelled = new CountDownLatch(1);
+    start(new AuthServiceGrpc.AuthServiceImplBase() {
+      @Override
+      public void validateToken(ValidationTokenRequest request,
+                                StreamObserver<ValidationTokenResponse> responseObserver) {
+        calls.incrementAndGet();
+        ((ServerCallStreamObserver<ValidationTokenResponse>) responseObserver)
+            .setOnCancelHandler(cancelled::countDown);
+      }
+    }, Duration.ofSeconds(2), Duration.ZERO);
+
+    CompletableFuture<ValidationTokenResponse> response =
+        authGrpcClient.sendTokenValidationRequestAsync(userDto());
+    response.cancel(true);
+
+    assertTrue(cancelled.await(1, TimeUnit.SECONDS));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testSendTokenValidationRequest_OpenCircuitFailsFast() throws Exception {
+    start(new AuthServiceGrpc.AuthServiceImplBase() {
+      @Override
+      public void validateToken(ValidationTokenRequest request,
+                                StreamObserver<ValidationTokenResponse> responseObserver) {
+        calls.incrementAndGet();
+        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+      }
+    }, Duration.ofSeconds(2), Duration.ZERO);
+
+    assertThrows(ServiceUnavailableException.class,
+        () -> authGrpcClient.sendTokenValidationRequest(userDto()));
+    assertThrows(ServiceUnavailableException.class,
+        () -> authGrpcClient.sendTokenValidationRequest(userDto()));
+    int callsBeforeOpen = calls.get();
+
+    assertThrows(ServiceUnavailableException.class,
+        () -> authGrpcClient.sendTokenValidationRequest(userDto()));
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> authGrpcClient.sendTokenValidationRequestAsync(userDto()).get(2, TimeUnit.SECONDS));
+    assertInstanceOf(ServiceUnavailableException.class, exception.getCause());
+    assertEquals(callsBeforeOpen, calls.get());
+  }
+
+  private void start(AuthServiceGrpc.AuthServiceImplBase service,
+                     Duration deadline,
+                     Duration hedgingDelay) throws Exception {
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .directExecutor()
+        .addService(service)
+        .build()
+        .start();
+    AuthGrpcClientProperty property = new AuthGrpcClientProperty(
+        "localhost", 8079, TokenValidationMode.GRPC, "", deadline,
+        new AuthGrpcClientProperty.Retry(3, hedgingDelay, Duration.ofMillis(10),
+            Duration.ofMillis(50)),
+        new AuthGrpcClientProperty.KeepAlive(Duration.ofSeconds(60), Duration.ofSeconds(10)));
+    CircuitBreaker circuitBreaker = AuthGrpcClientImpl.createCircuitBreaker(
+        new AuthCircuitBreakerProperty(50, 100, Duration.ofSeconds(10), 2, 2,
+            Duration.ofMinutes(1), 1));
+    authGrpcClient = new AuthGrpcClientImpl(
+        InProcessChannelBuilder.forName(serverName).directExecutor(), property,
+        circuitBreaker, authAttemptsService);
+  }
+
+  private static void respond(StreamObserver<ValidationTokenResponse> responseObserver) {
+    responseObserver.onNext(ValidationTokenResponse.newBuilder()
+        .setEmail("john@example.com")
+        .setRole("USER")
+        .build());
+    responseObserver.onCompleted();
+  }
+
+  private static UserDto userDto() {
+    return UserDto.builder().token(TOKEN).build();
+  }
+}
@@ -2,6 +2,7 @@ package com.polytech.contentservice.service.auth;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,19 +10,27 @@ import static org.mockito.Mockito.when;
 import com.auth.LoginUserResponse;
 import com.auth.RegisterUserResponse;
 import com.auth.ValidationTokenResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.config.AuthTokenCacheProperty;
 import com.polytech.contentservice.dto.user.detailed.UserDto;
 import com.polytech.contentservice.dto.user.login.UserLoginResponseDto;
 import com.polytech.contentservice.dto.user.register.UserRegisterDto;
 import com.polytech.contentservice.dto.user.register.UserRegistrationResponseDto;
+import com.polytech.contentservice.exception.ServiceUnavailableException;
 import com.polytech.contentservice.exception.UnauthorisedException;
 import com.polytech.contentservice.service.user.UserService;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +41,16 @@ class AuthServiceImplTest {
   @Mock
   private UserService userService;
 
+  @Spy
+  private VerifiedTokenCache verifiedTokenCache =
+      new VerifiedTokenCache(new AuthTokenCacheProperty(true, 100, Duration.ofMinutes(1)));
+
+  @Spy
+  private JwtTokenReader jwtTokenReader = new JwtTokenReader(new ObjectMapper());
+
+  @Mock
+  private LocalTokenVerifier localTokenVerifier;
+
   @InjectMocks
   private AuthServiceImpl authService;
 
@@ -160,4 +179,82 @@ class AuthServiceImplTest {
     verify(authGrpcClient, times(1)).sendTokenValidationRequest(any(UserDto.class));
   }
 
+  @Test
+  void testCheckTokenIsValid_CachedUntilExpiration() {
+    String token = jwtWithExpiration(Instant.now().plusSeconds(600));
+    when(authGrpcClient.sendTokenValidationRequest(any(UserDto.class)))
+        .thenReturn(validationTokenResponse);
+
+    assertDoesNotThrow(() -> authService.checkTokenIsValid(token, Role.USER));
+    assertDoesNotThrow(() -> authService.checkTokenIsValid(token, Role.USER));
+
+    verify(authGrpcClient, times(1)).sendTokenValidationRequest(any(UserDto.class));
+  }
+
+  @Test
+  void testCheckTokenIsValid_CachedRoleIsStillChecked() {
+    String token = jwtWithExpiration(Instant.now().plusSeconds(600));
+    when(authGrpcClient.sendTokenValidationRequest(any(UserDto.class)))
+        .thenReturn(validationTokenResponse);
+
+    assertDoesNotThrow(() -> authService.checkTokenIsValid(token, Role.USER));
+    assertThrows(UnauthorisedException.class,
+        () -> authService.checkTokenIsValid(token, Role.ADMIN));
+
+    verify(authGrpcClient, times(1)).sendTokenValidationRequest(any(UserDto.class));
+  }
+
+  @Test
+  void testCheckTokenIsValid_LocalValidation() {
+    String token = jwtWithExpiration(Instant.now().plusSeconds(600));
+    when(localTokenVerifier.isEnabled()).thenReturn(true);
+    when(localTokenVerifier.verify(token)).thenReturn(VerifiedToken.builder()
+        .email("john@example.com")
+        .role(Role.ADMIN)
+        .expiresAt(Instant.now().plusSeconds(600))
+        .build());
+
+    assertDoesNotThrow(() -> authService.checkTokenIsValid(token, Role.ADMIN));
+
+    verify(authGrpcClient, never()).sendTokenValidationRequest(any(UserDto.class));
+  }
+
+  @Test
+  void testCheckTokenIsValid_AuthServiceUnavailable_FallsBackToLocalValidation() {
+    String token = jwtWithExpiration(Instant.now().plusSeconds(600));
+    when(authGrpcClient.sendTokenValidationRequest(any(UserDto.class)))
+        .thenThrow(new ServiceUnavailableException("Auth service is unavailable"));
+    when(localTokenVerifier.isConfigured()).thenReturn(true);
+    when(localTokenVerifier.verify(token)).thenReturn(VerifiedToken.builder()
+        .email("john@example.com")
+        .role(Role.USER)
+        .expiresAt(Instant.now().plusSeconds(600))
+        .build());
+
+    assertDoesNotThrow(() -> authService.checkTokenIsValid(token, Role.USER));
+
+    verify(localTokenVerifier, times(1)).verify(token);
+  }
+
+  @Test
+  void testCheckTokenIsValid_AuthServiceUnavailable_WithoutSecret() {
+    when(authGrpcClient.sendTokenValidationRequest(any(UserDto.class)))
+        .thenThrow(new ServiceUnavailableException("Auth service is unavailable"));
+    when(localTokenVerifier.isConfigured()).thenReturn(false);
+
+    assertThrows(ServiceUnavailableException.class,
+        () -> authService.checkTokenIsValid("valid_token", Role.USER));
+
+    verify(localTokenVerifier, never()).verify(any());
+  }
+
+  private static String jwtWithExpiration(Instant expiration) {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String header = encoder.encodeToString(
+        "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    String payload = encoder.encodeToString(
+        ("{\"userEmail\":\"john@example.com\",\"userRole\":\"USER\",\"exp\":"
+            + expiration.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+    return header + "." + payload + ".signature";
+  }
 }
@@ -0,0 +1,45 @@
+package com.polytech.contentservice.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenReaderTest {
+  private final JwtTokenReader jwtTokenReader = new JwtTokenReader(new ObjectMapper());
+
+  @Test
+  void testReadExpiration() {
+    String token = token("{\"userEmail\":\"a@mail.ru\",\"exp\":1733047200}");
+
+    Optional<Instant> expiration = jwtTokenReader.readExpiration(token);
+
+    assertEquals(Optional.of(Instant.ofEpochSecond(1733047200)), expiration);
+  }
+
+  @Test
+  void testReadExpiration_NoClaim() {
+    String token = token("{\"userEmail\":\"a@mail.ru\"}");
+
+    assertTrue(jwtTokenReader.readExpiration(token).isEmpty());
+  }
+
+  @Test
+  void testReadExpiration_Malformed() {
+    assertTrue(jwtTokenReader.readExpiration("not-a-jwt").isEmpty());
+    assertTrue(jwtTokenReader.readExpiration("a.%%%.c").isEmpty());
+    assertTrue(jwtTokenReader.readExpiration(null).isEmpty());
+  }
+
+  private static String token(String payload) {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+        + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+        + ".signature";
+  }
+}
@@ -0,0 +1,118 @@
+package com.polytech.contentservice.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.common.TokenValidationMode;
+import com.polytech.contentservice.config.AuthGrpcClientProperty;
+import com.polytech.contentservice.dto.user.detailed.UserDto;
+import com.polytech.contentservice.exception.UnauthorisedException;
+import com.polytech.contentservice.service.user.UserService;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LocalTokenVerifierTest {
+  private static final String SECRET = "9095a623-a23a-481a-aa0c-e0ad96edc103";
+  private static final String EMAIL = "john@example.com";
+
+  @Mock
+  private UserService userService;
+
+  private LocalTokenVerifier localTokenVerifier;
+
+  @BeforeEach
+  void setUp() {
+    localTokenVerifier = new LocalTokenVerifier(
+        new AuthGrpcClientProperty("localhost", 8079, TokenValidationMode.LOCAL, SECRET,
+            null, null, null),
+        new JwtTokenReader(new ObjectMapper()),
+        userService);
+  }
+
+  @Test
+  void testIsEnabled() {
+    assertTrue(localTokenVerifier.isEnabled());
+    assertFalse(new LocalTokenVerifier(
+        new AuthGrpcClientProperty("localhost", 8079, TokenValidationMode.LOCAL, "",
+            null, null, null),
+        new JwtTokenReader(new ObjectMapper()),
+        userService).isEnabled());
+    assertFalse(new LocalTokenVerifier(
+        new AuthGrpcClientProperty("localhost", 8079, TokenValidationMode.GRPC, SECRET,
+            null, null, null),
+        new JwtTokenReader(new ObjectMapper()),
+        userService).isEnabled());
+  }
+
+  @Test
+  void testVerify_ValidToken() throws Exception {
+    Instant expiration = Instant.now().plusSeconds(600);
+    when(userService.getUserByEmailNonExcept(EMAIL))
+        .thenReturn(Optional.of(UserDto.builder().email(EMAIL).role(Role.USER).build()));
+
+    VerifiedToken verifiedToken =
+        localTokenVerifier.verify(sign("USER", expiration.getEpochSecond(), SECRET));
+
+    assertEquals(EMAIL, verifiedToken.email());
+    assertEquals(Role.USER, verifiedToken.role());
+    assertEquals(expiration.getEpochSecond(), verifiedToken.expiresAt().getEpochSecond());
+  }
+
+  @Test
+  void testVerify_WrongSecret() throws Exception {
+    String token = sign("USER", Instant.now().plusSeconds(600).getEpochSecond(), "another-secret");
+
+    assertThrows(UnauthorisedException.class, () -> localTokenVerifier.verify(token));
+  }
+
+  @Test
+  void testVerify_ExpiredToken() throws Exception {
+    String token = sign("USER", Instant.now().minusSeconds(1).getEpochSecond(), SECRET);
+
+    assertThrows(UnauthorisedException.class, () -> localTokenVerifier.verify(token));
+  }
+
+  @Test
+  void testVerify_RoleChanged() throws Exception {
+    when(userService.getUserByEmailNonExcept(EMAIL))
+        .thenReturn(Optional.of(UserDto.builder().email(EMAIL).role(Role.ADMIN).build()));
+    String token = sign("USER", Instant.now().plusSeconds(600).getEpochSecond(), SECRET);
+
+    assertThrows(UnauthorisedException.class, () -> localTokenVerifier.verify(token));
+  }
+
+  @Test
+  void testVerify_UserNotFound() throws Exception {
+    when(userService.getUserByEmailNonExcept(EMAIL)).thenReturn(Optional.empty());
+    String token = sign("USER", Instant.now().plusSeconds(600).getEpochSecond(), SECRET);
+
+    assertThrows(UnauthorisedException.class, () -> localTokenVerifier.verify(token));
+  }
+
+  private static String sign(String role, long expiration, String secret) throws Exception {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String header = encoder.encodeToString(
+        "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    String payload = encoder.encodeToString(("{\"userEmail\":\"" + EMAIL + "\",\"userRole\":\""
+        + role + "\",\"exp\":" + expiration + "}").getBytes(StandardCharsets.UTF_8));
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    byte[] signature = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+    return header + "." + payload + "." + encoder.encodeToString(signature);
+  }
+}
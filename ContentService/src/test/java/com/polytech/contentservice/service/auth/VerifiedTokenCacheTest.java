@@ -0,0 +1,99 @@
+package com.polytech.contentservice.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.config.AuthTokenCacheProperty;
+import com.polytech.contentservice.exception.UnauthorisedException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+  private static final Instant NOW = Instant.parse("2024-12-01T10:00:00Z");
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void testGet_ValidTokenIsLoadedOnce() {
+    VerifiedTokenCache cache = createCache(true, Duration.ofMinutes(1));
+    Function<String, VerifiedToken> loader = countingLoader(NOW.plusSeconds(3600));
+
+    VerifiedToken first = cache.get("token", loader);
+    VerifiedToken second = cache.get("token", loader);
+
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void testGet_ExpiredTokenIsNotCached() {
+    VerifiedTokenCache cache = createCache(true, Duration.ofMinutes(1));
+    Function<String, VerifiedToken> loader = countingLoader(NOW.minusSeconds(1));
+
+    cache.get("token", loader);
+    cache.get("token", loader);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGet_TokenWithoutExpirationIsNotCached() {
+    VerifiedTokenCache cache = createCache(true, Duration.ofMinutes(1));
+    Function<String, VerifiedToken> loader = countingLoader(null);
+
+    cache.get("token", loader);
+    cache.get("token", loader);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGet_Disabled() {
+    VerifiedTokenCache cache = createCache(false, Duration.ofMinutes(1));
+    Function<String, VerifiedToken> loader = countingLoader(NOW.plusSeconds(3600));
+
+    cache.get("token", loader);
+    cache.get("token", loader);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGet_FailedValidationIsNotCached() {
+    VerifiedTokenCache cache = createCache(true, Duration.ofMinutes(1));
+    Function<String, VerifiedToken> loader = token -> {
+      loads.incrementAndGet();
+      throw new UnauthorisedException("Token is not valid");
+    };
+
+    assertThrows(UnauthorisedException.class, () -> cache.get("token", loader));
+    assertThrows(UnauthorisedException.class, () -> cache.get("token", loader));
+
+    assertEquals(2, loads.get());
+  }
+
+  private VerifiedTokenCache createCache(boolean enabled, Duration maxTtl) {
+    return new VerifiedTokenCache(new AuthTokenCacheProperty(enabled, 100, maxTtl), CLOCK);
+  }
+
+  private Function<String, VerifiedToken> countingLoader(Instant expiresAt) {
+    return token -> {
+      loads.incrementAndGet();
+      return VerifiedToken.builder()
+          .email("john@example.com")
+          .role(Role.USER)
+          .expiresAt(expiresAt)
+          .build();
+    };
+  }
+}
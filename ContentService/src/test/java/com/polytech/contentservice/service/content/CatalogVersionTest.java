@@ -0,0 +1,47 @@
+package com.polytech.contentservice.service.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CatalogVersionTest {
+  @Test
+  void testOf_WeakEtagAndLastModified() {
+    LocalDateTime updatedDate = LocalDateTime.of(2024, 11, 3, 12, 0, 0, 123_456_000);
+
+    CatalogVersion version = CatalogVersion.of(updatedDate);
+
+    assertTrue(version.etag().startsWith("W/\""));
+    assertTrue(version.etag().endsWith("\""));
+    assertEquals(updatedDate.atZone(ZoneId.systemDefault()).toInstant(), version.lastModified());
+  }
+
+  @Test
+  void testOf_MicrosecondChangeChangesEtag() {
+    LocalDateTime updatedDate = LocalDateTime.of(2024, 11, 3, 12, 0, 0, 123_456_000);
+
+    assertNotEquals(CatalogVersion.of(updatedDate).etag(),
+        CatalogVersion.of(updatedDate.plusNanos(1_000)).etag());
+  }
+
+  @Test
+  void testOfParts_DependsOnOrderAndBoundaries() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+
+    assertEquals(CatalogVersion.ofParts(List.of(first, second)),
+        CatalogVersion.ofParts(List.of(first, second)));
+    assertNotEquals(CatalogVersion.ofParts(List.of(first, second)).etag(),
+        CatalogVersion.ofParts(List.of(second, first)).etag());
+    assertNotEquals(CatalogVersion.ofParts(List.of("ab", "c")).etag(),
+        CatalogVersion.ofParts(List.of("a", "bc")).etag());
+    assertNull(CatalogVersion.ofParts(List.of(first)).lastModified());
+  }
+}
@@ -0,0 +1,115 @@
+package com.polytech.contentservice.service.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.polytech.contentservice.config.ContentCatalogCacheProperty;
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.episode.EpisodeDto;
+import com.polytech.contentservice.exception.NotFoundException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ContentCatalogCacheTest {
+  private UUID contentId;
+  private ContentDto contentDto;
+  private AtomicInteger loads;
+  private Function<UUID, ContentDto> loader;
+
+  @BeforeEach
+  void setUp() {
+    contentId = UUID.randomUUID();
+    contentDto = ContentDto.builder()
+        .id(contentId)
+        .title("Test Content")
+        .build();
+    loads = new AtomicInteger();
+    loader = id -> {
+      loads.incrementAndGet();
+      return contentDto;
+    };
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void testGetContent_LoadsOnce() {
+    ContentCatalogCache cache = createCache(true);
+
+    assertSame(contentDto, cache.getContent(contentId, loader));
+    assertSame(contentDto, cache.getContent(contentId, loader));
+
+    assertEquals(1, loads.get());
+    assertEquals(0.5, cache.contentStats().hitRate());
+  }
+
+  @Test
+  void testGetContent_Disabled() {
+    ContentCatalogCache cache = createCache(false);
+
+    cache.getContent(contentId, loader);
+    cache.getContent(contentId, loader);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGetContent_ErrorIsNotCached() {
+    ContentCatalogCache cache = createCache(true);
+
+    assertThrows(NotFoundException.class, () -> cache.getContent(contentId, id -> {
+      throw new NotFoundException("Content not found");
+    }));
+    cache.getContent(contentId, loader);
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testEvictContent_AlsoEvictsEpisodes() {
+    ContentCatalogCache cache = createCache(true);
+    cache.getContent(contentId, loader);
+    cache.getEpisodes(contentId, id -> Set.of(EpisodeDto.builder().id(UUID.randomUUID()).build()));
+
+    cache.evictContent(contentId);
+
+    cache.getContent(contentId, loader);
+    assertEquals(2, loads.get());
+    assertEquals(Set.of(), cache.getEpisodes(contentId, id -> Set.of()));
+  }
+
+  @Test
+  void testEvictEpisodes_RepeatedAfterTransactionCompletion() {
+    ContentCatalogCache cache = createCache(true);
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.evictEpisodes(List.of(contentId));
+    // параллельное чтение успело положить в кэш ещё не закоммиченное состояние
+    cache.getEpisodes(contentId, id -> Set.of(EpisodeDto.builder().id(UUID.randomUUID()).build()));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(synchronization -> synchronization.afterCompletion(
+            TransactionSynchronization.STATUS_COMMITTED));
+
+    assertEquals(Set.of(), cache.getEpisodes(contentId, id -> Set.of()));
+  }
+
+  private ContentCatalogCache createCache(boolean enabled) {
+    return new ContentCatalogCache(
+        new ContentCatalogCacheProperty(enabled, 100, Duration.ofMinutes(1)));
+  }
+}
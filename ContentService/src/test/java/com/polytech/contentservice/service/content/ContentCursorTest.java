@@ -0,0 +1,34 @@
+package com.polytech.contentservice.service.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.polytech.contentservice.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ContentCursorTest {
+  @Test
+  void testEncodeDecode() {
+    ContentCursor cursor = new ContentCursor(LocalDateTime.of(2024, 10, 1, 12, 0, 0, 123_456_000),
+        UUID.randomUUID());
+
+    assertEquals(cursor, ContentCursor.decode(cursor.encode()));
+  }
+
+  @Test
+  void testDecode_NotBase64() {
+    assertThrows(BadRequestException.class, () -> ContentCursor.decode("not a cursor"));
+  }
+
+  @Test
+  void testDecode_InvalidContent() {
+    String cursor = Base64.getUrlEncoder()
+        .encodeToString("2024-10-01T12:00|not-uuid".getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(BadRequestException.class, () -> ContentCursor.decode(cursor));
+  }
+}
@@ -0,0 +1,97 @@
+package com.polytech.contentservice.service.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.config.ContentFacetProperty;
+import com.polytech.contentservice.dto.content.ContentFacetsDto;
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.repository.ContentFacetCount;
+import com.polytech.contentservice.repository.ContentFacetRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContentFacetServiceImplTest {
+  @Mock
+  private ContentFacetRepository contentFacetRepository;
+
+  private ContentFacetServiceImpl contentFacetService;
+
+  @BeforeEach
+  void setUp() {
+    contentFacetService = new ContentFacetServiceImpl(contentFacetRepository,
+        new ContentFacetProperty(Duration.ofMinutes(1)));
+  }
+
+  @Test
+  void testCountFacets_WithoutFilters() {
+    stubFacets();
+
+    ContentFacetsDto facets = contentFacetService.countFacets(ContentSearchDto.builder().build())
+        .orElseThrow();
+
+    assertEquals(Map.of(Genre.DRAMA, 5L, Genre.BLOCKBUSTER, 6L), facets.genres());
+    assertEquals(Map.of(AgeRestriction.SIXTEEN_PLUS, 9L, AgeRestriction.EIGHTEEN_PLUS, 2L),
+        facets.ageRestrictions());
+    assertEquals(List.of(2021, 2020), List.copyOf(facets.years().keySet()));
+    assertEquals(7L, facets.years().get(2021));
+  }
+
+  @Test
+  void testCountFacets_OtherFiltersApplied() {
+    stubFacets();
+
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .genre(Genre.DRAMA)
+        .year(2021)
+        .build();
+
+    ContentFacetsDto facets = contentFacetService.countFacets(filter).orElseThrow();
+
+    // Жанр не ограничивает счётчики жанров, но учитывается для остальных фильтров
+    assertEquals(Map.of(Genre.DRAMA, 2L, Genre.BLOCKBUSTER, 5L), facets.genres());
+    assertEquals(Map.of(AgeRestriction.EIGHTEEN_PLUS, 2L), facets.ageRestrictions());
+    assertEquals(Map.of(2020, 3L, 2021, 2L), facets.years());
+  }
+
+  @Test
+  void testCountFacets_TextSearch() {
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .title("Баки")
+        .build();
+
+    assertTrue(contentFacetService.countFacets(filter).isEmpty());
+    verify(contentFacetRepository, never()).findAll();
+  }
+
+  @Test
+  void testCountFacets_SnapshotIsReused() {
+    stubFacets();
+
+    contentFacetService.countFacets(ContentSearchDto.builder().build());
+    contentFacetService.countFacets(ContentSearchDto.builder().genre(Genre.DRAMA).build());
+
+    verify(contentFacetRepository, times(1)).findAll();
+  }
+
+  private void stubFacets() {
+    when(contentFacetRepository.findAll()).thenReturn(List.of(
+        new ContentFacetCount(Genre.DRAMA, AgeRestriction.SIXTEEN_PLUS, 2020, 3),
+        new ContentFacetCount(Genre.DRAMA, AgeRestriction.EIGHTEEN_PLUS, 2021, 2),
+        new ContentFacetCount(Genre.BLOCKBUSTER, AgeRestriction.SIXTEEN_PLUS, 2021, 5),
+        new ContentFacetCount(Genre.BLOCKBUSTER, AgeRestriction.SIXTEEN_PLUS, null, 1)));
+  }
+}
@@ -0,0 +1,90 @@
+package com.polytech.contentservice.service.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.config.ContentServiceConfiguration;
+import com.polytech.contentservice.dto.content.ContentImportResultDto;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import com.polytech.contentservice.repository.ContentBatchRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Пропускная способность массовой загрузки на ста тысячах фильмов и сериалов.
+ * Запускается только явно: {@code ./gradlew test --tests '*ContentImportBenchmarkTest' -Dbenchmark=true}.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ContentImportServiceImpl.class, ContentBatchRepository.class, ContentMapper.class,
+    CastMemberMapper.class, EpisodeMapper.class, ContentServiceConfiguration.class})
+class ContentImportBenchmarkTest extends PostgresContainerTest {
+  private static final Logger LOG = LoggerFactory.getLogger(ContentImportBenchmarkTest.class);
+  private static final int CONTENT_AMOUNT = 100_000;
+  private static final int EPISODES_PER_CONTENT = 3;
+
+  @Autowired
+  private ContentImportService contentImportService;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("truncate table content cascade");
+  }
+
+  @Test
+  void importHundredThousandContents() {
+    byte[] body = ndjson().getBytes(StandardCharsets.UTF_8);
+
+    long start = System.nanoTime();
+    ContentImportResultDto result = contentImportService.importContents(new ByteArrayInputStream(body));
+    long millis = (System.nanoTime() - start) / 1_000_000;
+
+    assertEquals(CONTENT_AMOUNT, result.imported());
+    LOG.info("Imported {} contents with {} episodes each in {} ms: {} items/s",
+        CONTENT_AMOUNT, EPISODES_PER_CONTENT, millis, CONTENT_AMOUNT * 1_000L / Math.max(millis, 1));
+  }
+
+  private static String ndjson() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < CONTENT_AMOUNT; i++) {
+      builder.append("{\"content\":{\"title\":\"Фильм ").append(i)
+          .append("\",\"quality\":\"P1080\",\"genre\":\"DRAMA\",\"category\":\"SERIES\",")
+          .append("\"age_restriction\":\"SIXTEEN_PLUS\",\"year\":").append(1950 + i % 75)
+          .append(",\"description\":\"Описание фильма номер ").append(i)
+          .append("\",\"publisher\":\"Студия ").append(i % 100)
+          .append("\",\"cast_members\":[{\"role_name\":\"Режиссёр\",\"employee_full_name\":\"Режиссёр ")
+          .append(i % 1000).append("\"}]},\"episodes\":[");
+      for (int episode = 1; episode <= EPISODES_PER_CONTENT; episode++) {
+        if (episode > 1) {
+          builder.append(',');
+        }
+        builder.append("{\"title\":\"Серия ").append(episode)
+            .append("\",\"episode_num\":").append(episode)
+            .append(",\"season_num\":1}");
+      }
+      builder.append("]}\n");
+    }
+    return builder.toString();
+  }
+}
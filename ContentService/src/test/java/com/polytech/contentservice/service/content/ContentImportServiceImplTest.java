@@ -0,0 +1,143 @@
+package com.polytech.contentservice.service.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polytech.contentservice.common.EpisodeStatus;
+import com.polytech.contentservice.config.ContentImportProperty;
+import com.polytech.contentservice.dto.content.ContentImportResultDto;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import com.polytech.contentservice.repository.ContentBatchRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ContentImportServiceImplTest {
+  private static final String VALID_LINE = """
+      {"content":{"title":"Баки","quality":"P1080","genre":"DRAMA","category":"SERIES",\
+      "age_restriction":"EIGHTEEN_PLUS","cast_members":[{"role_name":"Актёр",\
+      "employee_full_name":"Иван Иванов"}]},"episodes":[{"title":"Пилот","episode_num":1,\
+      "season_num":1}]}""";
+
+  @Mock
+  private ContentBatchRepository contentBatchRepository;
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ContentImportServiceImpl contentImportService;
+
+  @BeforeEach
+  void setUp() {
+    contentImportService = new ContentImportServiceImpl(
+        contentBatchRepository,
+        new ContentMapper(new CastMemberMapper()),
+        new EpisodeMapper(),
+        new TransactionTemplate(transactionManager),
+        new ObjectMapper(),
+        new ContentImportProperty(2, 10));
+  }
+
+  @Test
+  void testImportContents_WritesInBatches() {
+    List<Integer> batchSizes = new ArrayList<>();
+    doAnswer(invocation -> batchSizes.add(invocation.<Collection<Content>>getArgument(0).size()))
+        .when(contentBatchRepository).insertAll(any());
+
+    ContentImportResultDto result = importLines(VALID_LINE, VALID_LINE, "", VALID_LINE);
+
+    assertEquals(3, result.imported());
+    assertEquals(0, result.failed());
+    assertEquals(List.of(2, 1), batchSizes);
+  }
+
+  @Test
+  void testImportContents_AssignsIdsAndEpisodeStatus() {
+    importLines(VALID_LINE);
+
+    verify(contentBatchRepository).insertAll(argThat(contents -> {
+      Content content = contents.iterator().next();
+      return content.getId() != null
+          && content.getCastMembers().iterator().next().getId() != null
+          && content.getEpisodes().iterator().next().getId() != null
+          && content.getEpisodes().iterator().next().getStatus() == EpisodeStatus.NOT_UPLOADED;
+    }));
+  }
+
+  @Test
+  void testImportContents_ReportsInvalidLines() {
+    ContentImportResultDto result = importLines(
+        VALID_LINE,
+        "{not json",
+        "{\"content\":{\"quality\":\"P1080\"}}",
+        "{\"content\":{\"title\":\"Баки\",\"quality\":\"P1080\",\"genre\":\"DRAMA\","
+            + "\"category\":\"SERIES\",\"age_restriction\":\"EIGHTEEN_PLUS\"},"
+            + "\"episodes\":[{\"title\":\"1\",\"episode_num\":1,\"season_num\":1},"
+            + "{\"title\":\"2\",\"episode_num\":1,\"season_num\":1}]}");
+
+    assertEquals(1, result.imported());
+    assertEquals(3, result.failed());
+    assertEquals(List.of(2L, 3L, 4L), result.errors().stream().map(e -> e.line()).toList());
+    assertEquals("Title is required", result.errors().get(1).message());
+    assertTrue(result.errors().get(2).message().startsWith("Duplicate episode"));
+  }
+
+  @Test
+  void testImportContents_FailedBatchIsRetriedLineByLine() {
+    doAnswer(invocation -> {
+      Collection<Content> contents = invocation.getArgument(0);
+      if (contents.size() > 1 || contents.iterator().next().getTitle().equals("Плохой")) {
+        throw new DataIntegrityViolationException("duplicate key");
+      }
+      return null;
+    }).when(contentBatchRepository).insertAll(any());
+
+    ContentImportResultDto result =
+        importLines(VALID_LINE, VALID_LINE.replace("Баки", "Плохой"));
+
+    assertEquals(1, result.imported());
+    assertEquals(1, result.failed());
+    assertEquals(2L, result.errors().getFirst().line());
+    verify(contentBatchRepository, times(3)).insertAll(any());
+  }
+
+  @Test
+  void testImportContents_ErrorsAreCapped() {
+    contentImportService = new ContentImportServiceImpl(
+        contentBatchRepository,
+        new ContentMapper(new CastMemberMapper()),
+        new EpisodeMapper(),
+        new TransactionTemplate(transactionManager),
+        new ObjectMapper(),
+        new ContentImportProperty(2, 1));
+
+    ContentImportResultDto result = importLines("{", "{", "{");
+
+    assertEquals(3, result.failed());
+    assertEquals(1, result.errors().size());
+  }
+
+  private ContentImportResultDto importLines(String... lines) {
+    byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+    return contentImportService.importContents(new ByteArrayInputStream(body));
+  }
+}
@@ -0,0 +1,90 @@
+package com.polytech.contentservice.service.content;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.ContentSearchMode;
+import com.polytech.contentservice.config.ContentServiceConfiguration;
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Сравнение поиска подстроки в названии и полнотекстового поиска на каталоге из миллиона записей.
+ * Запускается только явно: {@code ./gradlew test --tests '*ContentSearchBenchmarkTest' -Dbenchmark=true}.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Import({ContentServiceImpl.class, ContentMapper.class, CastMemberMapper.class, EpisodeMapper.class,
+    ContentCatalogCache.class, ContentServiceConfiguration.class})
+class ContentSearchBenchmarkTest extends PostgresContainerTest {
+  private static final Logger LOG = LoggerFactory.getLogger(ContentSearchBenchmarkTest.class);
+  private static final int CONTENT_AMOUNT = 1_000_000;
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int MEASURED_ITERATIONS = 20;
+  private static final String QUERY = "приключения";
+
+  @Autowired
+  private ContentService contentService;
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager.createNativeQuery("""
+            insert into content (title, quality, genre, category, age_restriction, description, publisher, year)
+            select (array ['Приключения', 'Тайна', 'Возвращение', 'Легенда', 'Хроники', 'Путешествие'])[1 + i % 6]
+                       || ' ' || (array ['героя', 'острова', 'короля', 'города', 'дракона'])[1 + i % 5] || ' ' || i,
+                   '1080P', 'DRAMA', 'MOVIE', '16+',
+                   'Описание фильма номер ' || i,
+                   'Студия ' || i % 100,
+                   1950 + i % 75
+            from generate_series(1, :amount) as i
+            """)
+        .setParameter("amount", CONTENT_AMOUNT)
+        .executeUpdate();
+    entityManager.createNativeQuery("analyze content").executeUpdate();
+  }
+
+  @Test
+  void compareContainsAndFullTextSearch() {
+    long containsMicros = measure(ContentSearchMode.CONTAINS);
+    long fullTextMicros = measure(ContentSearchMode.FULL_TEXT);
+
+    LOG.info("Search '{}' over {} rows, median of {} runs: CONTAINS {} us, FULL_TEXT {} us",
+        QUERY, CONTENT_AMOUNT, MEASURED_ITERATIONS, containsMicros, fullTextMicros);
+  }
+
+  private long measure(ContentSearchMode searchMode) {
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .title(QUERY)
+        .searchMode(searchMode)
+        .pageNumber(0)
+        .pageSize(20)
+        .build();
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      contentService.getAllContentsByFilter(filter);
+      entityManager.clear();
+    }
+    long[] durations = new long[MEASURED_ITERATIONS];
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      long start = System.nanoTime();
+      contentService.getAllContentsByFilter(filter);
+      durations[i] = (System.nanoTime() - start) / 1_000;
+      entityManager.clear();
+    }
+    Arrays.sort(durations);
+    return durations[MEASURED_ITERATIONS / 2];
+  }
+}
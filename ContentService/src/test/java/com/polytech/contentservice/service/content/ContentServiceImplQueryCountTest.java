@@ -0,0 +1,153 @@
+package com.polytech.contentservice.service.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.config.ContentServiceConfiguration;
+import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.dto.page.CursorPageDto;
+import com.polytech.contentservice.entity.CastMember;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.mapper.EpisodeMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ContentServiceImpl.class, ContentMapper.class, CastMemberMapper.class, EpisodeMapper.class,
+    ContentCatalogCache.class, ContentServiceConfiguration.class})
+class ContentServiceImplQueryCountTest extends PostgresContainerTest {
+  private static final int CONTENT_AMOUNT = 25;
+  private static final int CAST_MEMBERS_PER_CONTENT = 3;
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired
+  private ContentService contentService;
+  @Autowired
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < CONTENT_AMOUNT; i++) {
+      entityManager.persist(createContent(i));
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void testFindAllContent_StatementsDoNotDependOnPageSize() {
+    List<ContentDto> page = contentService.findAllContent(PageRequest.of(1, PAGE_SIZE));
+
+    assertEquals(PAGE_SIZE, page.size());
+    page.forEach(dto -> assertEquals(CAST_MEMBERS_PER_CONTENT, dto.castMembers().size()));
+    // идентификаторы страницы + контент вместе с членами состава
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testGetAllContentsByFilter_StatementsDoNotDependOnPageSize() {
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .genre(Genre.DRAMA)
+        .pageNumber(0)
+        .pageSize(PAGE_SIZE)
+        .build();
+
+    Page<ContentDto> page = contentService.getAllContentsByFilter(filter);
+
+    assertEquals(PAGE_SIZE, page.getNumberOfElements());
+    assertEquals(CONTENT_AMOUNT, page.getTotalElements());
+    page.forEach(dto -> assertEquals(CAST_MEMBERS_PER_CONTENT, dto.castMembers().size()));
+    // идентификаторы страницы + контент вместе с членами состава + count
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testFindContentPage_WalksAllContentWithoutGapsOrDuplicates() {
+    List<UUID> ids = new ArrayList<>();
+    String cursor = null;
+    do {
+      CursorPageDto<ContentDto> page = contentService.findContentPage(cursor, PAGE_SIZE);
+      page.items().forEach(dto -> ids.add(dto.id()));
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    assertEquals(CONTENT_AMOUNT, ids.size());
+    assertEquals(CONTENT_AMOUNT, Set.copyOf(ids).size());
+  }
+
+  @Test
+  void testFindContentPageByFilter_StatementsDoNotDependOnDepth() {
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .genre(Genre.DRAMA)
+        .pageSize(PAGE_SIZE)
+        .build();
+    CursorPageDto<ContentDto> firstPage = contentService.findContentPageByFilter(filter, null);
+    statistics.clear();
+
+    CursorPageDto<ContentDto> secondPage =
+        contentService.findContentPageByFilter(filter, firstPage.nextCursor());
+
+    assertEquals(PAGE_SIZE, secondPage.items().size());
+    assertNotNull(secondPage.nextCursor());
+    assertNull(secondPage.approximateTotal());
+    // идентификаторы страницы + контент вместе с членами состава, без count
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  private Content createContent(int index) {
+    Content content = Content.builder()
+        .title("Content " + index)
+        .quality(Quality.P1080)
+        .genre(Genre.DRAMA)
+        .category(Category.MOVIE)
+        .ageRestriction(AgeRestriction.SIXTEEN_PLUS)
+        .year(2000 + index)
+        .creationDate(LocalDateTime.now().minusMinutes(index))
+        .updatedDate(LocalDateTime.now())
+        .build();
+    Set<CastMember> castMembers = new HashSet<>();
+    for (int i = 0; i < CAST_MEMBERS_PER_CONTENT; i++) {
+      castMembers.add(CastMember.builder()
+          .content(content)
+          .role("Актёр")
+          .fullName("Actor " + index + "-" + i)
+          .creationDate(LocalDateTime.now())
+          .updateDate(LocalDateTime.now())
+          .build());
+    }
+    content.setCastMembers(castMembers);
+    return content;
+  }
+}
@@ -1,17 +1,31 @@
 package com.polytech.contentservice.service.content;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.polytech.contentservice.common.ContentSearchMode;
+import com.polytech.contentservice.config.ContentCatalogCacheProperty;
 import com.polytech.contentservice.dto.content.ContentDto;
+import com.polytech.contentservice.dto.content.ContentSearchDto;
+import com.polytech.contentservice.dto.content.ContentSuggestionDto;
 import com.polytech.contentservice.dto.episode.EpisodeDto;
 import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.exception.BadRequestException;
 import com.polytech.contentservice.mapper.ContentMapper;
 import com.polytech.contentservice.mapper.EpisodeMapper;
 import com.polytech.contentservice.repository.ContentRepository;
+import com.polytech.contentservice.repository.ContentTitleSuggestion;
+import com.polytech.contentservice.repository.ContentVersion;
+import com.polytech.contentservice.repository.EpisodesVersion;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -22,9 +36,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -36,6 +50,9 @@ class ContentServiceImplTest {
   private ContentMapper contentMapper;
   @Mock
   private EpisodeMapper episodeMapper;
+  @Spy
+  private ContentCatalogCache catalogCache =
+      new ContentCatalogCache(new ContentCatalogCacheProperty(true, 100, Duration.ofMinutes(1)));
   @InjectMocks
   private ContentServiceImpl contentService;
 
@@ -86,6 +103,20 @@ class ContentServiceImplTest {
     verify(contentRepository, times(1)).save(content);
   }
 
+  @Test
+  void testUpdateContent_EvictsCachedContent() {
+    when(contentRepository.findById(contentId)).thenReturn(Optional.of(content));
+    when(contentMapper.convertToContentDto(content)).thenReturn(contentDto);
+    when(contentMapper.patchUpdate(content, contentDto)).thenReturn(content);
+    contentService.findContentById(contentId);
+
+    contentService.updateContent(contentId, contentDto);
+    contentService.findContentById(contentId);
+
+    verify(catalogCache, times(1)).evictContent(contentId);
+    verify(contentMapper, times(2)).convertToContentDto(content);
+  }
+
   @Test
   void testFindAllEpisodesForContent() {
     content.setEpisodes(new HashSet<>());
@@ -103,11 +134,11 @@ class ContentServiceImplTest {
   @Test
   void testFindAllContent() {
     Pageable pageable = PageRequest.of(0, 10);
-    List<Content> contentList = List.of(content);
-    Page<Content> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
 
-    when(contentRepository.findAll(pageable)).thenReturn(contentPage);
-    when(contentMapper.convertToListOfContentDto(contentPage)).thenReturn(List.of(contentDto));
+    when(contentRepository.findPageIds(pageable)).thenReturn(List.of(contentId));
+    when(contentRepository.findAllWithCastMembersByIdIn(List.of(contentId)))
+        .thenReturn(List.of(content));
+    when(contentMapper.convertToContentDto(content)).thenReturn(contentDto);
 
     List<ContentDto> result = contentService.findAllContent(pageable);
 
@@ -115,7 +146,105 @@ class ContentServiceImplTest {
     assertEquals(1, result.size());
     assertEquals(contentDto.id(), result.get(0).id());
 
-    verify(contentRepository, times(1)).findAll(pageable);
+    verify(contentRepository, times(1)).findPageIds(pageable);
+    verify(contentRepository, times(1)).findAllWithCastMembersByIdIn(List.of(contentId));
+  }
+
+  @Test
+  void testFindAllContent_EmptyPage() {
+    Pageable pageable = PageRequest.of(5, 10);
+
+    when(contentRepository.findPageIds(pageable)).thenReturn(List.of());
+
+    List<ContentDto> result = contentService.findAllContent(pageable);
+
+    assertTrue(result.isEmpty());
+    verify(contentRepository, never()).findAllWithCastMembersByIdIn(any());
+  }
+
+  @Test
+  void testFindContentPage_InvalidPageSize() {
+    when(contentRepository.estimateCount()).thenReturn(10L);
+
+    BadRequestException exception = assertThrows(BadRequestException.class,
+        () -> contentService.findContentPage(null, 0));
+
+    assertEquals("Page size must be positive", exception.getMessage());
+  }
+
+  @Test
+  void testFindContentPageByFilter_InvalidCursor() {
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .pageSize(10)
+        .build();
+
+    BadRequestException exception = assertThrows(BadRequestException.class,
+        () -> contentService.findContentPageByFilter(filter, "not a cursor"));
+
+    assertEquals("Invalid cursor", exception.getMessage());
+  }
+
+  @Test
+  void testGetAllContentsByFilter_FullText() {
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .title("первому игроку")
+        .searchMode(ContentSearchMode.FULL_TEXT)
+        .pageNumber(1)
+        .pageSize(10)
+        .build();
+
+    when(contentRepository.findIdsByFullText(filter, 10, 10)).thenReturn(List.of(contentId));
+    when(contentRepository.findAllWithCastMembersByIdIn(List.of(contentId)))
+        .thenReturn(List.of(content));
+    when(contentMapper.convertToContentDto(content)).thenReturn(contentDto);
+    when(contentRepository.countByFullText(filter)).thenReturn(11L);
+
+    Page<ContentDto> result = contentService.getAllContentsByFilter(filter);
+
+    assertEquals(List.of(contentDto), result.getContent());
+    assertEquals(11, result.getTotalElements());
+    verify(contentRepository, times(1)).findIdsByFullText(filter, 10, 10);
+    verify(contentRepository, times(1)).countByFullText(filter);
+  }
+
+  @Test
+  void testFindContentPageByFilter_FullTextNotSupported() {
+    ContentSearchDto filter = ContentSearchDto.builder()
+        .title("первому игроку")
+        .searchMode(ContentSearchMode.FULL_TEXT)
+        .pageSize(10)
+        .build();
+
+    assertThrows(BadRequestException.class,
+        () -> contentService.findContentPageByFilter(filter, null));
+  }
+
+  @Test
+  void testSuggestTitles_EscapesLikePattern() {
+    ContentSuggestionDto suggestion = ContentSuggestionDto.builder()
+        .id(contentId)
+        .title("100% Волк")
+        .build();
+    ContentTitleSuggestion projection = mock(ContentTitleSuggestion.class);
+    when(contentRepository.findTitleSuggestions("100\\% в", "100% в", 5))
+        .thenReturn(List.of(projection));
+    when(contentMapper.convertToContentSuggestionDto(projection)).thenReturn(suggestion);
+
+    List<ContentSuggestionDto> result = contentService.suggestTitles(" 100% В ", 5);
+
+    assertEquals(List.of(suggestion), result);
+  }
+
+  @Test
+  void testSuggestTitles_BlankQuery() {
+    assertTrue(contentService.suggestTitles("  ", 5).isEmpty());
+    verify(contentRepository, never()).findTitleSuggestions(any(), any(), anyInt());
+  }
+
+  @Test
+  void testSuggestTitles_InvalidLimit() {
+    assertThrows(BadRequestException.class, () -> contentService.suggestTitles("волк", 0));
+    assertThrows(BadRequestException.class, () -> contentService.suggestTitles("волк", 51));
   }
 
   @Test
@@ -132,6 +261,30 @@ class ContentServiceImplTest {
     verify(contentMapper, times(1)).convertToContentDto(content);
   }
 
+  @Test
+  void testFindContentById_Cached() {
+    when(contentRepository.findById(contentId)).thenReturn(Optional.of(content));
+    when(contentMapper.convertToContentDto(content)).thenReturn(contentDto);
+
+    contentService.findContentById(contentId);
+    ContentDto result = contentService.findContentById(contentId);
+
+    assertEquals(contentDto, result);
+    verify(contentRepository, times(1)).findById(contentId);
+    assertEquals(1, catalogCache.contentStats().hitCount());
+  }
+
+  @Test
+  void testFindAllEpisodesForContent_Cached() {
+    content.setEpisodes(new HashSet<>());
+    when(contentRepository.findById(contentId)).thenReturn(Optional.of(content));
+
+    contentService.findAllEpisodesForContent(contentId);
+    contentService.findAllEpisodesForContent(contentId);
+
+    verify(contentRepository, times(1)).findById(contentId);
+  }
+
   @Test
   void testDeleteById() {
     when(contentRepository.findById(contentId)).thenReturn(Optional.of(content));
@@ -141,5 +294,63 @@ class ContentServiceImplTest {
 
     verify(contentRepository, times(1)).findById(contentId);
     verify(contentRepository, times(1)).deleteById(contentId);
+    verify(catalogCache, times(1)).evictContent(contentId);
+  }
+
+  @Test
+  void testFindContentVersion() {
+    LocalDateTime updatedDate = LocalDateTime.of(2024, 11, 3, 12, 0);
+    when(contentRepository.findUpdatedDateById(contentId)).thenReturn(Optional.of(updatedDate));
+
+    CatalogVersion version = contentService.findContentVersion(contentId).orElseThrow();
+
+    assertEquals(CatalogVersion.of(updatedDate), version);
+    assertNotNull(version.lastModified());
+    verify(contentRepository, never()).findById(any());
+  }
+
+  @Test
+  void testFindContentPageVersion_ChangesWithUpdatedDate() {
+    Pageable pageable = PageRequest.of(0, 10);
+    ContentVersion before = contentVersion(LocalDateTime.of(2024, 11, 3, 12, 0));
+    ContentVersion after = contentVersion(LocalDateTime.of(2024, 11, 3, 12, 1));
+
+    when(contentRepository.findPageVersions(pageable))
+        .thenReturn(List.of(before))
+        .thenReturn(List.of(after));
+
+    CatalogVersion first = contentService.findContentPageVersion(pageable).orElseThrow();
+    CatalogVersion second = contentService.findContentPageVersion(pageable).orElseThrow();
+
+    assertNotEquals(first.etag(), second.etag());
+    assertNull(first.lastModified());
+  }
+
+  @Test
+  void testFindContentPageVersion_EmptyPage() {
+    Pageable pageable = PageRequest.of(5, 10);
+    when(contentRepository.findPageVersions(pageable)).thenReturn(List.of());
+
+    assertTrue(contentService.findContentPageVersion(pageable).isEmpty());
+  }
+
+  @Test
+  void testFindEpisodesVersion_WithoutEpisodes() {
+    EpisodesVersion episodesVersion = mock(EpisodesVersion.class);
+    when(episodesVersion.getContentUpdatedDate()).thenReturn(LocalDateTime.of(2024, 11, 3, 12, 0));
+    when(episodesVersion.getEpisodeCount()).thenReturn(0L);
+    when(contentRepository.findEpisodesVersion(contentId)).thenReturn(Optional.of(episodesVersion));
+
+    Optional<CatalogVersion> version = contentService.findEpisodesVersion(contentId);
+
+    assertTrue(version.isPresent());
+    assertTrue(version.get().etag().startsWith("W/\""));
+  }
+
+  private ContentVersion contentVersion(LocalDateTime updatedDate) {
+    ContentVersion version = mock(ContentVersion.class);
+    when(version.getId()).thenReturn(contentId);
+    when(version.getUpdatedDate()).thenReturn(updatedDate);
+    return version;
   }
 }
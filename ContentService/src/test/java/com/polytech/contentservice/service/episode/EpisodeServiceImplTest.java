@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.polytech.contentservice.common.EpisodeStatus;
+import com.polytech.contentservice.config.ContentCatalogCacheProperty;
 import com.polytech.contentservice.dto.episode.EpisodeDto;
 import com.polytech.contentservice.entity.Content;
 import com.polytech.contentservice.entity.Episode;
@@ -16,13 +17,19 @@ import com.polytech.contentservice.exception.NotFoundException;
 import com.polytech.contentservice.mapper.EpisodeMapper;
 import com.polytech.contentservice.repository.ContentRepository;
 import com.polytech.contentservice.repository.EpisodeRepository;
+import com.polytech.contentservice.service.content.ContentCatalogCache;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +40,9 @@ class EpisodeServiceImplTest {
   private ContentRepository contentRepository;
   @Mock
   private EpisodeMapper episodeMapper;
+  @Spy
+  private ContentCatalogCache catalogCache =
+      new ContentCatalogCache(new ContentCatalogCacheProperty(true, 100, Duration.ofMinutes(1)));
   @InjectMocks
   private EpisodeServiceImpl episodeService;
 
@@ -67,6 +77,7 @@ class EpisodeServiceImplTest {
     verify(contentRepository, times(1)).findById(contentId);
     verify(episodeRepository, times(1)).save(episode);
     verify(episodeMapper, times(1)).convertToEpisodeDto(episode);
+    verify(catalogCache, times(1)).evictEpisodes(Set.of(contentId));
   }
 
   @Test
@@ -93,6 +104,7 @@ class EpisodeServiceImplTest {
     verify(episodeRepository, times(1)).findById(episodeId);
     verify(episodeMapper, times(1)).patchUpdate(episode, episodeDto);
     verify(episodeRepository, times(1)).save(episode);
+    verify(catalogCache, times(1)).evictEpisodes(Set.of(contentId));
   }
 
   @Test
@@ -108,6 +120,22 @@ class EpisodeServiceImplTest {
     verifyNoMoreInteractions(episodeRepository);
   }
 
+  @Test
+  void testUpdateEpisodesInfo() {
+    UUID missingEpisodeId = UUID.randomUUID();
+    Map<UUID, EpisodeDto> updates = Map.of(episodeId, episodeDto, missingEpisodeId, episodeDto);
+    when(episodeRepository.findAllById(updates.keySet())).thenReturn(List.of(episode));
+    when(episodeMapper.patchUpdate(episode, episodeDto)).thenReturn(episode);
+
+    Set<UUID> notFoundEpisodes = episodeService.updateEpisodesInfo(updates);
+
+    assertEquals(Set.of(missingEpisodeId), notFoundEpisodes);
+    verify(episodeRepository, times(1)).findAllById(updates.keySet());
+    verify(episodeRepository, times(1)).saveAll(List.of(episode));
+    verify(catalogCache, times(1)).evictEpisodes(Set.of(contentId));
+    verifyNoMoreInteractions(episodeRepository);
+  }
+
   @Test
   void testGetEpisodeById() {
     when(episodeRepository.findById(episodeId)).thenReturn(Optional.of(episode));
@@ -143,6 +171,7 @@ class EpisodeServiceImplTest {
 
     verify(episodeRepository, times(1)).findById(episodeId);
     verify(episodeRepository, times(1)).deleteById(episodeId);
+    verify(catalogCache, times(1)).evictEpisodes(Set.of(contentId));
   }
 
   @Test
@@ -0,0 +1,119 @@
+package com.polytech.contentservice.service.personallist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.dto.personallist.PersonalListDto;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.User;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import com.polytech.contentservice.repository.ContentRepository;
+import com.polytech.contentservice.repository.PersonalListRepository;
+import com.polytech.contentservice.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Одновременное добавление в персональный лист. Каждый вызов идёт в своей транзакции.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PersonalListServiceImpl.class, ContentMapper.class, CastMemberMapper.class})
+class PersonalListServiceImplConcurrencyTest extends PostgresContainerTest {
+  private static final int CONCURRENT_ADDS = 8;
+
+  @Autowired
+  private PersonalListService personalListService;
+  @Autowired
+  private PersonalListRepository personalListRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private ContentRepository contentRepository;
+
+  private User user;
+  private Content content;
+
+  @BeforeEach
+  void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    user = userRepository.save(User.builder()
+        .login("double-click")
+        .email("double-click@mail.ru")
+        .passwordHash("hash")
+        .passwordSalt("salt")
+        .role(Role.USER)
+        .creationDate(now)
+        .updateDate(now)
+        .build());
+    content = contentRepository.save(Content.builder()
+        .title("Фильм")
+        .quality(Quality.P1080)
+        .genre(Genre.DRAMA)
+        .category(Category.MOVIE)
+        .ageRestriction(AgeRestriction.SIXTEEN_PLUS)
+        .year(2020)
+        .creationDate(now)
+        .updatedDate(now)
+        .castMembers(Set.of())
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    personalListRepository.deleteAll();
+    contentRepository.deleteById(content.getId());
+    userRepository.deleteById(user.getId());
+  }
+
+  @Test
+  void testAddFavoriteMovie_ConcurrentAddsKeepOneEntry() throws Exception {
+    PersonalListDto request = PersonalListDto.builder()
+        .userId(user.getId())
+        .contentId(content.getId())
+        .build();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<PersonalListDto>> results = new ArrayList<>();
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_ADDS);
+    try {
+      for (int i = 0; i < CONCURRENT_ADDS; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return personalListService.addFavoriteMovie(request);
+        }));
+      }
+      start.countDown();
+
+      PersonalListDto first = results.getFirst().get(10, TimeUnit.SECONDS);
+      for (Future<PersonalListDto> result : results) {
+        assertEquals(first.personalListId(), result.get(10, TimeUnit.SECONDS).personalListId());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1L, personalListRepository.count());
+  }
+}
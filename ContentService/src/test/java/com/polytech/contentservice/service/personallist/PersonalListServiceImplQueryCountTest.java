@@ -0,0 +1,169 @@
+package com.polytech.contentservice.service.personallist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.polytech.contentservice.PostgresContainerTest;
+import com.polytech.contentservice.common.AgeRestriction;
+import com.polytech.contentservice.common.Category;
+import com.polytech.contentservice.common.Genre;
+import com.polytech.contentservice.common.Quality;
+import com.polytech.contentservice.common.Role;
+import com.polytech.contentservice.dto.page.CursorPageDto;
+import com.polytech.contentservice.dto.personallist.PersonalListItemDto;
+import com.polytech.contentservice.entity.Content;
+import com.polytech.contentservice.entity.PersonalList;
+import com.polytech.contentservice.entity.User;
+import com.polytech.contentservice.exception.NotFoundException;
+import com.polytech.contentservice.mapper.CastMemberMapper;
+import com.polytech.contentservice.mapper.ContentMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersonalListServiceImpl.class, ContentMapper.class, CastMemberMapper.class})
+class PersonalListServiceImplQueryCountTest extends PostgresContainerTest {
+  private static final int FAVORITES_AMOUNT = 25;
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired
+  private PersonalListService personalListService;
+  @Autowired
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+  private UUID userId;
+  private LocalDateTime now;
+
+  @BeforeEach
+  void setUp() {
+    now = LocalDateTime.now();
+    User user = createUser("favorites");
+    User otherUser = createUser("other");
+    entityManager.persist(user);
+    entityManager.persist(otherUser);
+    for (int i = 0; i < FAVORITES_AMOUNT; i++) {
+      Content content = createContent(i);
+      entityManager.persist(content);
+      // Одинаковая дата у соседних записей проверяет разрыв по идентификатору
+      entityManager.persist(createPersonalList(user, content, now.minusMinutes(i / 2)));
+      entityManager.persist(createPersonalList(otherUser, content, now.minusMinutes(i)));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    userId = user.getId();
+
+    statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void testGetFavoriteMoviesPage_SingleStatementPerPage() {
+    CursorPageDto<PersonalListItemDto> page =
+        personalListService.getFavoriteMoviesPage(userId, null, PAGE_SIZE);
+
+    assertEquals(PAGE_SIZE, page.items().size());
+    assertNotNull(page.nextCursor());
+    assertNull(page.approximateTotal());
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testGetFavoriteMoviesPage_WalksListWithoutGapsOrDuplicates() {
+    List<PersonalListItemDto> items = new ArrayList<>();
+    String cursor = null;
+    do {
+      CursorPageDto<PersonalListItemDto> page =
+          personalListService.getFavoriteMoviesPage(userId, cursor, PAGE_SIZE);
+      items.addAll(page.items());
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    assertEquals(FAVORITES_AMOUNT, items.size());
+    assertEquals(FAVORITES_AMOUNT,
+        Set.copyOf(items.stream().map(PersonalListItemDto::contentId).toList()).size());
+    for (int i = 1; i < items.size(); i++) {
+      assertFalse(items.get(i).addedDate().isAfter(items.get(i - 1).addedDate()));
+    }
+  }
+
+  @Test
+  void testFindPersonalListMembership_SingleStatement() {
+    List<UUID> pageIds = personalListService.getFavoriteMoviesPage(userId, null, PAGE_SIZE)
+        .items()
+        .stream()
+        .map(PersonalListItemDto::contentId)
+        .collect(Collectors.toCollection(ArrayList::new));
+    UUID notFavoriteId = UUID.randomUUID();
+    pageIds.add(notFavoriteId);
+    statistics.clear();
+
+    Map<UUID, Boolean> membership = personalListService.findPersonalListMembership(userId, pageIds);
+
+    assertEquals(PAGE_SIZE + 1, membership.size());
+    assertEquals(PAGE_SIZE, membership.values().stream().filter(Boolean::booleanValue).count());
+    assertFalse(membership.get(notFavoriteId));
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testGetFavoriteMoviesPage_UserNotFound() {
+    assertThrows(NotFoundException.class,
+        () -> personalListService.getFavoriteMoviesPage(UUID.randomUUID(), null, PAGE_SIZE));
+  }
+
+  private User createUser(String login) {
+    return User.builder()
+        .login(login)
+        .email(login + "@mail.ru")
+        .passwordHash("hash")
+        .passwordSalt("salt")
+        .role(Role.USER)
+        .creationDate(now)
+        .updateDate(now)
+        .build();
+  }
+
+  private Content createContent(int index) {
+    return Content.builder()
+        .title("Content " + index)
+        .quality(Quality.P1080)
+        .genre(Genre.DRAMA)
+        .category(Category.MOVIE)
+        .ageRestriction(AgeRestriction.SIXTEEN_PLUS)
+        .year(2000 + index)
+        .creationDate(now)
+        .updatedDate(now)
+        .castMembers(Set.of())
+        .build();
+  }
+
+  private static PersonalList createPersonalList(User user, Content content,
+                                                 LocalDateTime creationDate) {
+    return PersonalList.builder()
+        .user(user)
+        .content(content)
+        .creationDate(creationDate)
+        .build();
+  }
+}
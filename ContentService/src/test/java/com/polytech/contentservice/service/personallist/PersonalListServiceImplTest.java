@@ -2,7 +2,9 @@ package com.polytech.contentservice.service.personallist;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -14,6 +16,7 @@ import com.polytech.contentservice.dto.personallist.PersonalListDto;
 import com.polytech.contentservice.entity.Content;
 import com.polytech.contentservice.entity.PersonalList;
 import com.polytech.contentservice.entity.User;
+import com.polytech.contentservice.exception.BadRequestException;
 import com.polytech.contentservice.exception.NotFoundException;
 import com.polytech.contentservice.mapper.ContentMapper;
 import com.polytech.contentservice.repository.ContentRepository;
@@ -21,6 +24,7 @@ import com.polytech.contentservice.repository.PersonalListRepository;
 import com.polytech.contentservice.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -74,7 +78,10 @@ class PersonalListServiceImplTest {
   void testAddFavoriteMovie() {
     when(userRepository.findById(any())).thenReturn(Optional.of(user));
     when(contentRepository.findById(any())).thenReturn(Optional.of(content));
-    when(personalListRepository.save(any(PersonalList.class))).thenReturn(personalList);
+    when(personalListRepository.insertIfAbsent(any(), eq(userId), eq(contentId), any()))
+        .thenReturn(1);
+    when(personalListRepository.findByUserIdAndContentId(userId, contentId))
+        .thenReturn(Optional.of(personalList));
 
     PersonalListDto savedPersonalList = personalListService.addFavoriteMovie(personalListDto);
 
@@ -85,7 +92,23 @@ class PersonalListServiceImplTest {
 
     verify(userRepository, times(1)).findById(any());
     verify(contentRepository, times(1)).findById(any());
-    verify(personalListRepository, times(1)).save(any(PersonalList.class));
+    verify(personalListRepository, times(1))
+        .insertIfAbsent(any(), eq(userId), eq(contentId), any());
+  }
+
+  @Test
+  void testAddFavoriteMovie_AlreadyAdded() {
+    when(userRepository.findById(any())).thenReturn(Optional.of(user));
+    when(contentRepository.findById(any())).thenReturn(Optional.of(content));
+    when(personalListRepository.insertIfAbsent(any(), eq(userId), eq(contentId), any()))
+        .thenReturn(0);
+    when(personalListRepository.findByUserIdAndContentId(userId, contentId))
+        .thenReturn(Optional.of(personalList));
+
+    PersonalListDto savedPersonalList = personalListService.addFavoriteMovie(personalListDto);
+
+    assertEquals(personalListId, savedPersonalList.personalListId());
+    verify(personalListRepository, never()).save(any());
   }
 
   @Test
@@ -174,6 +197,50 @@ class PersonalListServiceImplTest {
     verify(userRepository, times(1)).findById(userId);
   }
 
+  @Test
+  void testFindPersonalListMembership() {
+    UUID otherContentId = UUID.randomUUID();
+    when(personalListRepository.findContentIdsByUserIdAndContentIdIn(userId,
+        Set.of(contentId, otherContentId))).thenReturn(Set.of(contentId));
+
+    Map<UUID, Boolean> membership = personalListService.findPersonalListMembership(userId,
+        List.of(contentId, otherContentId, contentId));
+
+    assertEquals(List.of(contentId, otherContentId), List.copyOf(membership.keySet()));
+    assertTrue(membership.get(contentId));
+    assertFalse(membership.get(otherContentId));
+  }
+
+  @Test
+  void testFindPersonalListMembership_EmptyIds() {
+    assertTrue(personalListService.findPersonalListMembership(userId, List.of()).isEmpty());
+
+    verifyNoMoreInteractions(personalListRepository);
+  }
+
+  @Test
+  void testMarkPersonalListMembership() {
+    UUID otherContentId = UUID.randomUUID();
+    when(personalListRepository.findContentIdsByUserIdAndContentIdIn(any(), any()))
+        .thenReturn(Set.of(contentId));
+
+    List<ContentDto> marked = personalListService.markPersonalListMembership(userId, List.of(
+        ContentDto.builder().id(otherContentId).build(),
+        ContentDto.builder().id(contentId).build()));
+
+    assertEquals(otherContentId, marked.get(0).id());
+    assertFalse(marked.get(0).inPersonalList());
+    assertTrue(marked.get(1).inPersonalList());
+  }
+
+  @Test
+  void testGetFavoriteMoviesPage_InvalidPageSize() {
+    assertThrows(BadRequestException.class,
+        () -> personalListService.getFavoriteMoviesPage(userId, null, 0));
+
+    verifyNoMoreInteractions(userRepository, personalListRepository);
+  }
+
   private PersonalListDto getPersonalListDto() {
     return PersonalListDto.builder()
         .userId(UUID.randomUUID())
@@ -0,0 +1,81 @@
+package com.polytech.contentservice.service.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.polytech.contentservice.config.JfrRecordingProperty;
+import com.polytech.contentservice.dto.profiling.JfrRecordingDto;
+import com.polytech.contentservice.exception.BadRequestException;
+import com.polytech.contentservice.exception.NotFoundException;
+import com.polytech.contentservice.jfr.CacheLookups;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class JfrRecordingServiceImplTest {
+  private final JfrRecordingServiceImpl jfrRecordingService = new JfrRecordingServiceImpl(
+      new JfrRecordingProperty("default", Duration.ofMinutes(1), DataSize.ofMegabytes(16)));
+
+  @TempDir
+  Path directory;
+
+  @AfterEach
+  void tearDown() {
+    jfrRecordingService.close();
+  }
+
+  @Test
+  void testRecording_ContainsCustomEvents() throws Exception {
+    UUID contentId = UUID.randomUUID();
+    Cache<UUID, String> cache = Caffeine.newBuilder().build();
+
+    jfrRecordingService.start(Duration.ofSeconds(30));
+    CacheLookups.get(cache, "content", contentId, contentId.toString(), id -> "Баки");
+    CacheLookups.get(cache, "content", contentId, contentId.toString(), id -> "Баки");
+    JfrRecordingDto stopped = jfrRecordingService.stop();
+
+    Path file = directory.resolve("recording.jfr");
+    try (InputStream data = jfrRecordingService.openRecording()) {
+      Files.copy(data, file);
+    }
+    List<RecordedEvent> lookups = RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName()
+            .equals("com.polytech.contentservice.CacheLookup"))
+        .toList();
+    assertEquals("STOPPED", stopped.state());
+    assertEquals(2, lookups.size());
+    assertEquals(contentId.toString(), lookups.get(0).getString("contentId"));
+    assertFalse(lookups.get(0).getBoolean("hit"));
+    assertTrue(lookups.get(1).getBoolean("hit"));
+  }
+
+  @Test
+  void testStart_RejectsSecondRecordingAndLongDuration() {
+    assertThrows(BadRequestException.class, () -> jfrRecordingService.start(Duration.ofHours(1)));
+
+    jfrRecordingService.start(null);
+
+    assertEquals(Duration.ofMinutes(1), jfrRecordingService.getRecording().duration());
+    assertThrows(BadRequestException.class, () -> jfrRecordingService.start(null));
+    assertThrows(BadRequestException.class, jfrRecordingService::openRecording);
+  }
+
+  @Test
+  void testGetRecording_NotStarted() {
+    assertThrows(NotFoundException.class, jfrRecordingService::getRecording);
+    assertThrows(NotFoundException.class, jfrRecordingService::stop);
+  }
+}
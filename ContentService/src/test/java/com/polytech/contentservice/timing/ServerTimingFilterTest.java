@@ -0,0 +1,72 @@
+package com.polytech.contentservice.timing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+  private final MockHttpServletRequest request =
+      new MockHttpServletRequest("GET", "/v1/contents/1");
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Test
+  void testDoFilter_AddsHeaderAndKeepsBody() throws Exception {
+    FilterChain chain = (req, res) -> {
+      ServerTiming.stop(ServerTimingPhase.AUTH, ServerTiming.start(ServerTimingPhase.AUTH));
+      res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      res.getWriter().write("{}");
+      res.flushBuffer();
+      ServerTiming.stop(ServerTimingPhase.SERIALIZATION,
+          ServerTiming.start(ServerTimingPhase.SERIALIZATION));
+      assertFalse(response.isCommitted());
+    };
+
+    new ServerTimingFilter(new ServerTimingSwitch(true)).doFilter(request, response, chain);
+
+    String header = response.getHeader(ServerTimingFilter.HEADER);
+    assertTrue(header.startsWith("auth;dur="), header);
+    assertTrue(header.contains("json;dur="), header);
+    assertTrue(header.contains("total;dur="), header);
+    assertEquals("{}", response.getContentAsString());
+  }
+
+  @Test
+  void testDoFilter_StreamsJfrDownloadWithoutBuffering() throws Exception {
+    MockHttpServletRequest download = new MockHttpServletRequest("GET", "/v1/profiling/jfr/file");
+    byte[] recording = {1, 2, 3};
+    FilterChain chain = (req, res) -> {
+      ServerTiming.stop(ServerTimingPhase.AUTH, ServerTiming.start(ServerTimingPhase.AUTH));
+      res.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+      res.getOutputStream().write(recording);
+      res.flushBuffer();
+      assertTrue(response.isCommitted());
+      assertArrayEquals(recording, response.getContentAsByteArray());
+    };
+
+    new ServerTimingFilter(new ServerTimingSwitch(true)).doFilter(download, response, chain);
+
+    String header = response.getHeader(ServerTimingFilter.HEADER);
+    assertTrue(header.startsWith("auth;dur="), header);
+    assertArrayEquals(recording, response.getContentAsByteArray());
+  }
+
+  @Test
+  void testDoFilter_SwitchedOffAtRuntime() throws Exception {
+    ServerTimingSwitch timingSwitch = new ServerTimingSwitch(true);
+    ServerTimingFilter filter = new ServerTimingFilter(timingSwitch);
+    timingSwitch.setEnabled(false);
+
+    filter.doFilter(request, response, (req, res) -> res.getWriter().write("{}"));
+
+    assertNull(response.getHeader(ServerTimingFilter.HEADER));
+    assertEquals("{}", response.getContentAsString());
+  }
+}
@@ -0,0 +1,45 @@
+package com.polytech.contentservice.timing;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ServerTimingTest {
+  @AfterEach
+  void tearDown() {
+    ServerTiming.end();
+  }
+
+  @Test
+  void testToHeaderValue_OnlyUsedPhasesAndTotal() {
+    ServerTiming timing = ServerTiming.begin();
+    ServerTiming.stop(ServerTimingPhase.DB, ServerTiming.start(ServerTimingPhase.DB));
+    ServerTiming.stop(ServerTimingPhase.DB, ServerTiming.start(ServerTimingPhase.DB));
+
+    String header = timing.toHeaderValue();
+
+    assertTrue(header.matches("db;dur=\\d+\\.\\d{3};desc=\"2 calls\", total;dur=\\d+\\.\\d{3}"),
+        header);
+  }
+
+  @Test
+  void testStop_NestedCallsOfSamePhaseCountedOnce() {
+    ServerTiming timing = ServerTiming.begin();
+    long outer = ServerTiming.start(ServerTimingPhase.MAPPING);
+    ServerTiming.stop(ServerTimingPhase.MAPPING, ServerTiming.start(ServerTimingPhase.MAPPING));
+    ServerTiming.stop(ServerTimingPhase.MAPPING, outer);
+
+    assertTrue(timing.toHeaderValue().startsWith("mapping;dur="));
+    assertTrue(timing.toHeaderValue().contains("desc=\"1 calls\""));
+  }
+
+  @Test
+  void testStart_WithoutRequestDoesNothing() {
+    ServerTiming.stop(ServerTimingPhase.AUTH, ServerTiming.start(ServerTimingPhase.AUTH));
+    ServerTiming timing = ServerTiming.begin();
+
+    assertFalse(timing.toHeaderValue().contains("auth"));
+  }
+}
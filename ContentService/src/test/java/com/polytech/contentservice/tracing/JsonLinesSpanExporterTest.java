@@ -0,0 +1,58 @@
+package com.polytech.contentservice.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonLinesSpanExporterTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testExport_WritesOneLinePerSpan() throws Exception {
+    Path file = directory.resolve("traces/spans.jsonl");
+    SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+        .addSpanProcessor(SimpleSpanProcessor.create(
+            new JsonLinesSpanExporter(file, objectMapper)))
+        .build();
+    Tracer tracer = tracerProvider.get("test");
+
+    Span parent = tracer.spanBuilder("http put /v1/contents/{id}").startSpan();
+    try (Scope ignored = parent.makeCurrent()) {
+      tracer.spanBuilder("AuthService/ValidateToken")
+          .setAttribute("rpc.method", "ValidateToken")
+          .startSpan()
+          .end();
+    } finally {
+      parent.end();
+    }
+    tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+
+    List<String> lines = Files.readAllLines(file);
+    assertEquals(2, lines.size());
+    JsonNode child = objectMapper.readTree(lines.get(0));
+    JsonNode root = objectMapper.readTree(lines.get(1));
+    assertEquals("AuthService/ValidateToken", child.get("name").asText());
+    assertEquals("ValidateToken", child.get("attributes").get("rpc.method").asText());
+    assertEquals(root.get("trace_id").asText(), child.get("trace_id").asText());
+    assertEquals(root.get("span_id").asText(), child.get("parent_span_id").asText());
+    assertFalse(root.has("parent_span_id"));
+    assertTrue(child.get("duration_us").asLong() >= 0);
+  }
+}